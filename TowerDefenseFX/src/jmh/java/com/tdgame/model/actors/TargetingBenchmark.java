@@ -0,0 +1,91 @@
+package com.tdgame.model.actors;
+
+import com.tdgame.config.Balance;
+import com.tdgame.config.GameConfig;
+import com.tdgame.core.GameContext;
+import com.tdgame.model.grid.BuildSlot;
+import com.tdgame.model.grid.GridMap;
+import com.tdgame.model.systems.EnemyIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Target acquisition by one tower on every build slot of level 1, with
+ * enemies spread evenly along the main path
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TargetingBenchmark {
+
+    @Param({"10", "100", "1000", "10000"})
+    public int enemies;
+
+    @Param({"true", "false"})
+    public boolean indexed;
+
+    private final List<Enemy> spawned = new ArrayList<>();
+    private final List<BenchTower> towers = new ArrayList<>();
+
+    /**
+     * Tower that only exposes target acquisition
+     */
+    static final class BenchTower extends Tower {
+        BenchTower(double range) {
+            super(range, 100, 1.0, 0, 0);
+        }
+
+        Enemy retarget(List<Enemy> candidates) {
+            acquireTarget(candidates);
+            return currentTarget;
+        }
+
+        @Override
+        protected void fire(Enemy target) {
+            // Targeting only
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        GameContext context = new GameContext(3);
+        GameConfig config = GameConfig.load("level1", "normal");
+        GridMap gridMap = new GridMap(config, context.getTileRng());
+        GridMap.Path path = gridMap.getMainPath();
+        Balance.EnemyStats stats = config.getBalance().enemies.soldier;
+
+        EnemyIndex index = new EnemyIndex();
+        double secondsToEnd = path.getTotalLength() / (stats.speed * 64);
+        for (int i = 0; i < enemies; i++) {
+            Soldier soldier = new Soldier(context, stats);
+            soldier.setLane(i % 2);
+            soldier.setPath(path);
+            soldier.update((i + 0.5) / enemies * 0.98 * secondsToEnd);
+            spawned.add(soldier);
+            index.add(soldier);
+        }
+        index.refresh();
+
+        for (BuildSlot slot : gridMap.getBuildSlots()) {
+            BenchTower tower = new BenchTower(config.getBalance().towers.fast.range);
+            tower.setPosition(slot.getWorldX(), slot.getWorldY());
+            if (indexed) tower.setEnemyIndex(index);
+            towers.add(tower);
+        }
+    }
+
+    @Benchmark
+    public int acquireTarget() {
+        int engaged = 0;
+        for (BenchTower tower : towers) {
+            if (tower.retarget(spawned) != null) engaged++;
+        }
+        return engaged;
+    }
+}
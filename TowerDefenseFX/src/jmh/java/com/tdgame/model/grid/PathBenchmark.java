@@ -0,0 +1,44 @@
+package com.tdgame.model.grid;
+
+import com.tdgame.util.Math2D;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Position lookups along a path, the per-enemy cost of every movement step
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PathBenchmark {
+
+    @Param({"8", "64", "512"})
+    public int waypoints;
+
+    private GridMap.Path path;
+    private double progress = 0.0;
+
+    @Setup
+    public void setUp() {
+        // Zig-zag so consecutive segments have different lengths and directions
+        List<Math2D.Point> points = new ArrayList<>();
+        for (int i = 0; i < waypoints; i++) {
+            points.add(new Math2D.Point(i * 64, (i % 2) * 64 * (1 + i % 5)));
+        }
+        path = new GridMap.Path("bench", points);
+    }
+
+    @Benchmark
+    public Math2D.Point getPositionAt() {
+        // Golden-ratio stride visits every part of the path without a pattern
+        progress += 0.6180339887;
+        if (progress >= 1.0) progress -= 1.0;
+        return path.getPositionAt(progress);
+    }
+}
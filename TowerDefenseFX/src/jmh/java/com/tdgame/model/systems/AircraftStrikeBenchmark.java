@@ -0,0 +1,50 @@
+package com.tdgame.model.systems;
+
+import com.tdgame.config.GameConfig;
+import com.tdgame.core.GameContext;
+import com.tdgame.model.actors.AADefense;
+import com.tdgame.model.grid.GridMap;
+import com.tdgame.util.RNG;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Strike planning against a level 1 grid holding a given number of structures
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AircraftStrikeBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int structures;
+
+    private AircraftStrikeSystem strikes;
+
+    @Setup
+    public void setUp() {
+        GameContext context = new GameContext(5);
+        GameConfig config = GameConfig.load("level1", "normal");
+        GridMap gridMap = new GridMap(config, context.getTileRng());
+        CombatSystem combat = new CombatSystem(context, config);
+        strikes = new AircraftStrikeSystem(config, gridMap, combat);
+
+        RNG rng = new RNG(17);
+        double tileSize = config.getTileSize();
+        for (int i = 0; i < structures; i++) {
+            AADefense aa = new AADefense(0.5, 3.0, 100 + rng.nextInt(0, 100), 205, rng);
+            aa.setPosition(rng.nextInt(0, config.getGridCols()) * tileSize + tileSize / 2,
+                           rng.nextInt(0, config.getGridRows()) * tileSize + tileSize / 2);
+            combat.addAADefense(aa);
+        }
+    }
+
+    @Benchmark
+    public Object calculateOptimalStrike() {
+        return strikes.calculateOptimalStrike();
+    }
+}
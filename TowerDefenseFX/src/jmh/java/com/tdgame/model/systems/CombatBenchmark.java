@@ -0,0 +1,84 @@
+package com.tdgame.model.systems;
+
+import com.tdgame.config.Balance;
+import com.tdgame.config.GameConfig;
+import com.tdgame.core.GameContext;
+import com.tdgame.model.actors.ActorPools;
+import com.tdgame.model.actors.Enemy;
+import com.tdgame.model.actors.FastTower;
+import com.tdgame.model.actors.PowerTower;
+import com.tdgame.model.grid.BuildSlot;
+import com.tdgame.model.grid.GridMap;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One combat tick on a synthetic level 1 state: towers on every build slot and
+ * a steady population of soldiers and tanks, topped up after every tick
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class CombatBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    public int enemies;
+
+    private CombatSystem combat;
+    private ActorPools pools;
+    private GridMap.Path path;
+    private Balance.EnemiesConfig stats;
+    private int spawned = 0;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        GameContext context = new GameContext(7);
+        GameConfig config = GameConfig.load("level1", "normal");
+        GridMap gridMap = new GridMap(config, context.getTileRng());
+        Balance balance = config.getBalance();
+
+        combat = new CombatSystem(context, config);
+        pools = combat.getActorPools();
+        path = gridMap.getMainPath();
+        stats = balance.enemies;
+
+        List<BuildSlot> slots = gridMap.getBuildSlots();
+        for (int i = 0; i < slots.size(); i++) {
+            BuildSlot slot = slots.get(i);
+            var tower = i % 2 == 0
+                ? new FastTower(balance.towers.fast, balance.sprites.towers.fast, balance.projectiles.towerShot.speed)
+                : new PowerTower(balance.towers.power, balance.sprites.towers.power, balance.projectiles.towerShot.speed);
+            tower.setPosition(slot.getWorldX(), slot.getWorldY());
+            combat.addTower(tower);
+        }
+
+        // Spread the starting population along the path
+        double secondsToEnd = path.getTotalLength() / (stats.soldier.speed * 64);
+        for (int i = 0; i < enemies; i++) {
+            spawn().update((i + 0.5) / enemies * 0.9 * secondsToEnd);
+        }
+    }
+
+    private Enemy spawn() {
+        int lane = spawned % 2;
+        Enemy enemy = spawned++ % 10 == 9
+            ? pools.obtainTank(stats.tank, path, lane)
+            : pools.obtainSoldier(stats.soldier, path, lane);
+        combat.addEnemy(enemy);
+        return enemy;
+    }
+
+    @Benchmark
+    public int update() {
+        combat.update(1.0 / 60.0);
+        while (combat.getEnemies().size() < enemies) {
+            spawn();
+        }
+        return combat.getProjectiles().size();
+    }
+}
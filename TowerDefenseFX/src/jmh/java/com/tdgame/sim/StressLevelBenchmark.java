@@ -0,0 +1,59 @@
+package com.tdgame.sim;
+
+import com.tdgame.config.GameConfig;
+import com.tdgame.config.LevelData;
+import com.tdgame.config.LevelGenerator;
+import com.tdgame.controller.BuildMenuController;
+import com.tdgame.core.GameContext;
+import com.tdgame.core.Simulation;
+import com.tdgame.model.grid.BuildSlot;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full simulation ticks on a generated stress level with its tower layout
+ * built and the stress wave schedule running
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StressLevelBenchmark {
+
+    @Param({"medium", "large"})
+    public String preset;
+
+    private Simulation simulation;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        LevelGenerator generator = new LevelGenerator(
+            preset.equals("large") ? LevelGenerator.large() : LevelGenerator.medium(), 1);
+        LevelData level = generator.generate("stress-" + preset);
+        GameConfig.registerLevel(level.name, level);
+
+        GameContext context = new GameContext(1);
+        simulation = new Simulation(context, GameConfig.load(level.name, "stress"));
+        BuildMenuController builder = new BuildMenuController(
+            context, simulation.getConfig(), simulation.getEconomyManager(), simulation.getCombatSystem());
+        for (BuildOrder.Step step : BuildOrder.parse(generator.generateLayout(level)).getSteps()) {
+            List<BuildSlot> slots = switch (step.option) {
+                case SPEED_BUMP -> simulation.getGridMap().getSpeedBumpSlots();
+                case BOMB -> simulation.getGridMap().getBombSlots();
+                default -> simulation.getGridMap().getBuildSlots();
+            };
+            builder.place(step.option, slots.get(step.slot));
+        }
+        simulation.start();
+    }
+
+    @Benchmark
+    public int tick() {
+        simulation.tick(1.0 / 60.0);
+        return simulation.getCombatSystem().getEnemies().size();
+    }
+}
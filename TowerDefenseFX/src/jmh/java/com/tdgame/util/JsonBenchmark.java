@@ -0,0 +1,52 @@
+package com.tdgame.util;
+
+import com.tdgame.config.Balance;
+import com.tdgame.config.GameConfig;
+import com.tdgame.config.LevelData;
+import com.tdgame.config.WaveData;
+import com.tdgame.config.WaveGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of the configuration files: the bundled balance and level files,
+ * and generated wave schedules of increasing length
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class JsonBenchmark {
+
+    @Param({"10", "100", "1000"})
+    public int waves;
+
+    private String wavesJson;
+
+    @Setup
+    public void setUp() {
+        WaveGenerator.Settings settings = WaveGenerator.endless();
+        settings.waves = waves;
+        settings.maxBudget = 2_000;
+        Balance.EnemiesConfig enemies = GameConfig.load("level1", "normal").getBalance().enemies;
+        wavesJson = Json.toJson(new WaveGenerator(settings, enemies, 1).generate());
+    }
+
+    @Benchmark
+    public Balance loadBalance() {
+        return Json.loadFromResource("config/balance.json", Balance.class);
+    }
+
+    @Benchmark
+    public LevelData loadLevel() {
+        return Json.loadFromResource("levels/level1.json", LevelData.class);
+    }
+
+    @Benchmark
+    public WaveData parseWaves() {
+        return Json.fromJson(wavesJson, WaveData.class);
+    }
+}
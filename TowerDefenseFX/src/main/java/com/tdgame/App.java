@@ -1,11 +1,17 @@
 package com.tdgame;
 
+import com.tdgame.core.GameContext;
+import com.tdgame.diagnostics.MetricsFileExporter;
+import com.tdgame.diagnostics.MetricsServer;
 import com.tdgame.view.MainMenu;
 import javafx.application.Application;
 import javafx.scene.Scene;
 import javafx.scene.Parent;
 import javafx.stage.Stage;
 
+import java.nio.file.Path;
+import java.util.Map;
+
 /**
  * Main JavaFX Application entry point.
  * Bootstraps the application and manages scene transitions between MainMenu and Game.
@@ -13,6 +19,9 @@ import javafx.stage.Stage;
 public class App extends Application {
     
     private Stage primaryStage;
+    private Long seed; // From --seed=N; null picks a fresh seed per game
+    private MetricsServer metricsServer; // From --metrics-port=N
+    private MetricsFileExporter metricsExporter; // From --metrics-file=path
     private static final String TITLE = "🏰 Tower Defense FX - Elite Edition";
     private static final int WINDOW_WIDTH = 1800;
     private static final int WINDOW_HEIGHT = 1100;
@@ -21,6 +30,16 @@ public class App extends Application {
     public void start(Stage stage) throws Exception {
         this.primaryStage = stage;
         
+        String seedArg = getParameters().getNamed().get("seed");
+        if (seedArg != null) {
+            try {
+                seed = Long.parseLong(seedArg.trim());
+            } catch (NumberFormatException e) {
+                System.err.println("Invalid seed '" + seedArg + "', using a random one");
+            }
+        }
+        startMetrics(getParameters().getNamed());
+        
         primaryStage.setTitle(TITLE);
         primaryStage.setResizable(true);
         primaryStage.setMinWidth(WINDOW_WIDTH);
@@ -36,6 +55,36 @@ public class App extends Application {
         showMainMenu();
     }
     
+    /**
+     * Start the metrics sinks requested on the command line; a sink that fails
+     * to start is reported and skipped rather than stopping the game
+     */
+    private void startMetrics(Map<String, String> named) {
+        String port = named.get("metrics-port");
+        if (port != null) {
+            try {
+                metricsServer = new MetricsServer(Integer.parseInt(port.trim()));
+            } catch (Exception e) {
+                System.err.println("Metrics server not started: " + e.getMessage());
+            }
+        }
+        String file = named.get("metrics-file");
+        if (file != null) {
+            try {
+                long interval = Long.parseLong(named.getOrDefault("metrics-interval", "1000").trim());
+                metricsExporter = new MetricsFileExporter(Path.of(file), interval);
+            } catch (Exception e) {
+                System.err.println("Metrics file export not started: " + e.getMessage());
+            }
+        }
+    }
+    
+    @Override
+    public void stop() throws Exception {
+        if (metricsServer != null) metricsServer.close();
+        if (metricsExporter != null) metricsExporter.close();
+    }
+    
     /**
      * Shows the main menu scene
      */
@@ -57,8 +106,12 @@ public class App extends Application {
      */
     public void startGame(String levelName, String difficulty) {
         try {
-            System.out.println("Starting game with level: " + levelName + ", difficulty: " + difficulty);
-            com.tdgame.core.Game game = new com.tdgame.core.Game(primaryStage, levelName, difficulty);
+            GameContext context = seed != null ? new GameContext(seed) : new GameContext();
+            System.out.println("Starting game with level: " + levelName + ", difficulty: " + difficulty +
+                               ", seed: " + context.getSeed());
+            if (metricsServer != null) metricsServer.setSource(context.getMetrics());
+            if (metricsExporter != null) metricsExporter.setSource(context.getMetrics());
+            com.tdgame.core.Game game = new com.tdgame.core.Game(primaryStage, levelName, difficulty, context);
             game.start();
             System.out.println("Game started successfully!");
         } catch (Exception e) {
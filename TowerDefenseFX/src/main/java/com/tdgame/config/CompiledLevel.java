@@ -0,0 +1,405 @@
+package com.tdgame.config;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+/**
+ * Compact binary form of a level.
+ * JSON stays the authoring format; {@link LevelCompiler} turns it into this
+ * layout at build time:
+ *
+ *   header:  magic, version, payload length, CRC32 of the payload
+ *   payload: name, tileset, grid size, packed tile-index and rotation arrays,
+ *            build/speed/bomb slot cell indices in authoring order, path
+ *            tables, castle record
+ *
+ * Loading maps the file and reads the arrays in one pass, so even very large
+ * maps are ready in milliseconds.
+ */
+public final class CompiledLevel {
+
+    public static final String EXTENSION = ".tdlevel";
+
+    private static final int MAGIC = 0x54444C56; // "TDLV"
+    private static final int VERSION = 2;
+    private static final int HEADER_BYTES = 16;
+    private static final short NO_TILE = -1;
+
+    private final String name;
+    private final String tileset;
+    private final int cols;
+    private final int rows;
+    private final int tileSize;
+    private final short[] tileIndices; // row-major, NO_TILE where the level has none
+    private final float[] tileRotations;
+    private final int[] buildSlots; // row * cols + col, in authoring order so slot indices match the JSON
+    private final int[] speedBumpSlots;
+    private final int[] bombSlots;
+    private final List<PathTable> paths;
+    private final int castleCol;
+    private final int castleRow;
+    private final int castleHp;
+
+    private CompiledLevel(String name, String tileset, int cols, int rows, int tileSize,
+                          short[] tileIndices, float[] tileRotations,
+                          int[] buildSlots, int[] speedBumpSlots, int[] bombSlots,
+                          List<PathTable> paths, int castleCol, int castleRow, int castleHp) {
+        this.name = name;
+        this.tileset = tileset;
+        this.cols = cols;
+        this.rows = rows;
+        this.tileSize = tileSize;
+        this.tileIndices = tileIndices;
+        this.tileRotations = tileRotations;
+        this.buildSlots = buildSlots;
+        this.speedBumpSlots = speedBumpSlots;
+        this.bombSlots = bombSlots;
+        this.paths = paths;
+        this.castleCol = castleCol;
+        this.castleRow = castleRow;
+        this.castleHp = castleHp;
+    }
+
+    /**
+     * Compile parsed level JSON
+     */
+    public static CompiledLevel compile(LevelData levelData) {
+        int cols = levelData.grid.cols;
+        int rows = levelData.grid.rows;
+
+        short[] tileIndices = null;
+        float[] tileRotations = null;
+        if (levelData.manualTiles != null && !levelData.manualTiles.isEmpty()) {
+            tileIndices = new short[cols * rows];
+            tileRotations = new float[cols * rows];
+            Arrays.fill(tileIndices, NO_TILE);
+
+            for (int row = 0; row < levelData.manualTiles.size() && row < rows; row++) {
+                List<LevelData.ManualTile> rowTiles = levelData.manualTiles.get(row);
+                for (int col = 0; col < rowTiles.size() && col < cols; col++) {
+                    LevelData.ManualTile tile = rowTiles.get(col);
+                    if (tile != null) {
+                        if (tile.tileIndex < 0 || tile.tileIndex > Short.MAX_VALUE) {
+                            throw new IllegalArgumentException("Tile index out of range: " + tile.tileIndex);
+                        }
+                        tileIndices[row * cols + col] = (short) tile.tileIndex;
+                        tileRotations[row * cols + col] = (float) tile.rotation;
+                    }
+                }
+            }
+        }
+
+        List<PathTable> paths = new ArrayList<>();
+        if (levelData.paths != null) {
+            for (LevelData.PathData path : levelData.paths) {
+                paths.add(new PathTable(path.name, path.waypoints));
+            }
+        }
+
+        return new CompiledLevel(levelData.name, levelData.tileset, cols, rows, levelData.grid.tileSize,
+            tileIndices, tileRotations,
+            toCells(levelData.buildSlots, cols, rows),
+            toCells(levelData.speedBumpSlots, cols, rows),
+            toCells(levelData.bombSlots, cols, rows),
+            List.copyOf(paths),
+            levelData.castle.col, levelData.castle.row, levelData.castle.hp);
+    }
+
+    private static int[] toCells(List<LevelData.SlotPosition> slots, int cols, int rows) {
+        if (slots == null) {
+            return new int[0];
+        }
+        int[] cells = new int[slots.size()];
+        for (int i = 0; i < cells.length; i++) {
+            LevelData.SlotPosition slot = slots.get(i);
+            if (slot.col < 0 || slot.col >= cols || slot.row < 0 || slot.row >= rows) {
+                throw new IllegalArgumentException("Slot outside the grid: " + slot.col + "," + slot.row);
+            }
+            cells[i] = slot.row * cols + slot.col;
+        }
+        return cells;
+    }
+
+    /**
+     * Load a compiled level from the classpath, or null if there is none
+     * or it is stale (wrong version or checksum)
+     */
+    public static CompiledLevel loadResource(String resourcePath) {
+        URL url = CompiledLevel.class.getClassLoader().getResource(resourcePath);
+        if (url == null) {
+            return null;
+        }
+
+        try {
+            if ("file".equals(url.getProtocol())) {
+                return load(Path.of(url.toURI()));
+            }
+            try (InputStream is = url.openStream()) {
+                return read(ByteBuffer.wrap(is.readAllBytes()));
+            }
+        } catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            System.err.println("Ignoring compiled level " + resourcePath + ": " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Load a compiled level file through a memory-mapped buffer
+     */
+    public static CompiledLevel load(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return read(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Decode a compiled level, validating the header and checksum
+     */
+    public static CompiledLevel read(ByteBuffer buffer) {
+        if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC) {
+            throw new IllegalArgumentException("not a compiled level");
+        }
+        int version = buffer.getInt();
+        if (version != VERSION) {
+            throw new IllegalArgumentException("unsupported level version " + version);
+        }
+        int payloadLength = buffer.getInt();
+        int checksum = buffer.getInt();
+        if (payloadLength != buffer.remaining()) {
+            throw new IllegalArgumentException("truncated level payload");
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(buffer.duplicate());
+        if ((int) crc.getValue() != checksum) {
+            throw new IllegalArgumentException("level checksum mismatch");
+        }
+
+        String name = readString(buffer);
+        String tileset = readString(buffer);
+        int cols = buffer.getInt();
+        int rows = buffer.getInt();
+        int tileSize = buffer.getInt();
+
+        short[] tileIndices = null;
+        float[] tileRotations = null;
+        if (buffer.get() != 0) {
+            tileIndices = new short[cols * rows];
+            tileRotations = new float[cols * rows];
+            buffer.asShortBuffer().get(tileIndices);
+            buffer.position(buffer.position() + tileIndices.length * Short.BYTES);
+            buffer.asFloatBuffer().get(tileRotations);
+            buffer.position(buffer.position() + tileRotations.length * Float.BYTES);
+        }
+
+        int[] buildSlots = readCells(buffer);
+        int[] speedBumpSlots = readCells(buffer);
+        int[] bombSlots = readCells(buffer);
+
+        int pathCount = buffer.getInt();
+        List<PathTable> paths = new ArrayList<>(pathCount);
+        for (int p = 0; p < pathCount; p++) {
+            String pathName = readString(buffer);
+            int size = buffer.getInt();
+            int[] pathCols = new int[size];
+            int[] pathRows = new int[size];
+            double[] cumulativeLength = new double[size];
+            buffer.asIntBuffer().get(pathCols);
+            buffer.position(buffer.position() + size * Integer.BYTES);
+            buffer.asIntBuffer().get(pathRows);
+            buffer.position(buffer.position() + size * Integer.BYTES);
+            buffer.asDoubleBuffer().get(cumulativeLength);
+            buffer.position(buffer.position() + size * Double.BYTES);
+            paths.add(new PathTable(pathName, pathCols, pathRows, cumulativeLength));
+        }
+
+        int castleCol = buffer.getInt();
+        int castleRow = buffer.getInt();
+        int castleHp = buffer.getInt();
+
+        return new CompiledLevel(name, tileset, cols, rows, tileSize, tileIndices, tileRotations,
+            buildSlots, speedBumpSlots, bombSlots, List.copyOf(paths), castleCol, castleRow, castleHp);
+    }
+
+    /**
+     * Encode this level, header included
+     */
+    public ByteBuffer toBytes() {
+        byte[] nameBytes = bytes(name);
+        byte[] tilesetBytes = bytes(tileset);
+        int[][] slotCells = {buildSlots, speedBumpSlots, bombSlots};
+
+        int payloadLength = 2 * Integer.BYTES + nameBytes.length + tilesetBytes.length + 3 * Integer.BYTES + 1;
+        if (tileIndices != null) {
+            payloadLength += tileIndices.length * (Short.BYTES + Float.BYTES);
+        }
+        for (int[] cells : slotCells) {
+            payloadLength += Integer.BYTES + cells.length * Integer.BYTES;
+        }
+        payloadLength += Integer.BYTES;
+        for (PathTable path : paths) {
+            payloadLength += Integer.BYTES + bytes(path.getName()).length + Integer.BYTES
+                + path.size() * (2 * Integer.BYTES + Double.BYTES);
+        }
+        payloadLength += 3 * Integer.BYTES;
+
+        ByteBuffer payload = ByteBuffer.allocate(payloadLength);
+        writeString(payload, nameBytes);
+        writeString(payload, tilesetBytes);
+        payload.putInt(cols).putInt(rows).putInt(tileSize);
+
+        payload.put((byte) (tileIndices != null ? 1 : 0));
+        if (tileIndices != null) {
+            for (short index : tileIndices) payload.putShort(index);
+            for (float rotation : tileRotations) payload.putFloat(rotation);
+        }
+
+        for (int[] cells : slotCells) {
+            payload.putInt(cells.length);
+            for (int cell : cells) payload.putInt(cell);
+        }
+
+        payload.putInt(paths.size());
+        for (PathTable path : paths) {
+            writeString(payload, bytes(path.getName()));
+            payload.putInt(path.size());
+            for (int i = 0; i < path.size(); i++) payload.putInt(path.getCol(i));
+            for (int i = 0; i < path.size(); i++) payload.putInt(path.getRow(i));
+            for (int i = 0; i < path.size(); i++) payload.putDouble(path.getCumulativeLength(i));
+        }
+
+        payload.putInt(castleCol).putInt(castleRow).putInt(castleHp);
+        payload.flip();
+
+        CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+
+        ByteBuffer out = ByteBuffer.allocate(HEADER_BYTES + payloadLength);
+        out.putInt(MAGIC).putInt(VERSION).putInt(payloadLength).putInt((int) crc.getValue());
+        out.put(payload);
+        out.flip();
+        return out;
+    }
+
+    /**
+     * Write this level to a file
+     */
+    public void write(Path file) throws IOException {
+        Files.write(file, toBytes().array());
+    }
+
+    /**
+     * Rebuild the grid, slot and castle parts of the authoring data classes.
+     * Paths and manual tiles are left out: read them from {@link #getPaths()}
+     * and the tile accessors instead of materialising an object per cell.
+     */
+    public LevelData toLevelData() {
+        LevelData levelData = new LevelData();
+        levelData.name = name;
+        levelData.tileset = tileset;
+
+        levelData.grid = new LevelData.GridConfig();
+        levelData.grid.cols = cols;
+        levelData.grid.rows = rows;
+        levelData.grid.tileSize = tileSize;
+
+        levelData.buildSlots = toSlots(buildSlots);
+        levelData.speedBumpSlots = toSlots(speedBumpSlots);
+        levelData.bombSlots = toSlots(bombSlots);
+
+        levelData.castle = new LevelData.CastleData();
+        levelData.castle.col = castleCol;
+        levelData.castle.row = castleRow;
+        levelData.castle.hp = castleHp;
+        return levelData;
+    }
+
+    private List<LevelData.SlotPosition> toSlots(int[] cells) {
+        List<LevelData.SlotPosition> slots = new ArrayList<>(cells.length);
+        for (int cell : cells) {
+            LevelData.SlotPosition slot = new LevelData.SlotPosition();
+            slot.col = cell % cols;
+            slot.row = cell / cols;
+            slots.add(slot);
+        }
+        return List.copyOf(slots);
+    }
+
+    private static int[] readCells(ByteBuffer buffer) {
+        int[] cells = new int[buffer.getInt()];
+        buffer.asIntBuffer().get(cells);
+        buffer.position(buffer.position() + cells.length * Integer.BYTES);
+        return cells;
+    }
+
+    private boolean contains(int[] cells, int col, int row) {
+        int cell = row * cols + col;
+        for (int c : cells) {
+            if (c == cell) return true;
+        }
+        return false;
+    }
+
+    private static byte[] bytes(String value) {
+        return value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void writeString(ByteBuffer buffer, byte[] value) {
+        buffer.putInt(value.length);
+        buffer.put(value);
+    }
+
+    private static String readString(ByteBuffer buffer) {
+        byte[] value = new byte[buffer.getInt()];
+        buffer.get(value);
+        return new String(value, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Check if the level defines hand-placed tiles
+     */
+    public boolean hasManualTiles() {
+        return tileIndices != null;
+    }
+
+    /**
+     * Sprite index of the manual tile at a grid position, or -1 if there is none
+     */
+    public int getTileIndex(int col, int row) {
+        return tileIndices == null ? NO_TILE : tileIndices[row * cols + col];
+    }
+
+    /**
+     * Rotation in degrees of the manual tile at a grid position
+     */
+    public double getTileRotation(int col, int row) {
+        return tileRotations == null ? 0.0 : tileRotations[row * cols + col];
+    }
+
+    public boolean isBuildSlot(int col, int row) { return contains(buildSlots, col, row); }
+    public boolean isSpeedBumpSlot(int col, int row) { return contains(speedBumpSlots, col, row); }
+    public boolean isBombSlot(int col, int row) { return contains(bombSlots, col, row); }
+
+    // Getters
+    public String getName() { return name; }
+    public String getTileset() { return tileset; }
+    public int getCols() { return cols; }
+    public int getRows() { return rows; }
+    public int getTileSize() { return tileSize; }
+    public List<PathTable> getPaths() { return paths; }
+    public int getCastleCol() { return castleCol; }
+    public int getCastleRow() { return castleRow; }
+    public int getCastleHp() { return castleHp; }
+}
@@ -1,51 +1,219 @@
 package com.tdgame.config;
 
+import com.tdgame.diagnostics.JfrEvents;
 import com.tdgame.util.Json;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
 /**
  * Loads and manages game configuration from JSON files.
  * Central access point for all game configuration data.
+ *
+ * Configs are compiled once per (level, difficulty) and shared process-wide,
+ * so restarts and batch simulations don't re-parse the JSON. The same objects
+ * are read by every game, including the parallel games of a batch run, so
+ * nothing reachable from a config may be written after loading. Only part of
+ * that is enforced: lists are unmodifiable and paths and tiles live in the
+ * final arrays of {@link CompiledLevel}, but the Jackson data classes keep
+ * public scalar fields and Balance keeps its sprite index arrays. Those are
+ * read-only by contract, which GameConfigTest checks after a batch run.
  */
 public class GameConfig {
+    
+    private static final Map<String, GameConfig> CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, LevelData> REGISTERED_LEVELS = new ConcurrentHashMap<>();
+    private static volatile Balance sharedBalance;
+    
     private final String levelName;
     private final String difficulty;
     private final Balance balance;
     private final LevelData levelData;
     private final WaveData waveData;
+    private final CompiledLevel compiledLevel;
+    
+    // Derived tables, computed once per compiled config
+    private final List<Integer> spriteManifest;
+    private final List<PathTable> pathTables;
+    private final List<SpawnTimeline> spawnTimelines;
     
     private GameConfig(String levelName, String difficulty) {
         this.levelName = levelName;
         this.difficulty = difficulty;
         
+        JfrEvents.ConfigLoad event = new JfrEvents.ConfigLoad();
+        event.begin();
+        
         try {
-            // Load configuration files
-            System.out.println("Loading balance.json...");
-            this.balance = Json.loadFromResource("config/balance.json", Balance.class);
+            this.balance = loadBalance();
             
-            System.out.println("Loading level: " + levelName + ".json...");
-            this.levelData = Json.loadFromResource("levels/" + levelName + ".json", LevelData.class);
-            
-            System.out.println("Loading waves: " + difficulty + ".json...");
-            this.waveData = Json.loadFromResource("waves/" + difficulty + ".json", WaveData.class);
-            
-            System.out.println("All configuration files loaded successfully!");
+            // Prefer a registered level, then the binary level produced at build time, then the JSON source
+            LevelData registered = REGISTERED_LEVELS.get(levelName);
+            CompiledLevel compiled = registered != null ? null
+                : CompiledLevel.loadResource("levels/" + levelName + CompiledLevel.EXTENSION);
+            event.binaryLevel = compiled != null;
+            if (registered != null) {
+                compiled = CompiledLevel.compile(registered);
+            } else if (compiled == null) {
+                compiled = CompiledLevel.compile(Json.loadFromResource("levels/" + levelName + ".json", LevelData.class));
+            }
+            // Every source goes through the compiled form, so paths and tiles are never held twice
+            this.compiledLevel = compiled;
+            this.levelData = compiled.toLevelData();
+            this.waveData = freeze(Json.loadFromResource("waves/" + difficulty + ".json", WaveData.class));
         } catch (Exception e) {
             System.err.println("ERROR loading configuration: " + e.getMessage());
             e.printStackTrace();
             throw e;
         }
+        
+        this.spriteManifest = buildSpriteManifest();
+        this.pathTables = compiledLevel.getPaths();
+        this.spawnTimelines = buildSpawnTimelines();
+        
+        if (event.shouldCommit()) {
+            event.level = levelName;
+            event.difficulty = difficulty;
+            event.paths = pathTables.size();
+            event.waves = spawnTimelines.size();
+            event.commit();
+        }
+        
+        System.out.println("Compiled configuration " + levelName + "/" + difficulty);
     }
     
+    /**
+     * Get the compiled config for a level and difficulty, loading it on first use
+     */
     public static GameConfig load(String levelName, String difficulty) {
-        return new GameConfig(levelName, difficulty);
+        return CACHE.computeIfAbsent(levelName + "/" + difficulty, key -> new GameConfig(levelName, difficulty));
+    }
+    
+    /**
+     * Make a level built in memory, e.g. by {@link LevelGenerator}, loadable by
+     * name. It takes precedence over a level resource of the same name and is
+     * compiled on each load, so the caller's data is never modified.
+     */
+    public static void registerLevel(String levelName, LevelData levelData) {
+        REGISTERED_LEVELS.put(levelName, levelData);
+        CACHE.keySet().removeIf(key -> key.startsWith(levelName + "/"));
+    }
+    
+    /**
+     * Drop all compiled configs so the next load re-reads the JSON
+     */
+    public static void clearCache() {
+        CACHE.clear();
+        sharedBalance = null;
+    }
+    
+    /**
+     * Balance is the same for every level and difficulty, so it is parsed once
+     */
+    private static Balance loadBalance() {
+        Balance balance = sharedBalance;
+        if (balance == null) {
+            synchronized (GameConfig.class) {
+                balance = sharedBalance;
+                if (balance == null) {
+                    balance = Json.loadFromResource("config/balance.json", Balance.class);
+                    // Tank tower sprite lives in the sprites section
+                    if (balance.towers.tank != null && balance.towers.tank.spriteIndex == null) {
+                        balance.towers.tank.spriteIndex = balance.sprites.towers.tank;
+                    }
+                    sharedBalance = balance;
+                }
+            }
+        }
+        return balance;
+    }
+    
+    /**
+     * Make the wave lists unmodifiable; the scalars stay writable
+     */
+    private static WaveData freeze(WaveData waveData) {
+        waveData.waves = waveData.waves == null ? List.of() : List.copyOf(waveData.waves);
+        for (WaveData.Wave wave : waveData.waves) {
+            wave.enemies = wave.enemies == null ? List.of() : List.copyOf(wave.enemies);
+        }
+        return waveData;
+    }
+    
+    /**
+     * Every sprite index this config can draw, sorted and de-duplicated
+     */
+    private List<Integer> buildSpriteManifest() {
+        TreeSet<Integer> indices = new TreeSet<>();
+        Balance.SpritesConfig sprites = balance.sprites;
+        for (int[] group : new int[][]{sprites.ground, sprites.path, sprites.sand, sprites.buildSlot,
+                sprites.speedSlot, sprites.bombSlot, sprites.rock, sprites.blocked, sprites.castle}) {
+            if (group != null) {
+                for (int index : group) indices.add(index);
+            }
+        }
+        if (sprites.towers != null) {
+            indices.add(sprites.towers.fast);
+            indices.add(sprites.towers.power);
+            indices.add(sprites.towers.tank);
+        }
+        if (sprites.aa != null) {
+            indices.add(sprites.aa.aa60);
+            indices.add(sprites.aa.aa80);
+        }
+        if (sprites.placeables != null) {
+            indices.add(sprites.placeables.speedBump);
+            indices.add(sprites.placeables.bomb);
+        }
+        
+        Balance.EnemiesConfig enemies = balance.enemies;
+        for (Balance.EnemyStats stats : new Balance.EnemyStats[]{enemies.soldier, enemies.soldierFast,
+                enemies.soldierHeavy, enemies.tank, enemies.aircraft}) {
+            if (stats != null) indices.add(stats.spriteIndex);
+        }
+        
+        Balance.ProjectilesConfig projectiles = balance.projectiles;
+        if (projectiles != null) {
+            for (Balance.ProjectileStats stats : new Balance.ProjectileStats[]{projectiles.towerShot,
+                    projectiles.bullet, projectiles.tankShell, projectiles.aa60, projectiles.aa80}) {
+                if (stats != null) indices.add(stats.spriteIndex);
+            }
+        }
+        
+        if (compiledLevel.hasManualTiles()) {
+            for (int row = 0; row < compiledLevel.getRows(); row++) {
+                for (int col = 0; col < compiledLevel.getCols(); col++) {
+                    int index = compiledLevel.getTileIndex(col, row);
+                    if (index >= 0) indices.add(index);
+                }
+            }
+        }
+        return List.copyOf(indices);
+    }
+    
+    private List<SpawnTimeline> buildSpawnTimelines() {
+        List<SpawnTimeline> timelines = new ArrayList<>();
+        int lane = 0;
+        for (WaveData.Wave wave : waveData.waves) {
+            SpawnTimeline timeline = new SpawnTimeline(wave, lane);
+            timelines.add(timeline);
+            lane = timeline.getNextLane();
+        }
+        return List.copyOf(timelines);
     }
     
     // Getters
     public String getLevelName() { return levelName; }
     public String getDifficulty() { return difficulty; }
     public Balance getBalance() { return balance; }
-    public LevelData getLevelData() { return levelData; }
+    public LevelData getLevelData() { return levelData; } // Grid, slots and castle; paths and tiles are in the compiled level
+    public CompiledLevel getCompiledLevel() { return compiledLevel; }
     public WaveData getWaveData() { return waveData; }
+    public List<Integer> getSpriteManifest() { return spriteManifest; }
+    public List<PathTable> getPathTables() { return pathTables; }
+    public List<SpawnTimeline> getSpawnTimelines() { return spawnTimelines; }
     
     // Convenience accessors
     public int getGridCols() { return levelData.grid.cols; }
@@ -54,4 +222,4 @@ public class GameConfig {
     public int getStartingMoney() { return balance.money.start; }
     public int getMoneyIncomePerSec() { return balance.money.incomePerSec; }
     public double getLeakDefeatThreshold() { return balance.rules.leakPctDefeat; }
-}
\ No newline at end of file
+}
@@ -0,0 +1,41 @@
+package com.tdgame.config;
+
+import com.tdgame.util.Json;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Build-time tool that compiles level JSON files into {@link CompiledLevel} binaries.
+ *
+ * Usage: LevelCompiler <levels json dir> <output dir>
+ */
+public class LevelCompiler {
+    
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: LevelCompiler <levels json dir> <output dir>");
+            System.exit(1);
+        }
+        
+        Path inputDir = Paths.get(args[0]);
+        Path outputDir = Paths.get(args[1]);
+        Files.createDirectories(outputDir);
+        
+        try (DirectoryStream<Path> levels = Files.newDirectoryStream(inputDir, "*.json")) {
+            for (Path levelFile : levels) {
+                String fileName = levelFile.getFileName().toString();
+                String levelName = fileName.substring(0, fileName.length() - ".json".length());
+                
+                LevelData levelData = Json.fromJson(Files.readString(levelFile), LevelData.class);
+                Path outputFile = outputDir.resolve(levelName + CompiledLevel.EXTENSION);
+                CompiledLevel.compile(levelData).write(outputFile);
+                
+                System.out.println("Compiled " + fileName + " -> " + outputFile.getFileName());
+            }
+        }
+    }
+}
@@ -0,0 +1,323 @@
+package com.tdgame.config;
+
+import com.tdgame.util.Json;
+import com.tdgame.util.RNG;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Procedural stress levels far larger than the hand-made 14x10 ones, so
+ * anything quadratic in slots, paths or enemies shows up in benchmarks and
+ * headless runs. The castle sits in the middle of the grid; every path starts
+ * on the border and walks a random staircase to it. Build slots line the
+ * paths, speed bump and bomb slots sit on them, and {@code manualTiles} are
+ * filled in to match. The output is plain {@link LevelData}, so it can be
+ * written to {@code levels/*.json}, compiled by {@link LevelCompiler} or
+ * registered with {@link GameConfig#registerLevel}. The same seed always
+ * produces the same level.
+ *
+ * Each level comes with a tower layout in the {@link com.tdgame.sim.BuildOrder}
+ * syntax, placing towers on a share of its build slots at time 0.
+ *
+ * Usage: LevelGenerator [--preset=large|medium] [--seed=1] [--name=stress-large]
+ *                       [--out=build/generated/stress-levels]
+ */
+public class LevelGenerator {
+    
+    /**
+     * Size and density of a generated level
+     */
+    public static class Settings {
+        public int cols = 64;
+        public int rows = 64;
+        public int tileSize = 64;
+        public int paths = 8;
+        public int maxLeg = 12;            // Longest straight run of a path, in tiles
+        public int buildSlots = 500;
+        public int speedBumpSlots = 40;
+        public int bombSlots = 20;
+        public int castleHp = 1500;
+        public double towerFraction = 0.5; // Share of build slots the layout fills
+    }
+    
+    /**
+     * 64x64 tiles, 8 paths and 500 build slots
+     */
+    public static Settings medium() {
+        return new Settings();
+    }
+    
+    /**
+     * 256x256 tiles, 32 paths and 4000 build slots
+     */
+    public static Settings large() {
+        Settings settings = new Settings();
+        settings.cols = 256;
+        settings.rows = 256;
+        settings.paths = 32;
+        settings.maxLeg = 32;
+        settings.buildSlots = 4000;
+        settings.speedBumpSlots = 300;
+        settings.bombSlots = 150;
+        return settings;
+    }
+    
+    // Tile sprites, as used by the hand-made levels
+    private static final int GROUND_TILE = 119;
+    private static final int BUILD_SLOT_TILE = 47;
+    private static final int PATH_TILE = 1;          // Junctions, path ends and the castle
+    private static final int PATH_STRAIGHT_TILE = 25; // Vertical at rotation 0
+    private static final int PATH_CORNER_TILE = 2;    // Joins east and south at rotation 0
+    
+    // Connection bits of a path tile
+    private static final int NORTH = 1, EAST = 2, SOUTH = 4, WEST = 8;
+    
+    // Layout tower kinds and their draw weights
+    private static final String[] TOWERS = {"FAST_TOWER", "POWER_TOWER", "TANK_TOWER", "AA_60", "AA_80"};
+    private static final int[] TOWER_WEIGHTS = {4, 3, 1, 1, 1};
+    
+    private final Settings settings;
+    private final RNG rng;
+    
+    public LevelGenerator(Settings settings, long seed) {
+        this.settings = settings;
+        this.rng = new RNG(seed);
+    }
+    
+    /**
+     * Generate a level
+     */
+    public LevelData generate(String name) {
+        int cols = settings.cols;
+        int rows = settings.rows;
+        int castleCol = cols / 2;
+        int castleRow = rows / 2;
+        int[] links = new int[cols * rows]; // Connection bits per path tile, 0 off the paths
+        
+        LevelData level = new LevelData();
+        level.name = name;
+        level.tileset = "kenney_tower-defense-top-down/PNG/Default size/";
+        level.grid = new LevelData.GridConfig();
+        level.grid.cols = cols;
+        level.grid.rows = rows;
+        level.grid.tileSize = settings.tileSize;
+        level.castle = new LevelData.CastleData();
+        level.castle.col = castleCol;
+        level.castle.row = castleRow;
+        level.castle.hp = settings.castleHp;
+        
+        level.paths = new ArrayList<>();
+        for (int i = 0; i < settings.paths; i++) {
+            level.paths.add(generatePath("path" + i, i, castleCol, castleRow, links));
+        }
+        
+        // Build slots on free ground next to a path, speed bumps and bombs on the paths
+        List<int[]> besidePath = new ArrayList<>();
+        List<int[]> onPath = new ArrayList<>();
+        for (int row = 0; row < rows; row++) {
+            for (int col = 0; col < cols; col++) {
+                if (col == castleCol && row == castleRow) continue;
+                if (links[row * cols + col] != 0) {
+                    onPath.add(new int[]{col, row});
+                } else if (nextToPath(col, row, links)) {
+                    besidePath.add(new int[]{col, row});
+                }
+            }
+        }
+        level.buildSlots = pickSlots(besidePath, settings.buildSlots);
+        List<LevelData.SlotPosition> pathSlots = pickSlots(onPath, settings.speedBumpSlots + settings.bombSlots);
+        int bumps = Math.min(settings.speedBumpSlots, pathSlots.size());
+        level.speedBumpSlots = new ArrayList<>(pathSlots.subList(0, bumps));
+        level.bombSlots = new ArrayList<>(pathSlots.subList(bumps, pathSlots.size()));
+        
+        level.manualTiles = generateTiles(links, level.buildSlots);
+        return level;
+    }
+    
+    /**
+     * Walk from a border tile to the castle in alternating straight legs,
+     * always moving towards it, so a path never crosses itself
+     */
+    private LevelData.PathData generatePath(String name, int index, int castleCol, int castleRow, int[] links) {
+        int[] start = borderTile(index);
+        int col = start[0];
+        int row = start[1];
+        
+        List<int[]> waypoints = new ArrayList<>();
+        waypoints.add(new int[]{col, row});
+        boolean horizontal = rng.nextBoolean(0.5);
+        while (col != castleCol || row != castleRow) {
+            if (col == castleCol) horizontal = false;
+            if (row == castleRow) horizontal = true;
+            
+            int remaining = horizontal ? Math.abs(castleCol - col) : Math.abs(castleRow - row);
+            int leg = Math.min(remaining, rng.nextInt(1, settings.maxLeg + 1));
+            int dCol = horizontal ? Integer.signum(castleCol - col) : 0;
+            int dRow = horizontal ? 0 : Integer.signum(castleRow - row);
+            for (int step = 0; step < leg; step++) {
+                link(links, col, row, dCol, dRow);
+                col += dCol;
+                row += dRow;
+                link(links, col, row, -dCol, -dRow);
+                waypoints.add(new int[]{col, row});
+            }
+            horizontal = !horizontal;
+        }
+        
+        LevelData.PathData path = new LevelData.PathData();
+        path.name = name;
+        path.waypoints = waypoints;
+        return path;
+    }
+    
+    /**
+     * Start tile of a path: paths are spread evenly around the border, with jitter
+     */
+    private int[] borderTile(int index) {
+        int cols = settings.cols;
+        int rows = settings.rows;
+        int perimeter = 2 * (cols + rows) - 4;
+        double spacing = (double) perimeter / settings.paths;
+        int position = (int) ((index + rng.nextDouble(0.0, 1.0)) * spacing) % perimeter;
+        
+        if (position < cols) return new int[]{position, 0};
+        position -= cols;
+        if (position < rows - 1) return new int[]{cols - 1, position + 1};
+        position -= rows - 1;
+        if (position < cols - 1) return new int[]{cols - 2 - position, rows - 1};
+        position -= cols - 1;
+        return new int[]{0, rows - 2 - position};
+    }
+    
+    private void link(int[] links, int col, int row, int dCol, int dRow) {
+        int bit = dRow < 0 ? NORTH : dCol > 0 ? EAST : dRow > 0 ? SOUTH : WEST;
+        links[row * settings.cols + col] |= bit;
+    }
+    
+    private boolean nextToPath(int col, int row, int[] links) {
+        for (int dRow = -1; dRow <= 1; dRow++) {
+            for (int dCol = -1; dCol <= 1; dCol++) {
+                int c = col + dCol;
+                int r = row + dRow;
+                if (c >= 0 && c < settings.cols && r >= 0 && r < settings.rows && links[r * settings.cols + c] != 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * A random sample of the candidates in row-major order
+     */
+    private List<LevelData.SlotPosition> pickSlots(List<int[]> candidates, int count) {
+        int[][] shuffled = candidates.toArray(new int[0][]);
+        rng.shuffle(shuffled);
+        List<int[]> picked = new ArrayList<>(List.of(shuffled).subList(0, Math.min(count, shuffled.length)));
+        picked.sort(Comparator.<int[]>comparingInt(tile -> tile[1]).thenComparingInt(tile -> tile[0]));
+        
+        List<LevelData.SlotPosition> slots = new ArrayList<>(picked.size());
+        for (int[] tile : picked) {
+            LevelData.SlotPosition slot = new LevelData.SlotPosition();
+            slot.col = tile[0];
+            slot.row = tile[1];
+            slots.add(slot);
+        }
+        return slots;
+    }
+    
+    private List<List<LevelData.ManualTile>> generateTiles(int[] links, List<LevelData.SlotPosition> buildSlots) {
+        int cols = settings.cols;
+        LevelData.ManualTile ground = new LevelData.ManualTile(GROUND_TILE);
+        LevelData.ManualTile slot = new LevelData.ManualTile(BUILD_SLOT_TILE);
+        
+        List<List<LevelData.ManualTile>> tiles = new ArrayList<>(settings.rows);
+        for (int row = 0; row < settings.rows; row++) {
+            List<LevelData.ManualTile> tileRow = new ArrayList<>(cols);
+            for (int col = 0; col < cols; col++) {
+                int bits = links[row * cols + col];
+                tileRow.add(bits == 0 ? ground : pathTile(bits));
+            }
+            tiles.add(tileRow);
+        }
+        for (LevelData.SlotPosition position : buildSlots) {
+            tiles.get(position.row).set(position.col, slot);
+        }
+        return tiles;
+    }
+    
+    private static LevelData.ManualTile pathTile(int bits) {
+        return switch (bits) {
+            case NORTH | SOUTH -> new LevelData.ManualTile(PATH_STRAIGHT_TILE, 0);
+            case EAST | WEST -> new LevelData.ManualTile(PATH_STRAIGHT_TILE, 90);
+            case EAST | SOUTH -> new LevelData.ManualTile(PATH_CORNER_TILE, 0);
+            case SOUTH | WEST -> new LevelData.ManualTile(PATH_CORNER_TILE, 90);
+            case WEST | NORTH -> new LevelData.ManualTile(PATH_CORNER_TILE, 180);
+            case NORTH | EAST -> new LevelData.ManualTile(PATH_CORNER_TILE, 270);
+            default -> new LevelData.ManualTile(PATH_TILE);
+        };
+    }
+    
+    /**
+     * Tower layout for a generated level: towers on about {@code towerFraction}
+     * of its build slots, all at time 0, as a build order spec
+     */
+    public String generateLayout(LevelData level) {
+        int totalWeight = 0;
+        for (int weight : TOWER_WEIGHTS) totalWeight += weight;
+        
+        List<String> steps = new ArrayList<>();
+        for (int slot = 0; slot < level.buildSlots.size(); slot++) {
+            if (!rng.nextBoolean(settings.towerFraction)) continue;
+            int roll = rng.nextInt(0, totalWeight);
+            int kind = 0;
+            while (roll >= TOWER_WEIGHTS[kind]) {
+                roll -= TOWER_WEIGHTS[kind];
+                kind++;
+            }
+            steps.add("0:" + TOWERS[kind] + "@" + slot);
+        }
+        return steps.isEmpty() ? "none" : String.join(",", steps);
+    }
+    
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --key=value: " + arg);
+            }
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        
+        String preset = options.getOrDefault("preset", "large");
+        Settings settings = switch (preset) {
+            case "large" -> large();
+            case "medium" -> medium();
+            default -> throw new IllegalArgumentException("Unknown preset: " + preset);
+        };
+        long seed = Long.parseLong(options.getOrDefault("seed", "1"));
+        String name = options.getOrDefault("name", "stress-" + preset);
+        Path out = Path.of(options.getOrDefault("out", "build/generated/stress-levels"));
+        
+        LevelGenerator generator = new LevelGenerator(settings, seed);
+        LevelData level = generator.generate(name);
+        String layout = generator.generateLayout(level);
+        
+        Files.createDirectories(out);
+        Files.writeString(out.resolve(name + ".json"), Json.toJson(level));
+        Files.writeString(out.resolve(name + ".layout"), layout + "\n");
+        
+        int towers = layout.equals("none") ? 0 : layout.split(",").length;
+        System.out.println("Wrote " + settings.cols + "x" + settings.rows + " level " + name + " ("
+            + level.paths.size() + " paths, " + level.buildSlots.size() + " build slots, "
+            + towers + " towers in the layout, seed " + seed + ") to " + out.toAbsolutePath());
+    }
+}
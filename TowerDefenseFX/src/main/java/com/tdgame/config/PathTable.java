@@ -0,0 +1,49 @@
+package com.tdgame.config;
+
+import java.util.List;
+
+/**
+ * Immutable lookup table for one level path.
+ * Stores waypoint grid coordinates together with the cumulative path length
+ * (in tiles) at each waypoint, so positions along the path can be found with
+ * a binary search instead of re-measuring every segment.
+ */
+public final class PathTable {
+    
+    private final String name;
+    private final int[] cols;
+    private final int[] rows;
+    private final double[] cumulativeLength;
+    
+    PathTable(String name, List<int[]> waypoints) {
+        this.name = name;
+        int count = waypoints.size();
+        this.cols = new int[count];
+        this.rows = new int[count];
+        this.cumulativeLength = new double[count];
+        
+        for (int i = 0; i < count; i++) {
+            int[] wp = waypoints.get(i);
+            cols[i] = wp[0];
+            rows[i] = wp[1];
+            if (i > 0) {
+                cumulativeLength[i] = cumulativeLength[i - 1] + Math.hypot(cols[i] - cols[i - 1], rows[i] - rows[i - 1]);
+            }
+        }
+    }
+    
+    PathTable(String name, int[] cols, int[] rows, double[] cumulativeLength) {
+        this.name = name;
+        this.cols = cols;
+        this.rows = rows;
+        this.cumulativeLength = cumulativeLength;
+    }
+    
+    // Getters
+    public String getName() { return name; }
+    public int size() { return cols.length; }
+    public int getCol(int index) { return cols[index]; }
+    public int getRow(int index) { return rows[index]; }
+    public double getCumulativeLength(int index) { return cumulativeLength[index]; }
+    public double getTotalLength() { return cumulativeLength.length == 0 ? 0 : cumulativeLength[cumulativeLength.length - 1]; }
+}
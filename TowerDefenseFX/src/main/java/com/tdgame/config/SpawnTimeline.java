@@ -0,0 +1,84 @@
+package com.tdgame.config;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Immutable, time-sorted list of (time, type, lane) spawns for one wave.
+ * Times are seconds since the wave started: the first enemy spawns
+ * immediately, each following enemy of a group after that group's gap, and
+ * the first enemy of the next group after the next group's gap.
+ * Soldiers alternate between lanes 0 and 1, continuing from the previous
+ * wave; every other type uses lane 0.
+ */
+public final class SpawnTimeline {
+    
+    private final double delay;
+    private final Double aircraftChance;
+    private final double[] times;
+    private final String[] types; // Lower case
+    private final byte[] lanes;
+    private final int nextLane; // First soldier lane of the following wave
+    
+    SpawnTimeline(WaveData.Wave wave, int firstLane) {
+        this.delay = wave.delay;
+        this.aircraftChance = wave.aircraftChance;
+        
+        List<Double> timeList = new ArrayList<>();
+        List<String> typeList = new ArrayList<>();
+        List<Integer> laneList = new ArrayList<>();
+        double time = 0.0;
+        boolean first = true;
+        int lane = firstLane;
+        for (WaveData.EnemySpawn spawn : wave.enemies) {
+            String type = spawn.type.toLowerCase(Locale.ROOT);
+            boolean soldier = type.startsWith("soldier");
+            for (int i = 0; i < spawn.count; i++) {
+                if (!first) {
+                    time += spawn.gap;
+                }
+                first = false;
+                timeList.add(time);
+                typeList.add(type);
+                if (soldier) {
+                    laneList.add(lane);
+                    lane = 1 - lane;
+                } else {
+                    laneList.add(0);
+                }
+            }
+        }
+        
+        this.times = new double[timeList.size()];
+        this.types = typeList.toArray(new String[0]);
+        this.lanes = new byte[times.length];
+        for (int i = 0; i < times.length; i++) {
+            times[i] = timeList.get(i);
+            lanes[i] = laneList.get(i).byteValue();
+        }
+        this.nextLane = lane;
+    }
+    
+    /**
+     * Index of the first spawn scheduled after the given wave time, starting
+     * the search at {@code from}. Spawns in [from, result) are due.
+     */
+    public int dueUntil(int from, double waveTime) {
+        int index = from;
+        while (index < times.length && times[index] <= waveTime) {
+            index++;
+        }
+        return index;
+    }
+    
+    // Getters
+    public double getDelay() { return delay; }
+    public Double getAircraftChance() { return aircraftChance; }
+    public int size() { return times.length; }
+    public double getTime(int index) { return times[index]; }
+    public String getType(int index) { return types[index]; }
+    public int getLane(int index) { return lanes[index]; }
+    int getNextLane() { return nextLane; }
+    public double getDuration() { return times.length == 0 ? 0 : times[times.length - 1]; }
+}
@@ -11,6 +11,9 @@ public class WaveData {
     @JsonProperty("waves")
     public List<Wave> waves;
     
+    @JsonProperty("endless")
+    public boolean endless; // Keep generating waves once the listed ones run out
+    
     public static class Wave {
         @JsonProperty("delay")
         public double delay;
@@ -0,0 +1,208 @@
+package com.tdgame.config;
+
+import com.tdgame.util.Json;
+import com.tdgame.util.RNG;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Procedural wave schedules for endless play and load tests.
+ * Wave n gets a power budget of {@code budget * growth^(n-1)} (capped at
+ * {@code maxBudget}), spent on randomly drawn enemy types that unlock as the
+ * waves go on. Waves follow each other after a fixed break. The output is
+ * plain {@link WaveData}, so it can be written to {@code waves/*.json} or
+ * turned into {@link SpawnTimeline}s directly. The same seed always produces
+ * the same schedule.
+ *
+ * Usage: WaveGenerator [--preset=stress|endless] [--waves=N] [--seed=1]
+ *                      [--out=src/main/resources/waves/stress.json]
+ * Without --out, endless schedules go to waves/endless-schedule.json.
+ */
+public class WaveGenerator {
+    
+    /**
+     * Budget and pacing of a generated schedule
+     */
+    public static class Settings {
+        public double budget = 20;          // Power of the first wave
+        public double growth = 1.15;        // Budget multiplier per wave
+        public double maxBudget = Double.MAX_VALUE;
+        public double spawnWindow = 20.0;   // Seconds over which a wave spawns
+        public double breakTime = 8.0;      // Seconds between the end of a wave and the next delay
+        public double firstDelay = 5.0;
+        public int aircraftFromWave = 3;
+        public double aircraftChanceStep = 0.1;
+        public int waves = 20;              // Length of finite schedules
+    }
+    
+    /**
+     * Gentle ramp for endless play
+     */
+    public static Settings endless() {
+        return new Settings();
+    }
+    
+    /**
+     * Ten waves ramping to about 10k enemies in the last one. Each wave spawns
+     * within 15 seconds, faster than any unit crosses the map, so the final
+     * wave has all of them alive at once.
+     */
+    public static Settings stress() {
+        Settings settings = new Settings();
+        settings.budget = 100;
+        settings.waves = 10;
+        settings.growth = Math.pow(11_000 / settings.budget, 1.0 / (settings.waves - 1));
+        settings.spawnWindow = 15.0;
+        settings.breakTime = 5.0;
+        return settings;
+    }
+    
+    // Type name, draw weight and first wave it appears in, softest first
+    private static final String[] TYPES = {"soldier", "soldierFast", "soldierHeavy", "tank"};
+    private static final int[] WEIGHTS = {5, 2, 2, 1};
+    private static final int[] FIRST_WAVE = {1, 2, 3, 2};
+    
+    private final Settings settings;
+    private final int[] powers;
+    private final RNG rng;
+    
+    private int wavesGenerated = 0;
+    private double nextDelay;
+    
+    public WaveGenerator(Settings settings, Balance.EnemiesConfig enemies, long seed) {
+        this.settings = settings;
+        this.powers = new int[]{
+            enemies.soldier.power, enemies.soldierFast.power, enemies.soldierHeavy.power, enemies.tank.power};
+        this.rng = new RNG(seed);
+        this.nextDelay = settings.firstDelay;
+    }
+    
+    /**
+     * Generate the next wave of the schedule
+     */
+    public WaveData.Wave nextWave() {
+        int number = ++wavesGenerated;
+        double budget = Math.min(settings.maxBudget, settings.budget * Math.pow(settings.growth, number - 1));
+        
+        // Draw unlocked types until the budget is spent
+        int totalWeight = 0;
+        for (int i = 0; i < TYPES.length; i++) {
+            if (number >= FIRST_WAVE[i]) totalWeight += WEIGHTS[i];
+        }
+        int[] counts = new int[TYPES.length];
+        int total = 0;
+        for (double spent = 0; spent < budget; total++) {
+            int roll = rng.nextInt(0, totalWeight);
+            int type = 0;
+            while (number < FIRST_WAVE[type] || roll >= WEIGHTS[type]) {
+                if (number >= FIRST_WAVE[type]) roll -= WEIGHTS[type];
+                type++;
+            }
+            counts[type]++;
+            spent += powers[type];
+        }
+        
+        // One group per type, softest first, evenly spread over the spawn window
+        double gap = total > 1 ? settings.spawnWindow / (total - 1) : 0.0;
+        WaveData.Wave wave = new WaveData.Wave();
+        wave.delay = nextDelay;
+        wave.enemies = new ArrayList<>();
+        for (int i = 0; i < TYPES.length; i++) {
+            if (counts[i] == 0) continue;
+            WaveData.EnemySpawn spawn = new WaveData.EnemySpawn();
+            spawn.type = TYPES[i];
+            spawn.count = counts[i];
+            spawn.gap = gap;
+            wave.enemies.add(spawn);
+        }
+        if (number >= settings.aircraftFromWave) {
+            wave.aircraftChance = Math.min(1.0, (number - settings.aircraftFromWave + 1) * settings.aircraftChanceStep);
+        }
+        
+        nextDelay += (total - 1) * gap + settings.breakTime;
+        return wave;
+    }
+    
+    /**
+     * Generate the next wave as a timeline following {@code previous}, which
+     * may be null for the first wave. Used by {@link com.tdgame.model.systems.WaveManager}
+     * in endless mode.
+     */
+    public SpawnTimeline nextTimeline(SpawnTimeline previous) {
+        int lane = 0;
+        if (previous != null) {
+            lane = previous.getNextLane();
+            nextDelay = Math.max(nextDelay, previous.getDelay() + previous.getDuration() + settings.breakTime);
+        }
+        return new SpawnTimeline(nextWave(), lane);
+    }
+    
+    /**
+     * Generate a finite schedule of {@code settings.waves} waves
+     */
+    public WaveData generate() {
+        WaveData data = new WaveData();
+        data.waves = new ArrayList<>();
+        for (int i = 0; i < settings.waves; i++) {
+            data.waves.add(nextWave());
+        }
+        return data;
+    }
+    
+    public int getWavesGenerated() {
+        return wavesGenerated;
+    }
+    
+    /**
+     * Where a preset is written when no --out is given. The endless preset gets
+     * its own file so it never replaces the waves/endless.json marker.
+     */
+    static Path defaultOutput(String preset) {
+        String name = preset.equals("endless") ? "endless-schedule" : preset;
+        return Path.of("src/main/resources/waves", name + ".json");
+    }
+    
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (!arg.startsWith("--") || eq < 0) {
+                throw new IllegalArgumentException("Expected --key=value: " + arg);
+            }
+            options.put(arg.substring(2, eq), arg.substring(eq + 1));
+        }
+        
+        String preset = options.getOrDefault("preset", "stress");
+        Settings settings = switch (preset) {
+            case "stress" -> stress();
+            case "endless" -> endless();
+            default -> throw new IllegalArgumentException("Unknown preset: " + preset);
+        };
+        if (options.containsKey("waves")) {
+            settings.waves = Integer.parseInt(options.get("waves"));
+        }
+        long seed = Long.parseLong(options.getOrDefault("seed", "1"));
+        Path out = options.containsKey("out") ? Path.of(options.get("out")) : defaultOutput(preset);
+        
+        Balance balance = Json.loadFromResource("config/balance.json", Balance.class);
+        WaveData data = new WaveGenerator(settings, balance.enemies, seed).generate();
+        
+        if (out.getParent() != null) {
+            Files.createDirectories(out.getParent());
+        }
+        Files.writeString(out, Json.toJson(data));
+        
+        int enemies = 0;
+        for (WaveData.Wave wave : data.waves) {
+            for (WaveData.EnemySpawn spawn : wave.enemies) enemies += spawn.count;
+        }
+        System.out.println("Wrote " + data.waves.size() + " " + preset + " waves (" + enemies
+            + " enemies, seed " + seed + ") to " + out.toAbsolutePath());
+    }
+}
@@ -2,6 +2,7 @@ package com.tdgame.controller;
 
 import com.tdgame.config.GameConfig;
 import com.tdgame.config.Balance;
+import com.tdgame.core.GameContext;
 import com.tdgame.model.actors.*;
 import com.tdgame.model.placeables.*;
 import com.tdgame.model.grid.BuildSlot;
@@ -24,11 +25,13 @@ public class BuildMenuController {
         BOMB
     }
     
+    private final GameContext context;
     private final GameConfig config;
     private final EconomyManager economyManager;
     private final CombatSystem combatSystem;
     
-    public BuildMenuController(GameConfig config, EconomyManager economyManager, CombatSystem combatSystem) {
+    public BuildMenuController(GameContext context, GameConfig config, EconomyManager economyManager, CombatSystem combatSystem) {
+        this.context = context;
         this.config = config;
         this.economyManager = economyManager;
         this.combatSystem = combatSystem;
@@ -52,7 +55,19 @@ public class BuildMenuController {
             return false;
         }
         
-        // Build the structure
+        place(option, slot);
+        return true;
+    }
+    
+    /**
+     * Build a structure without paying for it, e.g. to pre-populate a level
+     * from a tower layout
+     */
+    public boolean place(BuildOption option, BuildSlot slot) {
+        if (slot == null || slot.isOccupied()) {
+            return false;
+        }
+        
         switch (option) {
             case FAST_TOWER -> buildFastTower(slot);
             case POWER_TOWER -> buildPowerTower(slot);
@@ -99,7 +114,6 @@ public class BuildMenuController {
      */
     private void buildTankTower(BuildSlot slot) {
         Balance.TowerStats stats = config.getBalance().towers.tank;
-        stats.spriteIndex = config.getBalance().sprites.towers.tank;
         
         TankTower tower = new TankTower(stats);
         tower.setPosition(slot.getWorldX(), slot.getWorldY());
@@ -114,7 +128,7 @@ public class BuildMenuController {
         Balance.AAStats stats = config.getBalance().aa.aa60;
         int spriteIndex = 205; // AA 60% sprite
         
-        AADefense aa = new AADefense(stats.hitChance, stats.range, stats.hp, spriteIndex);
+        AADefense aa = new AADefense(stats.hitChance, stats.range, stats.hp, spriteIndex, context.getAARng());
         aa.setPosition(slot.getWorldX(), slot.getWorldY());
         slot.placeAADefense(aa);
         combatSystem.addAADefense(aa);
@@ -127,7 +141,7 @@ public class BuildMenuController {
         Balance.AAStats stats = config.getBalance().aa.aa80;
         int spriteIndex = 206; // AA 80% sprite
         
-        AADefense aa = new AADefense(stats.hitChance, stats.range, stats.hp, spriteIndex);
+        AADefense aa = new AADefense(stats.hitChance, stats.range, stats.hp, spriteIndex, context.getAARng());
         aa.setPosition(slot.getWorldX(), slot.getWorldY());
         slot.placeAADefense(aa);
         combatSystem.addAADefense(aa);
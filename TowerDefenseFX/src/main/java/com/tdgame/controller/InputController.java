@@ -28,6 +28,7 @@ public class InputController {
         this.game = game;
         this.gameCanvas = gameCanvas;
         this.buildMenuController = new BuildMenuController(
+            game.getContext(),
             game.getConfig(), 
             game.getEconomyManager(), 
             game.getCombatSystem()
@@ -253,6 +254,14 @@ public class InputController {
                 // Pan down
                 gameCanvas.panDown();
             }
+            case F3 -> {
+                // Toggle frame profiler overlay
+                gameCanvas.toggleProfilerUI();
+            }
+            case F4 -> {
+                // Dump pool, frame profile and allocation summaries to the console
+                System.out.println(game.getContext().report());
+            }
         }
     }
 }
\ No newline at end of file
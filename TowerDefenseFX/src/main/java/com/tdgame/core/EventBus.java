@@ -1,25 +1,39 @@
 package com.tdgame.core;
 
+import com.tdgame.util.RingQueue;
+
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Simple event bus for decoupling UI and game systems.
  * Allows publishers to emit events and subscribers to listen for specific event types.
+ * Each game gets its own bus through {@link GameContext}.
+ *
+ * Listener lists are copy-on-write arrays and every published type gets a
+ * pre-resolved dispatch table (its own listeners plus those of its supertypes),
+ * so publishing never locks or allocates once a type has been seen.
+ * Events can also be queued from any thread and are then dispatched when the
+ * simulation calls {@link #drainQueue()} once per tick. The queue never drops
+ * an event: a producer that finds it full drains it inline first.
  */
 public class EventBus {
-    private static final EventBus INSTANCE = new EventBus();
+    private static final int QUEUE_CAPACITY = 1024;
     
-    private final Map<Class<?>, List<Consumer<Object>>> listeners = new HashMap<>();
+    private static final Consumer<Object>[] NO_LISTENERS = newListenerArray(0);
     
-    private EventBus() {}
+    // Listeners registered per exact type; only modified under the bus lock
+    private final Map<Class<?>, Consumer<Object>[]> listeners = new HashMap<>();
     
-    public static EventBus getInstance() {
-        return INSTANCE;
-    }
+    // Immutable snapshot, replaced whenever listeners change or a new type is resolved
+    private volatile Map<Class<?>, Consumer<Object>[]> dispatch = new HashMap<>();
+    
+    private final RingQueue<Object> queue = new RingQueue<>(QUEUE_CAPACITY);
     
     /**
      * Subscribe to events of a specific type
@@ -27,9 +41,12 @@ public class EventBus {
      * @param listener the callback to invoke when events are published
      */
     @SuppressWarnings("unchecked")
-    public <T> void subscribe(Class<T> eventType, Consumer<T> listener) {
-        listeners.computeIfAbsent(eventType, k -> new ArrayList<>())
-                 .add((Consumer<Object>) listener);
+    public synchronized <T> void subscribe(Class<T> eventType, Consumer<T> listener) {
+        Consumer<Object>[] current = listeners.getOrDefault(eventType, NO_LISTENERS);
+        Consumer<Object>[] updated = Arrays.copyOf(current, current.length + 1);
+        updated[current.length] = (Consumer<Object>) listener;
+        listeners.put(eventType, updated);
+        rebuildDispatch();
     }
     
     /**
@@ -37,26 +54,143 @@ public class EventBus {
      * @param event the event object to publish
      */
     public void publish(Object event) {
-        List<Consumer<Object>> eventListeners = listeners.get(event.getClass());
-        if (eventListeners != null) {
-            for (Consumer<Object> listener : eventListeners) {
-                listener.accept(event);
-            }
+        Consumer<Object>[] targets = dispatch.get(event.getClass());
+        if (targets == null) {
+            targets = resolve(event.getClass());
+        }
+        for (Consumer<Object> listener : targets) {
+            listener.accept(event);
+        }
+        if (event instanceof PooledEvent pooled) {
+            pooled.release();
         }
     }
     
+    /**
+     * Queue an event for dispatch on the next {@link #drainQueue()}.
+     * Safe to call from any thread; never locks or allocates. Game rules
+     * depend on these events, so if the queue is full the caller dispatches
+     * the backlog itself (in order) rather than losing the event. In the
+     * game every producer runs on the simulation thread, so listeners do too.
+     */
+    public void enqueue(Object event) {
+        while (!queue.offer(event)) {
+            drainQueue();
+        }
+    }
+    
+    /**
+     * Dispatch every queued event. Called by the simulation once per tick.
+     * @return the number of events dispatched
+     */
+    public int drainQueue() {
+        int dispatched = 0;
+        Object event;
+        while ((event = queue.poll()) != null) {
+            publish(event);
+            dispatched++;
+        }
+        return dispatched;
+    }
+    
     /**
      * Remove all listeners for a specific event type
      */
-    public void clearListeners(Class<?> eventType) {
+    public synchronized void clearListeners(Class<?> eventType) {
         listeners.remove(eventType);
+        rebuildDispatch();
     }
     
     /**
-     * Remove all listeners
+     * Remove all listeners and discard any queued events
      */
-    public void clearAllListeners() {
+    public synchronized void clearAllListeners() {
         listeners.clear();
+        dispatch = new HashMap<>();
+        while (queue.poll() != null) {
+            // Discard
+        }
+    }
+    
+    /**
+     * Resolve the dispatch table for a type that has not been published yet
+     */
+    private synchronized Consumer<Object>[] resolve(Class<?> type) {
+        Consumer<Object>[] targets = dispatch.get(type);
+        if (targets == null) {
+            Map<Class<?>, Consumer<Object>[]> updated = new HashMap<>(dispatch);
+            targets = collectListeners(type);
+            updated.put(type, targets);
+            dispatch = updated;
+        }
+        return targets;
+    }
+    
+    private void rebuildDispatch() {
+        Map<Class<?>, Consumer<Object>[]> updated = new HashMap<>();
+        for (Class<?> type : dispatch.keySet()) {
+            updated.put(type, collectListeners(type));
+        }
+        dispatch = updated;
+    }
+    
+    /**
+     * Listeners for a type and all of its supertypes, most specific first
+     */
+    private Consumer<Object>[] collectListeners(Class<?> type) {
+        List<Consumer<Object>> collected = new ArrayList<>();
+        List<Class<?>> pending = new ArrayList<>();
+        List<Class<?>> visited = new ArrayList<>();
+        pending.add(type);
+        
+        while (!pending.isEmpty()) {
+            Class<?> current = pending.remove(0);
+            if (current == null || visited.contains(current)) continue;
+            visited.add(current);
+            
+            Consumer<Object>[] direct = listeners.get(current);
+            if (direct != null) {
+                collected.addAll(List.of(direct));
+            }
+            pending.add(current.getSuperclass());
+            pending.addAll(List.of(current.getInterfaces()));
+        }
+        return collected.isEmpty() ? NO_LISTENERS : collected.toArray(newListenerArray(collected.size()));
+    }
+    
+    @SuppressWarnings("unchecked")
+    private static Consumer<Object>[] newListenerArray(int length) {
+        return (Consumer<Object>[]) new Consumer<?>[length];
+    }
+    
+    /**
+     * Event instances that are recycled through an {@link EventPool}.
+     * The bus releases them after dispatch, so listeners must not keep them.
+     */
+    public interface PooledEvent {
+        void release();
+    }
+    
+    /**
+     * Lock-free pool of reusable event instances
+     */
+    public static final class EventPool<T> {
+        private final RingQueue<T> free;
+        private final Supplier<T> factory;
+        
+        public EventPool(Supplier<T> factory, int capacity) {
+            this.factory = factory;
+            this.free = new RingQueue<>(capacity);
+        }
+        
+        public T acquire() {
+            T instance = free.poll();
+            return instance != null ? instance : factory.get();
+        }
+        
+        public void release(T instance) {
+            free.offer(instance); // Dropped if the pool is already full
+        }
     }
     
     // Common game events
@@ -70,13 +204,30 @@ public class EventBus {
         public WaveStartedEvent(int waveNumber) { this.waveNumber = waveNumber; }
     }
     
-    public static class EnemyReachedCastleEvent {
-        public final int damage;
+    public static class EnemyReachedCastleEvent implements PooledEvent {
+        private static final EventPool<EnemyReachedCastleEvent> POOL =
+            new EventPool<>(EnemyReachedCastleEvent::new, 64);
+        
+        public int damage;
+        
+        private EnemyReachedCastleEvent() {}
         public EnemyReachedCastleEvent(int damage) { this.damage = damage; }
+        
+        /**
+         * Take a recycled instance from the pool
+         */
+        public static EnemyReachedCastleEvent obtain(int damage) {
+            EnemyReachedCastleEvent event = POOL.acquire();
+            event.damage = damage;
+            return event;
+        }
+        
+        @Override
+        public void release() { POOL.release(this); }
     }
     
     public static class GameOverEvent {
         public final boolean victory;
         public GameOverEvent(boolean victory) { this.victory = victory; }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,126 @@
+package com.tdgame.core;
+
+import com.tdgame.util.LatencyHistogram;
+
+/**
+ * Per-stage frame timings: each simulation system and each canvas layer
+ * records its duration into a rolling histogram. Callers chain
+ * {@link #lap} so every stage costs a single System.nanoTime call, and
+ * recording never allocates.
+ *
+ * Each stage keeps the current window and the last completed one; the
+ * window rolls every {@link #WINDOW_FRAMES} frames, so percentiles reflect
+ * the last couple of seconds rather than the whole game.
+ */
+public class FrameProfiler {
+    
+    public static final int WINDOW_FRAMES = 120;
+    
+    public enum Stage {
+        // Simulation, in tick order
+        TICK("tick"),
+        ECONOMY("economy"),
+        WAVES("waves"),
+        COMBAT("combat"),
+        STRIKES("strikes"),
+        EVENTS("events"),
+        RULES("rules"),
+        // Canvas layers, in draw order
+        RENDER("render"),
+        BACKGROUND("background"),
+        TILES("tiles"),
+        PATH("path"),
+        SLOTS("slots"),
+        PLACEABLES("placeables"),
+        ENEMIES("enemies"),
+        TOWERS("towers"),
+        PROJECTILES("projectiles"),
+        EFFECTS("effects"),
+        UI("ui");
+        
+        private final String label;
+        
+        Stage(String label) { this.label = label; }
+        
+        public String getLabel() { return label; }
+    }
+    
+    private static final Stage[] STAGES = Stage.values();
+    
+    private final LatencyHistogram[] current = new LatencyHistogram[STAGES.length];
+    private final LatencyHistogram[] last = new LatencyHistogram[STAGES.length];
+    private boolean enabled = true;
+    private int framesInWindow = 0;
+    
+    public FrameProfiler() {
+        for (int i = 0; i < STAGES.length; i++) {
+            current[i] = new LatencyHistogram();
+            last[i] = new LatencyHistogram();
+        }
+    }
+    
+    /**
+     * Start a chain of spans
+     * @return the start timestamp, or 0 while disabled
+     */
+    public long start() {
+        return enabled ? System.nanoTime() : 0;
+    }
+    
+    /**
+     * Record the time since {@code since} against a stage
+     * @return the timestamp to pass to the next lap
+     */
+    public long lap(Stage stage, long since) {
+        if (!enabled) return 0;
+        long now = System.nanoTime();
+        current[stage.ordinal()].record(now - since);
+        return now;
+    }
+    
+    /**
+     * Mark the end of a frame, rolling the window when it is full
+     */
+    public void endFrame() {
+        if (++framesInWindow < WINDOW_FRAMES) return;
+        framesInWindow = 0;
+        for (int i = 0; i < STAGES.length; i++) {
+            LatencyHistogram completed = current[i];
+            current[i] = last[i];
+            current[i].reset();
+            last[i] = completed;
+        }
+    }
+    
+    /**
+     * Latest complete window of a stage, or the one in progress before the first window completes
+     */
+    public LatencyHistogram getHistogram(Stage stage) {
+        LatencyHistogram completed = last[stage.ordinal()];
+        return completed.getCount() > 0 ? completed : current[stage.ordinal()];
+    }
+    
+    /**
+     * p50, p99 and max of every stage that recorded anything, in microseconds
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder("Frame profile (us)      p50      p99      max\n");
+        for (Stage stage : STAGES) {
+            LatencyHistogram histogram = getHistogram(stage);
+            if (histogram.getCount() == 0) continue;
+            report.append(String.format("  %-16s %8.1f %8.1f %8.1f%n", stage.getLabel(),
+                histogram.getPercentile(0.50) / 1000.0,
+                histogram.getPercentile(0.99) / 1000.0,
+                histogram.getMax() / 1000.0));
+        }
+        return report.toString();
+    }
+    
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
@@ -1,6 +1,8 @@
 package com.tdgame.core;
 
 import com.tdgame.config.GameConfig;
+import com.tdgame.diagnostics.AllocationMeter;
+import com.tdgame.diagnostics.JfrEvents;
 import com.tdgame.model.grid.GridMap;
 import com.tdgame.model.systems.*;
 import com.tdgame.view.GameCanvas;
@@ -22,51 +24,59 @@ import java.util.ArrayList;
 public class Game {
     
     private final Stage stage;
+    private final GameContext context;
     private final GameConfig config;
     private final GridMap gridMap;
     
     // Core systems
-    private WaveManager waveManager;
-    private CombatSystem combatSystem;
-    private EconomyManager economyManager;
-    private AircraftStrikeSystem aircraftStrikeSystem;
-    private Rules rules;
-    private Pathfinding pathfinding;
+    private final Simulation simulation;
+    private final WaveManager waveManager;
+    private final CombatSystem combatSystem;
+    private final EconomyManager economyManager;
+    private final AircraftStrikeSystem aircraftStrikeSystem;
+    private final Rules rules;
     
     // View components
     private GameCanvas gameCanvas;
     private HUD hud;
     private InputController inputController;
     
+    // Latest HUD values, applied once per FX pulse
+    private final UiUpdateChannel uiChannel = new UiUpdateChannel();
+    
     // Game loop
     private AnimationTimer gameLoop;
     private boolean running = false;
     private boolean paused = false;
     
     public Game(Stage stage, String levelName, String difficulty) {
+        this(stage, levelName, difficulty, new GameContext());
+    }
+    
+    public Game(Stage stage, String levelName, String difficulty, GameContext context) {
         this.stage = stage;
+        this.context = context;
         this.config = GameConfig.load(levelName, difficulty);
-        this.gridMap = new GridMap(config);
+        this.simulation = new Simulation(context, config, uiChannel);
+        this.gridMap = simulation.getGridMap();
+        
+        // Shortcuts to the systems the view and controllers use
+        this.combatSystem = simulation.getCombatSystem();
+        this.economyManager = simulation.getEconomyManager();
+        this.waveManager = simulation.getWaveManager();
+        this.aircraftStrikeSystem = simulation.getAircraftStrikeSystem();
+        this.rules = simulation.getRules();
         
-        initializeSystems();
         initializeView();
         initializeGameLoop();
     }
     
-    private void initializeSystems() {
-        // Initialize systems with proper dependencies
-        combatSystem = new CombatSystem(config);
-        economyManager = new EconomyManager(config);
-        waveManager = new WaveManager(config, gridMap, combatSystem.getEnemies());
-        waveManager.setCombatSystem(combatSystem);
-        aircraftStrikeSystem = new AircraftStrikeSystem(config, gridMap, combatSystem);
-        rules = new Rules(config, waveManager, combatSystem);
-        pathfinding = new Pathfinding(config, gridMap);
-    }
-    
     private void initializeView() {
-        gameCanvas = new GameCanvas(config);
-        hud = new HUD(config);
+        gameCanvas = new GameCanvas(context, config);
+        hud = new HUD(context, config);
+        hud.bind(uiChannel, waveManager.getTotalWaves());
+        uiChannel.setSink(UiUpdateChannel.Field.MONEY,
+            amount -> context.getEventBus().publish(new EventBus.MoneyChangedEvent((int) amount)));
         inputController = new InputController(this, gameCanvas);
         
         BorderPane root = new BorderPane();
@@ -123,10 +133,17 @@ public class Game {
         gameLoop = new AnimationTimer() {
             @Override
             public void handle(long now) {
+                AllocationMeter allocations = context.getAllocationMeter();
                 if (!paused) {
+                    long before = allocations.begin();
                     update();
+                    allocations.end(AllocationMeter.Phase.UPDATE, before);
                 }
+                long before = allocations.begin();
                 render();
+                allocations.end(AllocationMeter.Phase.RENDER, before);
+                uiChannel.flush();
+                context.getProfiler().endFrame();
             }
         };
     }
@@ -138,12 +155,11 @@ public class Game {
         if (!running) {
             running = true;
             paused = false;
-            Time.reset();
-            economyManager.start();
-            waveManager.start();
+            context.getClock().reset();
+            simulation.start();
             
             // Subscribe to game over events
-            EventBus.getInstance().subscribe(EventBus.GameOverEvent.class, this::onGameOver);
+            context.getEventBus().subscribe(EventBus.GameOverEvent.class, this::onGameOver);
             
             gameLoop.start();
         }
@@ -163,7 +179,7 @@ public class Game {
     public void resume() {
         paused = false;
         economyManager.resume();
-        Time.reset(); // Reset to avoid large delta time
+        context.getClock().reset(); // Reset to avoid large delta time
     }
     
     /**
@@ -179,18 +195,16 @@ public class Game {
     }
     
     private void update() {
-        double deltaTime = Time.update();
+        double deltaTime = context.getClock().update();
         
         if (!running || paused) return;
         
-        // Update all systems in proper order
-        waveManager.update(deltaTime);
-        combatSystem.update(deltaTime);
-        aircraftStrikeSystem.update(deltaTime);
-        rules.update(deltaTime);
+        simulation.tick(deltaTime);
         
-        // Update HUD with current game state
-        hud.update(deltaTime, waveManager, rules);
+        // Publish HUD values; the UI picks up the latest ones on the next pulse
+        uiChannel.post(UiUpdateChannel.Field.TIMER, simulation.getSimulationTime());
+        uiChannel.post(UiUpdateChannel.Field.WAVE, waveManager.getCurrentWaveNumber());
+        uiChannel.post(UiUpdateChannel.Field.LEAK, rules.getCurrentLeakPercentage());
         
         // Check for game over conditions
         if (rules.isGameOver()) {
@@ -199,6 +213,9 @@ public class Game {
     }
     
     private void render() {
+        JfrEvents.RenderFrame event = new JfrEvents.RenderFrame();
+        event.begin();
+        
         // Update canvas with current game state
         gameCanvas.setRenderData(
             gridMap,
@@ -212,10 +229,18 @@ public class Game {
         );
         
         gameCanvas.render();
+        
+        if (event.shouldCommit()) {
+            event.enemies = combatSystem.getEnemies().size();
+            event.projectiles = combatSystem.getProjectiles().size();
+            event.towers = combatSystem.getTowers().size();
+            event.commit();
+        }
     }
     
     private void handleGameOver(boolean victory) {
         pause();
+        System.out.println((victory ? "Victory" : "Defeat") + " with seed " + context.getSeed());
         
         javafx.application.Platform.runLater(() -> {
             Alert alert = new Alert(victory ? Alert.AlertType.INFORMATION : Alert.AlertType.WARNING);
@@ -251,6 +276,9 @@ public class Game {
                 """);
             }
             
+            // Record the seed so the run can be replayed
+            alert.setContentText(alert.getContentText() + "\n🎲 Seed: " + context.getSeed());
+            
             alert.getButtonTypes().clear();
             alert.getButtonTypes().addAll(ButtonType.OK, ButtonType.CANCEL);
             
@@ -279,6 +307,8 @@ public class Game {
     }
 
     // Getters for systems (used by controllers)
+    public GameContext getContext() { return context; }
+    public Simulation getSimulation() { return simulation; }
     public GameConfig getConfig() { return config; }
     public GridMap getGridMap() { return gridMap; }
     public EconomyManager getEconomyManager() { return economyManager; }
@@ -287,4 +317,5 @@ public class Game {
     public Rules getRules() { return rules; }
     public boolean isRunning() { return running; }
     public boolean isPaused() { return paused; }
+    public UiUpdateChannel getUiChannel() { return uiChannel; }
 }
\ No newline at end of file
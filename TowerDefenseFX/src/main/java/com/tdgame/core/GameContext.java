@@ -0,0 +1,89 @@
+package com.tdgame.core;
+
+import com.tdgame.diagnostics.AllocationMeter;
+import com.tdgame.diagnostics.GameMetrics;
+import com.tdgame.model.actors.ActorPools;
+import com.tdgame.util.RNG;
+import com.tdgame.view.SpriteLoader;
+
+/**
+ * Everything a single game instance shares between its systems: the event bus,
+ * the clock, the random streams and service references.
+ * Systems receive the context instead of reaching for process-wide singletons,
+ * so several games can run side by side in one JVM without seeing each other's
+ * events, time or random draws.
+ */
+public class GameContext {
+    
+    private final EventBus eventBus;
+    private final Time clock;
+    private final FrameProfiler profiler;
+    private final GameMetrics metrics;
+    private final AllocationMeter allocationMeter;
+    private final long seed;
+    
+    // Independent streams so one subsystem's draws never shift another's
+    private final RNG waveRng;
+    private final RNG aaRng;
+    private final RNG tileRng;
+    
+    private SpriteLoader spriteLoader;
+    private ActorPools actorPools;
+    
+    public GameContext() {
+        this(RNG.randomSeed());
+    }
+    
+    public GameContext(long seed) {
+        this.eventBus = new EventBus();
+        this.clock = new Time();
+        this.profiler = new FrameProfiler();
+        this.metrics = new GameMetrics();
+        this.allocationMeter = new AllocationMeter();
+        this.seed = seed;
+        
+        RNG root = new RNG(seed);
+        this.waveRng = root.split();
+        this.aaRng = root.split();
+        this.tileRng = root.split();
+    }
+    
+    /**
+     * Sprite loader for this game, created on first use so headless
+     * simulations never touch image loading
+     */
+    public SpriteLoader getSpriteLoader() {
+        if (spriteLoader == null) {
+            spriteLoader = new SpriteLoader();
+        }
+        return spriteLoader;
+    }
+    
+    /**
+     * Pools of recycled enemies and projectiles for this game
+     */
+    public ActorPools getActorPools() {
+        if (actorPools == null) {
+            actorPools = new ActorPools(this);
+        }
+        return actorPools;
+    }
+    
+    /**
+     * Actor pool, frame profile and allocation summaries of this game
+     */
+    public String report() {
+        return getActorPools().report() + "\n" + profiler.report() + allocationMeter.report();
+    }
+    
+    // Getters
+    public EventBus getEventBus() { return eventBus; }
+    public Time getClock() { return clock; }
+    public FrameProfiler getProfiler() { return profiler; }
+    public GameMetrics getMetrics() { return metrics; }
+    public AllocationMeter getAllocationMeter() { return allocationMeter; }
+    public long getSeed() { return seed; }
+    public RNG getWaveRng() { return waveRng; }
+    public RNG getAARng() { return aaRng; }
+    public RNG getTileRng() { return tileRng; }
+}
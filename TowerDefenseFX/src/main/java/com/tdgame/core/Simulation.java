@@ -0,0 +1,114 @@
+package com.tdgame.core;
+
+import com.tdgame.config.GameConfig;
+import com.tdgame.diagnostics.JfrEvents;
+import com.tdgame.model.grid.GridMap;
+import com.tdgame.model.systems.*;
+
+/**
+ * Headless game state: owns every simulation system of one game and advances
+ * them in a fixed order. {@link Game} drives it from the JavaFX loop; batch
+ * runners drive it directly with fixed time steps and no UI at all.
+ */
+public class Simulation {
+    
+    private final GameContext context;
+    private final GameConfig config;
+    private final GridMap gridMap;
+    
+    private final CombatSystem combatSystem;
+    private final EconomyManager economyManager;
+    private final WaveManager waveManager;
+    private final AircraftStrikeSystem aircraftStrikeSystem;
+    private final Rules rules;
+    private final Pathfinding pathfinding;
+    
+    private long ticks = 0;
+    
+    public Simulation(GameContext context, GameConfig config) {
+        this(context, config, new UiUpdateChannel());
+    }
+    
+    public Simulation(GameContext context, GameConfig config, UiUpdateChannel uiChannel) {
+        this.context = context;
+        this.config = config;
+        this.gridMap = new GridMap(config, context.getTileRng());
+        
+        // Initialize systems with proper dependencies
+        combatSystem = new CombatSystem(context, config);
+        economyManager = new EconomyManager(config, uiChannel);
+        waveManager = new WaveManager(context, config, gridMap, combatSystem.getEnemies());
+        waveManager.setCombatSystem(combatSystem);
+        aircraftStrikeSystem = new AircraftStrikeSystem(config, gridMap, combatSystem);
+        rules = new Rules(context, config, waveManager, combatSystem);
+        pathfinding = new Pathfinding(config, gridMap);
+    }
+    
+    /**
+     * Start income and the first wave
+     */
+    public void start() {
+        economyManager.start();
+        waveManager.start();
+    }
+    
+    /**
+     * Advance every system by one step
+     * @param deltaTime simulated seconds
+     */
+    public void tick(double deltaTime) {
+        JfrEvents.Tick event = new JfrEvents.Tick();
+        event.begin();
+        FrameProfiler profiler = context.getProfiler();
+        long tickStart = profiler.start();
+        long t = tickStart;
+        
+        // Update all systems in proper order
+        economyManager.update(deltaTime);
+        t = profiler.lap(FrameProfiler.Stage.ECONOMY, t);
+        waveManager.update(deltaTime);
+        t = profiler.lap(FrameProfiler.Stage.WAVES, t);
+        combatSystem.update(deltaTime);
+        t = profiler.lap(FrameProfiler.Stage.COMBAT, t);
+        aircraftStrikeSystem.update(deltaTime);
+        t = profiler.lap(FrameProfiler.Stage.STRIKES, t);
+        
+        // Deliver events queued by actors during this tick before evaluating rules
+        context.getEventBus().drainQueue();
+        t = profiler.lap(FrameProfiler.Stage.EVENTS, t);
+        rules.update(deltaTime);
+        profiler.lap(FrameProfiler.Stage.RULES, t);
+        
+        context.getClock().advance(deltaTime);
+        ticks++;
+        profiler.lap(FrameProfiler.Stage.TICK, tickStart);
+        context.getMetrics().sample(this);
+        
+        if (event.shouldCommit()) {
+            event.tick = ticks;
+            event.deltaTime = deltaTime;
+            event.enemies = combatSystem.getEnemies().size();
+            event.projectiles = combatSystem.getProjectiles().size();
+            event.towers = combatSystem.getTowers().size();
+            event.aaDefenses = combatSystem.getAADefenses().size();
+            event.commit();
+        }
+    }
+    
+    public boolean isOver() {
+        return rules.isGameOver();
+    }
+    
+    // Getters
+    public GameContext getContext() { return context; }
+    public GameConfig getConfig() { return config; }
+    public GridMap getGridMap() { return gridMap; }
+    public CombatSystem getCombatSystem() { return combatSystem; }
+    public EconomyManager getEconomyManager() { return economyManager; }
+    public WaveManager getWaveManager() { return waveManager; }
+    public AircraftStrikeSystem getAircraftStrikeSystem() { return aircraftStrikeSystem; }
+    public Rules getRules() { return rules; }
+    public Pathfinding getPathfinding() { return pathfinding; }
+    public long getTicks() { return ticks; }
+    public double getSimulationTime() { return context.getClock().getSimulationTime(); }
+}
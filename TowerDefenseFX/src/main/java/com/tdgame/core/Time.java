@@ -1,37 +1,53 @@
 package com.tdgame.core;
 
 /**
- * Utility class for managing delta time calculations and game timing.
+ * Per-game clock for delta time calculations and simulation time.
  * Provides consistent time tracking for smooth gameplay regardless of framerate.
+ * Each {@link GameContext} owns its own clock, so games never share timing state.
  */
 public class Time {
-    private static long lastTime = System.nanoTime();
-    private static double deltaTime = 0.0;
+    private long lastTime = System.nanoTime();
+    private double deltaTime = 0.0;
+    private double simulationTime = 0.0;
     
     /**
      * Updates the delta time calculation. Should be called once per frame.
      * @return delta time in seconds since last update
      */
-    public static double update() {
+    public double update() {
         long currentTime = System.nanoTime();
         deltaTime = (currentTime - lastTime) / 1_000_000_000.0;
         lastTime = currentTime;
         return deltaTime;
     }
     
+    /**
+     * Advance simulation time by a step that has been simulated
+     */
+    public void advance(double deltaTime) {
+        simulationTime += deltaTime;
+    }
+    
     /**
      * Gets the current delta time without updating it.
      * @return delta time in seconds
      */
-    public static double getDeltaTime() {
+    public double getDeltaTime() {
         return deltaTime;
     }
     
+    /**
+     * Total simulated seconds since the game started
+     */
+    public double getSimulationTime() {
+        return simulationTime;
+    }
+    
     /**
      * Resets the time tracking. Useful when resuming after pause.
      */
-    public static void reset() {
+    public void reset() {
         lastTime = System.nanoTime();
         deltaTime = 0.0;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,89 @@
+package com.tdgame.core;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.DoubleConsumer;
+
+/**
+ * Coalescing channel for HUD values written by the simulation.
+ * Each field keeps only its latest value plus a dirty bit; the FX thread
+ * applies whatever changed once per pulse via {@link #flush()}. Posting
+ * never touches the FX event queue, so a burst of changes between two
+ * pulses costs one UI update instead of one Platform.runLater each.
+ */
+public class UiUpdateChannel {
+
+    public enum Field { MONEY, WAVE, LEAK, TIMER }
+
+    private static final Field[] FIELDS = Field.values();
+
+    private final AtomicLongArray values = new AtomicLongArray(FIELDS.length); // raw double bits
+    private final AtomicInteger dirty = new AtomicInteger(); // one bit per field
+    private final DoubleConsumer[] sinks = new DoubleConsumer[FIELDS.length];
+
+    private final AtomicLong posted = new AtomicLong();
+    private final AtomicLong coalesced = new AtomicLong();
+
+    /**
+     * Set the latest value of a field. Safe to call from any thread.
+     */
+    public void post(Field field, double value) {
+        int bit = 1 << field.ordinal();
+        values.set(field.ordinal(), Double.doubleToRawLongBits(value));
+        posted.incrementAndGet();
+
+        while (true) {
+            int current = dirty.get();
+            if ((current & bit) != 0) {
+                // Still waiting for a flush; the new value replaces the old one
+                coalesced.incrementAndGet();
+                return;
+            }
+            if (dirty.compareAndSet(current, current | bit)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Register the FX-side consumer for a field
+     */
+    public void setSink(Field field, DoubleConsumer sink) {
+        sinks[field.ordinal()] = sink;
+    }
+
+    /**
+     * Apply every changed field to its sink. Call once per FX pulse.
+     * @return the number of fields applied
+     */
+    public int flush() {
+        int changed = dirty.getAndSet(0);
+        int applied = 0;
+        for (int i = 0; changed != 0; i++, changed >>>= 1) {
+            if ((changed & 1) != 0 && sinks[i] != null) {
+                sinks[i].accept(Double.longBitsToDouble(values.get(i)));
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    /**
+     * Latest posted value of a field, flushed or not
+     */
+    public double getLatest(Field field) {
+        return Double.longBitsToDouble(values.get(field.ordinal()));
+    }
+
+    /**
+     * Number of posts that replaced a value before it reached the UI
+     */
+    public long getCoalescedCount() {
+        return coalesced.get();
+    }
+
+    public long getPostedCount() {
+        return posted.get();
+    }
+}
@@ -0,0 +1,108 @@
+package com.tdgame.diagnostics;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Heap bytes allocated by the calling thread during each update and render,
+ * read from {@code com.sun.management.ThreadMXBean}. Callers bracket a phase
+ * with {@link #begin()} and {@link #end}; both read a per-thread counter
+ * without allocating. On JVMs without thread allocation accounting every
+ * figure stays zero.
+ */
+public class AllocationMeter {
+    
+    public enum Phase {
+        UPDATE("update"),
+        RENDER("render");
+        
+        private final String label;
+        
+        Phase(String label) { this.label = label; }
+        
+        public String getLabel() { return label; }
+    }
+    
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+    private static final Phase[] PHASES = Phase.values();
+    
+    private final long[] last = new long[PHASES.length];
+    private final long[] max = new long[PHASES.length];
+    private final long[] total = new long[PHASES.length];
+    private final long[] count = new long[PHASES.length];
+    
+    /**
+     * Bytes allocated by the current thread so far, or -1 if not available
+     */
+    public static long currentThreadAllocatedBytes() {
+        if (THREADS == null || !THREADS.isThreadAllocatedMemoryEnabled()) return -1;
+        return THREADS.getCurrentThreadAllocatedBytes();
+    }
+    
+    public static boolean isSupported() {
+        return currentThreadAllocatedBytes() >= 0;
+    }
+    
+    /**
+     * Start a phase
+     * @return the counter to pass to {@link #end}, or -1 if not available
+     */
+    public long begin() {
+        return currentThreadAllocatedBytes();
+    }
+    
+    /**
+     * Record the bytes allocated since {@code begin} against a phase
+     */
+    public void end(Phase phase, long begin) {
+        if (begin < 0) return;
+        long bytes = currentThreadAllocatedBytes() - begin;
+        int i = phase.ordinal();
+        last[i] = bytes;
+        total[i] += bytes;
+        count[i]++;
+        if (bytes > max[i]) max[i] = bytes;
+    }
+    
+    /**
+     * Forget everything recorded so far, e.g. once warm-up is over
+     */
+    public void reset() {
+        for (int i = 0; i < PHASES.length; i++) {
+            last[i] = 0;
+            max[i] = 0;
+            total[i] = 0;
+            count[i] = 0;
+        }
+    }
+    
+    /**
+     * Mean, max and total bytes of every recorded phase
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder("Allocation (bytes)       mean        max      total\n");
+        for (Phase phase : PHASES) {
+            if (getCount(phase) == 0) continue;
+            report.append(String.format("  %-12s %10.0f %10d %10d%n", phase.getLabel(),
+                getMean(phase), getMax(phase), getTotal(phase)));
+        }
+        return report.toString();
+    }
+    
+    private static com.sun.management.ThreadMXBean threadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            return bean;
+        }
+        return null;
+    }
+    
+    // Getters
+    public long getLast(Phase phase) { return last[phase.ordinal()]; }
+    public long getMax(Phase phase) { return max[phase.ordinal()]; }
+    public long getTotal(Phase phase) { return total[phase.ordinal()]; }
+    public long getCount(Phase phase) { return count[phase.ordinal()]; }
+    public double getMean(Phase phase) {
+        long n = count[phase.ordinal()];
+        return n == 0 ? 0 : (double) total[phase.ordinal()] / n;
+    }
+}
@@ -0,0 +1,221 @@
+package com.tdgame.diagnostics;
+
+import com.tdgame.core.FrameProfiler;
+import com.tdgame.core.Simulation;
+import com.tdgame.model.actors.*;
+import com.tdgame.util.LatencyHistogram;
+import com.tdgame.util.ObjectPool;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Live metrics of one game for soak tests. The simulation thread samples its
+ * own state into an {@link AtomicLongArray} at most every publish interval;
+ * exporters on other threads read the array without ever taking a lock, so a
+ * slow scrape can never stall a tick. Values are published one by one, so a
+ * reader may see a snapshot that straddles two samples.
+ */
+public class GameMetrics {
+    
+    public static final long DEFAULT_PUBLISH_INTERVAL_NANOS = 250_000_000L;
+    
+    public enum Type { COUNTER, GAUGE }
+    
+    public enum Metric {
+        TICKS("tdgame_ticks_total", Type.COUNTER, "", "Simulation ticks since the game started"),
+        TICK_RATE("tdgame_tick_rate", Type.GAUGE, "", "Simulation ticks per wall-clock second"),
+        TICK_P50("tdgame_frame_seconds", Type.GAUGE, "stage=\"tick\",quantile=\"0.5\"", "Frame stage durations from the frame profiler"),
+        TICK_P99("tdgame_frame_seconds", Type.GAUGE, "stage=\"tick\",quantile=\"0.99\"", null),
+        RENDER_P50("tdgame_frame_seconds", Type.GAUGE, "stage=\"render\",quantile=\"0.5\"", null),
+        RENDER_P99("tdgame_frame_seconds", Type.GAUGE, "stage=\"render\",quantile=\"0.99\"", null),
+        SOLDIERS("tdgame_entities", Type.GAUGE, "type=\"soldier\"", "Live entities by type"),
+        FAST_SOLDIERS("tdgame_entities", Type.GAUGE, "type=\"soldier_fast\"", null),
+        HEAVY_SOLDIERS("tdgame_entities", Type.GAUGE, "type=\"soldier_heavy\"", null),
+        TANKS("tdgame_entities", Type.GAUGE, "type=\"tank\"", null),
+        AIRCRAFT("tdgame_entities", Type.GAUGE, "type=\"aircraft\"", null),
+        TOWERS("tdgame_entities", Type.GAUGE, "type=\"tower\"", null),
+        AA_DEFENSES("tdgame_entities", Type.GAUGE, "type=\"aa_defense\"", null),
+        PROJECTILES("tdgame_entities", Type.GAUGE, "type=\"projectile\"", null),
+        SPEED_BUMPS("tdgame_entities", Type.GAUGE, "type=\"speed_bump\"", null),
+        BOMBS("tdgame_entities", Type.GAUGE, "type=\"bomb\"", null),
+        PROJECTILE_POOL_IN_USE("tdgame_pool_objects", Type.GAUGE, "pool=\"projectile\",state=\"in_use\"", "Pooled objects by state"),
+        PROJECTILE_POOL_IDLE("tdgame_pool_objects", Type.GAUGE, "pool=\"projectile\",state=\"idle\"", null),
+        PROJECTILE_POOL_HIGH_WATER("tdgame_pool_high_water", Type.GAUGE, "pool=\"projectile\"", "Most pooled objects ever in use at once"),
+        MONEY("tdgame_money", Type.GAUGE, "", "Money available to the player"),
+        LEAK("tdgame_leak_ratio", Type.GAUGE, "", "Enemy power leaked to the castle, 0 to 1"),
+        WAVE("tdgame_wave", Type.GAUGE, "", "Current wave number"),
+        ALLOCATION_RATE("tdgame_allocation_bytes_per_second", Type.GAUGE, "", "Heap allocated by the game loop thread per second");
+        
+        private final String family;
+        private final Type type;
+        private final String labels;
+        private final String help;
+        
+        Metric(String family, Type type, String labels, String help) {
+            this.family = family;
+            this.type = type;
+            this.labels = labels;
+            this.help = help;
+        }
+        
+        /**
+         * Key of the metric in JSON snapshots
+         */
+        public String getKey() { return name().toLowerCase(); }
+        public String getFamily() { return family; }
+        public Type getType() { return type; }
+        public String getLabels() { return labels; }
+    }
+    
+    private static final Metric[] METRICS = Metric.values();
+    
+    private final AtomicLongArray values = new AtomicLongArray(METRICS.length);
+    private final long publishIntervalNanos;
+    
+    private volatile boolean enabled = false;
+    private long ticks = 0;
+    private long lastPublish = 0;
+    private long ticksAtLastPublish = 0;
+    private long allocatedAtLastPublish = -1;
+    
+    public GameMetrics() {
+        this(DEFAULT_PUBLISH_INTERVAL_NANOS);
+    }
+    
+    public GameMetrics(long publishIntervalNanos) {
+        this.publishIntervalNanos = publishIntervalNanos;
+    }
+    
+    /**
+     * Count one tick and publish a fresh sample when the interval has passed.
+     * Only call from the thread that runs the simulation.
+     */
+    public void sample(Simulation simulation) {
+        if (!enabled) return;
+        ticks++;
+        long now = System.nanoTime();
+        if (lastPublish != 0 && now - lastPublish < publishIntervalNanos) return;
+        publish(simulation, now);
+    }
+    
+    private void publish(Simulation simulation, long now) {
+        double seconds = (now - lastPublish) / 1_000_000_000.0;
+        boolean first = lastPublish == 0;
+        set(Metric.TICKS, ticks);
+        set(Metric.TICK_RATE, first || seconds <= 0 ? 0 : (ticks - ticksAtLastPublish) / seconds);
+        
+        FrameProfiler profiler = simulation.getContext().getProfiler();
+        LatencyHistogram tick = profiler.getHistogram(FrameProfiler.Stage.TICK);
+        LatencyHistogram render = profiler.getHistogram(FrameProfiler.Stage.RENDER);
+        set(Metric.TICK_P50, tick.getPercentile(0.50) / 1_000_000_000.0);
+        set(Metric.TICK_P99, tick.getPercentile(0.99) / 1_000_000_000.0);
+        set(Metric.RENDER_P50, render.getPercentile(0.50) / 1_000_000_000.0);
+        set(Metric.RENDER_P99, render.getPercentile(0.99) / 1_000_000_000.0);
+        
+        countEnemies(simulation.getCombatSystem().getEnemies());
+        set(Metric.TOWERS, simulation.getCombatSystem().getTowers().size());
+        set(Metric.AA_DEFENSES, simulation.getCombatSystem().getAADefenses().size());
+        set(Metric.PROJECTILES, simulation.getCombatSystem().getProjectiles().size());
+        set(Metric.SPEED_BUMPS, simulation.getCombatSystem().getSpeedBumps().size());
+        set(Metric.BOMBS, simulation.getCombatSystem().getBombs().size());
+        
+        ObjectPool<Projectile> pool = simulation.getContext().getActorPools().getProjectilePool();
+        set(Metric.PROJECTILE_POOL_IN_USE, pool.getInUse());
+        set(Metric.PROJECTILE_POOL_IDLE, pool.getIdle());
+        set(Metric.PROJECTILE_POOL_HIGH_WATER, pool.getHighWater());
+        
+        set(Metric.MONEY, simulation.getEconomyManager().getMoney());
+        set(Metric.LEAK, simulation.getRules().getCurrentLeakPercentage());
+        set(Metric.WAVE, simulation.getWaveManager().getCurrentWaveNumber());
+        
+        long allocated = AllocationMeter.currentThreadAllocatedBytes();
+        if (allocated >= 0 && allocatedAtLastPublish >= 0 && !first && seconds > 0) {
+            set(Metric.ALLOCATION_RATE, (allocated - allocatedAtLastPublish) / seconds);
+        }
+        allocatedAtLastPublish = allocated;
+        
+        ticksAtLastPublish = ticks;
+        lastPublish = now;
+    }
+    
+    private void countEnemies(List<Enemy> enemies) {
+        int soldiers = 0, fast = 0, heavy = 0, tanks = 0, aircraft = 0;
+        for (int i = 0; i < enemies.size(); i++) {
+            Enemy enemy = enemies.get(i);
+            if (!enemy.isAlive()) continue;
+            if (enemy instanceof Soldier) soldiers++;
+            else if (enemy instanceof SoldierFast) fast++;
+            else if (enemy instanceof SoldierHeavy) heavy++;
+            else if (enemy instanceof Tank) tanks++;
+            else if (enemy instanceof Aircraft) aircraft++;
+        }
+        set(Metric.SOLDIERS, soldiers);
+        set(Metric.FAST_SOLDIERS, fast);
+        set(Metric.HEAVY_SOLDIERS, heavy);
+        set(Metric.TANKS, tanks);
+        set(Metric.AIRCRAFT, aircraft);
+    }
+    
+    private void set(Metric metric, double value) {
+        values.set(metric.ordinal(), Double.doubleToRawLongBits(value));
+    }
+    
+    /**
+     * Latest published value of a metric; safe from any thread
+     */
+    public double get(Metric metric) {
+        return Double.longBitsToDouble(values.get(metric.ordinal()));
+    }
+    
+    /**
+     * Every metric in the Prometheus text exposition format
+     */
+    public String toPrometheus() {
+        StringBuilder text = new StringBuilder();
+        for (Metric metric : METRICS) {
+            if (metric.help != null) {
+                text.append("# HELP ").append(metric.family).append(' ').append(metric.help).append('\n');
+                text.append("# TYPE ").append(metric.family).append(' ')
+                    .append(metric.type.name().toLowerCase()).append('\n');
+            }
+            text.append(metric.family);
+            if (!metric.labels.isEmpty()) {
+                text.append('{').append(metric.labels).append('}');
+            }
+            text.append(' ').append(format(get(metric))).append('\n');
+        }
+        return text.toString();
+    }
+    
+    /**
+     * Every metric keyed by {@link Metric#getKey()}, in declaration order
+     */
+    public Map<String, Double> snapshot() {
+        Map<String, Double> snapshot = new LinkedHashMap<>();
+        for (Metric metric : METRICS) {
+            snapshot.put(metric.getKey(), get(metric));
+        }
+        return snapshot;
+    }
+    
+    private static String format(double value) {
+        if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        }
+        return Double.toString(value);
+    }
+    
+    /**
+     * Start or stop sampling; exporters enable it when they attach
+     */
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+    
+    public boolean isEnabled() {
+        return enabled;
+    }
+}
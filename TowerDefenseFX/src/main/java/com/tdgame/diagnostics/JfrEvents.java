@@ -0,0 +1,177 @@
+package com.tdgame.diagnostics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events for the game, so recordings show ticks, frames,
+ * waves, strikes and config loads next to GC and JIT activity.
+ * Events cost almost nothing while no recording is running; fill fields only
+ * after {@code shouldCommit()} when they take work to compute.
+ *
+ * Enable them with the bundled settings on top of the JDK defaults:
+ * {@code -XX:StartFlightRecording=settings=default,settings=jfr/tdgame.jfc}
+ */
+public final class JfrEvents {
+    
+    private static final String CATEGORY = "Tower Defense";
+    
+    private JfrEvents() {}
+    
+    @Name("com.tdgame.Tick")
+    @Label("Simulation Tick")
+    @Description("One fixed update of every simulation system")
+    @Category({CATEGORY, "Simulation"})
+    @StackTrace(false)
+    public static class Tick extends Event {
+        @Label("Tick")
+        public long tick;
+        
+        @Label("Delta Time (s)")
+        public double deltaTime;
+        
+        @Label("Enemies")
+        public int enemies;
+        
+        @Label("Projectiles")
+        public int projectiles;
+        
+        @Label("Towers")
+        public int towers;
+        
+        @Label("AA Defenses")
+        public int aaDefenses;
+    }
+    
+    @Name("com.tdgame.RenderFrame")
+    @Label("Render Frame")
+    @Description("Drawing one frame of the game canvas")
+    @Category({CATEGORY, "Rendering"})
+    @StackTrace(false)
+    public static class RenderFrame extends Event {
+        @Label("Enemies")
+        public int enemies;
+        
+        @Label("Projectiles")
+        public int projectiles;
+        
+        @Label("Towers")
+        public int towers;
+    }
+    
+    @Name("com.tdgame.WaveStart")
+    @Label("Wave Start")
+    @Category({CATEGORY, "Waves"})
+    @StackTrace(false)
+    public static class WaveStart extends Event {
+        @Label("Wave")
+        public int wave;
+        
+        @Label("Enemies")
+        @Description("Enemies scheduled in this wave")
+        public int enemies;
+        
+        @Label("Aircraft")
+        @Description("Whether an aircraft strike was launched with the wave")
+        public boolean aircraft;
+    }
+    
+    @Name("com.tdgame.WaveComplete")
+    @Label("Wave Complete")
+    @Description("Every enemy of the wave has spawned")
+    @Category({CATEGORY, "Waves"})
+    @StackTrace(false)
+    public static class WaveComplete extends Event {
+        @Label("Wave")
+        public int wave;
+        
+        @Label("Enemies")
+        public int enemies;
+        
+        @Label("Live Enemies")
+        public int liveEnemies;
+    }
+    
+    @Name("com.tdgame.SpawnBatch")
+    @Label("Spawn Batch")
+    @Description("Enemies spawned by one wave manager update")
+    @Category({CATEGORY, "Waves"})
+    @StackTrace(false)
+    public static class SpawnBatch extends Event {
+        @Label("Wave")
+        public int wave;
+        
+        @Label("Spawned")
+        public int spawned;
+        
+        @Label("Live Enemies")
+        public int liveEnemies;
+    }
+    
+    @Name("com.tdgame.StrikePlan")
+    @Label("Aircraft Strike Plan")
+    @Description("Choosing the row or column an aircraft strike will hit")
+    @Category({CATEGORY, "Aircraft"})
+    @StackTrace(false)
+    public static class StrikePlan extends Event {
+        @Label("Line")
+        @Description("row or column")
+        public String line;
+        
+        @Label("Index")
+        public int index;
+        
+        @Label("Structures")
+        @Description("Structures on the chosen line")
+        public int structures;
+        
+        @Label("Threat Score")
+        public double score;
+    }
+    
+    @Name("com.tdgame.StrikeExecute")
+    @Label("Aircraft Strike")
+    @Description("An aircraft strike damaging every structure on a line")
+    @Category({CATEGORY, "Aircraft"})
+    @StackTrace(false)
+    public static class StrikeExecute extends Event {
+        @Label("Line")
+        public String line;
+        
+        @Label("Index")
+        public int index;
+        
+        @Label("Damage")
+        public int damage;
+        
+        @Label("Structures Hit")
+        public int structuresHit;
+    }
+    
+    @Name("com.tdgame.ConfigLoad")
+    @Label("Config Load")
+    @Description("Loading and compiling the configuration of a level and difficulty")
+    @Category({CATEGORY, "Config"})
+    @StackTrace(false)
+    public static class ConfigLoad extends Event {
+        @Label("Level")
+        public String level;
+        
+        @Label("Difficulty")
+        public String difficulty;
+        
+        @Label("Binary Level")
+        @Description("Loaded from the compiled .tdlevel rather than JSON")
+        public boolean binaryLevel;
+        
+        @Label("Paths")
+        public int paths;
+        
+        @Label("Waves")
+        public int waves;
+    }
+}
@@ -0,0 +1,81 @@
+package com.tdgame.diagnostics;
+
+import com.tdgame.util.Json;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Appends a JSON snapshot of the current game's metrics to a file every
+ * interval, one object per line. Runs on its own daemon thread and reads the
+ * lock-free {@link GameMetrics} values, so disk stalls never reach the game.
+ */
+public class MetricsFileExporter implements AutoCloseable {
+    
+    private final BufferedWriter writer;
+    private final ScheduledExecutorService scheduler;
+    private volatile GameMetrics source;
+    
+    /**
+     * Open the file for appending and start writing snapshots
+     * @param intervalMillis time between two snapshots
+     */
+    public MetricsFileExporter(Path file, long intervalMillis) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-file-exporter");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::writeSnapshot, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        System.out.println("Metrics snapshots appended to " + file.toAbsolutePath());
+    }
+    
+    /**
+     * Export the metrics of another game, enabling its sampling
+     */
+    public void setSource(GameMetrics metrics) {
+        metrics.setEnabled(true);
+        this.source = metrics;
+    }
+    
+    /**
+     * Append one snapshot line now; skipped while there is no game
+     */
+    public synchronized void writeSnapshot() {
+        GameMetrics metrics = source;
+        if (metrics == null) return;
+        
+        Map<String, Object> line = new LinkedHashMap<>();
+        line.put("time", System.currentTimeMillis());
+        line.putAll(metrics.snapshot());
+        try {
+            writer.write(Json.toJson(line));
+            writer.newLine();
+            writer.flush();
+        } catch (IOException e) {
+            System.err.println("Failed to write metrics snapshot: " + e.getMessage());
+        }
+    }
+    
+    @Override
+    public synchronized void close() throws IOException {
+        scheduler.shutdownNow();
+        writeSnapshot();
+        writer.close();
+    }
+}
@@ -0,0 +1,80 @@
+package com.tdgame.diagnostics;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Serves the metrics of the current game at {@code http://127.0.0.1:<port>/metrics}
+ * in the Prometheus text format. Bound to the loopback address only, and
+ * requests are answered on the server's own thread from the lock-free
+ * {@link GameMetrics} values, never from the simulation thread.
+ */
+public class MetricsServer implements AutoCloseable {
+    
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    
+    private final HttpServer server;
+    private volatile GameMetrics source;
+    
+    /**
+     * Bind and start serving
+     * @param port loopback port, or 0 for any free one
+     */
+    public MetricsServer(int port) throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 0);
+        server.createContext("/metrics", this::handle);
+        
+        // Threads inherit daemon status, so starting from a daemon thread keeps
+        // the server's dispatcher thread from holding the JVM open on exit
+        Thread starter = new Thread(server::start, "metrics-server-start");
+        starter.setDaemon(true);
+        starter.start();
+        try {
+            starter.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        System.out.println("Metrics served at http://127.0.0.1:" + getPort() + "/metrics");
+    }
+    
+    /**
+     * Serve the metrics of another game, enabling its sampling
+     */
+    public void setSource(GameMetrics metrics) {
+        metrics.setEnabled(true);
+        this.source = metrics;
+    }
+    
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            GameMetrics metrics = source;
+            byte[] body = (metrics != null ? metrics.toPrometheus() : "").getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length == 0 ? -1 : body.length);
+            if (body.length > 0) {
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            }
+        }
+    }
+    
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+    
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+}
@@ -1,5 +1,6 @@
 package com.tdgame.model.actors;
 
+import com.tdgame.model.systems.EnemyIndex;
 import com.tdgame.util.Math2D;
 import com.tdgame.util.RNG;
 
@@ -9,7 +10,7 @@ import java.util.List;
  * Anti-aircraft defense system.
  * Can only target aircraft with a hit chance percentage.
  */
-public class AADefense {
+public class AADefense implements Structure {
     private double x, y;
     private double hitChance;
     private double range;
@@ -22,8 +23,11 @@ public class AADefense {
     private Aircraft currentTarget = null;
     private boolean alive = true;
     private com.tdgame.model.grid.BuildSlot buildSlot = null;
+    private final RNG rng;
+    private EnemyIndex enemyIndex = null;
     
-    public AADefense(double hitChance, double range, int hp, int spriteIndex) {
+    public AADefense(double hitChance, double range, int hp, int spriteIndex, RNG rng) {
+        this.rng = rng;
         this.hitChance = hitChance;
         this.range = range;
         this.hp = hp;
@@ -58,7 +62,9 @@ public class AADefense {
         currentTarget = null;
         double bestPriority = -1;
         
-        for (Enemy enemy : enemies) {
+        // Aircraft fly straight rather than along a path, so the index only separates them from ground units
+        List<? extends Enemy> candidates = enemyIndex != null ? enemyIndex.getAircraft() : enemies;
+        for (Enemy enemy : candidates) {
             if (enemy instanceof Aircraft && isValidTarget((Aircraft)enemy)) {
                 double distance = Math2D.distance(x, y, enemy.getX(), enemy.getY());
                 double pixelRange = range * 64; // Convert tile range to pixels
@@ -89,7 +95,7 @@ public class AADefense {
         System.out.println("🎯 AA firing at Aircraft! Hit chance: " + String.format("%.0f%%", hitChance * 100));
         
         // Roll for hit chance
-        if (RNG.nextBoolean(hitChance)) {
+        if (rng.nextBoolean(hitChance)) {
             target.takeDamage(999); // AA weapons are lethal to aircraft
             System.out.println("💥 AA HIT! Aircraft destroyed!");
         } else {
@@ -126,6 +132,10 @@ public class AADefense {
         this.y = y;
     }
     
+    public void setEnemyIndex(EnemyIndex enemyIndex) {
+        this.enemyIndex = enemyIndex;
+    }
+    
     public void setBuildSlot(com.tdgame.model.grid.BuildSlot buildSlot) {
         this.buildSlot = buildSlot;
     }
@@ -0,0 +1,97 @@
+package com.tdgame.model.actors;
+
+import com.tdgame.config.Balance;
+import com.tdgame.core.GameContext;
+import com.tdgame.model.grid.GridMap;
+import com.tdgame.util.ObjectPool;
+
+import java.util.List;
+
+/**
+ * Pools of the short-lived actors of one game: ground enemies and projectiles.
+ * {@link com.tdgame.model.systems.WaveManager} and the towers obtain from here,
+ * and {@link com.tdgame.model.systems.CombatSystem} releases once an actor has
+ * left its lists. Aircraft are rare and are never pooled.
+ */
+public class ActorPools {
+
+    private final ObjectPool<Soldier> soldiers;
+    private final ObjectPool<SoldierFast> fastSoldiers;
+    private final ObjectPool<SoldierHeavy> heavySoldiers;
+    private final ObjectPool<Tank> tanks;
+    private final ObjectPool<Projectile> projectiles;
+
+    public ActorPools(GameContext context) {
+        this.soldiers = new ObjectPool<>("soldier", () -> new Soldier(context));
+        this.fastSoldiers = new ObjectPool<>("soldierFast", () -> new SoldierFast(context));
+        this.heavySoldiers = new ObjectPool<>("soldierHeavy", () -> new SoldierHeavy(context));
+        this.tanks = new ObjectPool<>("tank", () -> new Tank(context));
+        this.projectiles = new ObjectPool<>("projectile", Projectile::new);
+    }
+
+    public Soldier obtainSoldier(Balance.EnemyStats stats, GridMap.Path path, int lane) {
+        return reset(soldiers.obtain(), stats, path, lane);
+    }
+
+    public SoldierFast obtainSoldierFast(Balance.EnemyStats stats, GridMap.Path path, int lane) {
+        return reset(fastSoldiers.obtain(), stats, path, lane);
+    }
+
+    public SoldierHeavy obtainSoldierHeavy(Balance.EnemyStats stats, GridMap.Path path, int lane) {
+        return reset(heavySoldiers.obtain(), stats, path, lane);
+    }
+
+    public Tank obtainTank(Balance.EnemyStats stats, GridMap.Path path, int lane) {
+        return reset(tanks.obtain(), stats, path, lane);
+    }
+
+    public Projectile obtainProjectile(double startX, double startY, Enemy target,
+                                       double speed, int damage, int spriteIndex) {
+        Projectile projectile = projectiles.obtain();
+        projectile.reset(startX, startY, target, speed, damage, spriteIndex);
+        return projectile;
+    }
+
+    /**
+     * Return a dead enemy to its pool. Enemies of unpooled kinds are ignored.
+     */
+    public void release(Enemy enemy) {
+        if (enemy instanceof Soldier soldier) {
+            soldiers.release(soldier);
+        } else if (enemy instanceof SoldierFast soldier) {
+            fastSoldiers.release(soldier);
+        } else if (enemy instanceof SoldierHeavy soldier) {
+            heavySoldiers.release(soldier);
+        } else if (enemy instanceof Tank tank) {
+            tanks.release(tank);
+        }
+    }
+
+    public void release(Projectile projectile) {
+        projectiles.release(projectile);
+    }
+
+    private static <T extends Enemy> T reset(T enemy, Balance.EnemyStats stats, GridMap.Path path, int lane) {
+        enemy.reset(stats, path, lane);
+        return enemy;
+    }
+
+    /**
+     * High-water mark and reuse ratio of every pool, one line each
+     */
+    public String report() {
+        StringBuilder report = new StringBuilder("Actor pools:");
+        for (ObjectPool<?> pool : getPools()) {
+            report.append("\n  ").append(pool);
+        }
+        return report.toString();
+    }
+
+    public ObjectPool<Projectile> getProjectilePool() {
+        return projectiles;
+    }
+
+    public List<ObjectPool<?>> getPools() {
+        return List.of(soldiers, fastSoldiers, heavySoldiers, tanks, projectiles);
+    }
+}
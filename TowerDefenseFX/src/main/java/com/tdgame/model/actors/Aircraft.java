@@ -3,12 +3,12 @@ package com.tdgame.model.actors;
 import com.tdgame.config.Balance;
 import com.tdgame.config.GameConfig;
 import com.tdgame.core.EventBus;
+import com.tdgame.core.GameContext;
+import com.tdgame.diagnostics.JfrEvents;
 import com.tdgame.model.systems.CombatSystem;
+import com.tdgame.model.systems.ThreatIndex;
 import com.tdgame.util.Math2D;
 
-import java.util.List;
-import java.util.ArrayList;
-
 /**
  * Fast-moving aircraft enemy.
  * Flies straight across the map and strikes the row/column with most towers.
@@ -32,8 +32,8 @@ public class Aircraft extends Enemy {
     private int strikeCol = -1;
     private boolean isRowStrike = true; // true for row, false for column
     
-    public Aircraft(Balance.EnemyStats stats) {
-        super(50, stats.speed, stats.power, stats.spriteIndex); // Aircraft have some HP for AA
+    public Aircraft(GameContext context, Balance.EnemyStats stats) {
+        super(context, 50, stats.speed, stats.power, stats.spriteIndex); // Aircraft have some HP for AA
         this.maxHp = 50;
         this.currentHp = 50;
     }
@@ -103,44 +103,19 @@ public class Aircraft extends Enemy {
     private void planStrike() {
         if (combatSystem == null) return;
         
-        List<Tower> towers = combatSystem.getTowers();
-        List<AADefense> aaList = combatSystem.getAADefenses();
+        JfrEvents.StrikePlan event = new JfrEvents.StrikePlan();
+        event.begin();
+        ThreatIndex threats = combatSystem.getThreatIndex();
         
         int gridCols = gameConfig.getGridCols();
         int gridRows = gameConfig.getGridRows();
         
-        // Count towers in each row and column
-        int[] rowCounts = new int[gridRows];
-        int[] colCounts = new int[gridCols];
-        
-        // Count towers
-        for (Tower tower : towers) {
-            if (tower.isAlive()) {
-                int col = (int)(tower.getX() / gameConfig.getTileSize());
-                int row = (int)(tower.getY() / gameConfig.getTileSize());
-                
-                if (col >= 0 && col < gridCols) colCounts[col]++;
-                if (row >= 0 && row < gridRows) rowCounts[row]++;
-            }
-        }
-        
-        // Count AA defenses
-        for (AADefense aa : aaList) {
-            if (aa.isAlive()) {
-                int col = (int)(aa.getX() / gameConfig.getTileSize());
-                int row = (int)(aa.getY() / gameConfig.getTileSize());
-                
-                if (col >= 0 && col < gridCols) colCounts[col]++;
-                if (row >= 0 && row < gridRows) rowCounts[row]++;
-            }
-        }
-        
         // Find row with most towers
         int maxRowCount = 0;
         int bestRow = gridRows / 2; // Default to middle
-        for (int i = 0; i < rowCounts.length; i++) {
-            if (rowCounts[i] > maxRowCount) {
-                maxRowCount = rowCounts[i];
+        for (int i = 0; i < gridRows; i++) {
+            if (threats.getRowCount(i) > maxRowCount) {
+                maxRowCount = threats.getRowCount(i);
                 bestRow = i;
             }
         }
@@ -148,9 +123,9 @@ public class Aircraft extends Enemy {
         // Find column with most towers
         int maxColCount = 0;
         int bestCol = gridCols / 2; // Default to middle
-        for (int i = 0; i < colCounts.length; i++) {
-            if (colCounts[i] > maxColCount) {
-                maxColCount = colCounts[i];
+        for (int i = 0; i < gridCols; i++) {
+            if (threats.getColumnCount(i) > maxColCount) {
+                maxColCount = threats.getColumnCount(i);
                 bestCol = i;
             }
         }
@@ -187,6 +162,14 @@ public class Aircraft extends Enemy {
         
         // Set initial position
         setPosition(x, y);
+        
+        if (event.shouldCommit()) {
+            event.line = isRowStrike ? "row" : "column";
+            event.index = isRowStrike ? strikeRow : strikeCol;
+            event.structures = isRowStrike ? threats.getRowCount(strikeRow) : threats.getColumnCount(strikeCol);
+            event.score = isRowStrike ? threats.getRowScore(strikeRow) : threats.getColumnScore(strikeCol);
+            event.commit();
+        }
     }
     
     /**
@@ -208,13 +191,23 @@ public class Aircraft extends Enemy {
         
         int damage = 80; // High aircraft strike damage!
         
-        
+        JfrEvents.StrikeExecute event = new JfrEvents.StrikeExecute();
+        event.begin();
+        int hit;
         if (isRowStrike) {
             // Strike entire row
-            strikeRow(strikeRow, damage);
+            hit = strikeRow(strikeRow, damage);
         } else {
             // Strike entire column
-            strikeColumn(strikeCol, damage);
+            hit = strikeColumn(strikeCol, damage);
+        }
+        
+        if (event.shouldCommit()) {
+            event.line = isRowStrike ? "row" : "column";
+            event.index = isRowStrike ? strikeRow : strikeCol;
+            event.damage = damage;
+            event.structuresHit = hit;
+            event.commit();
         }
         
         // Aircraft continues flying off map (don't set isFlying = false)
@@ -223,77 +216,19 @@ public class Aircraft extends Enemy {
     /**
      * Strike all towers and AA in a row
      */
-    private void strikeRow(int row, int damage) {
-        List<Tower> towers = combatSystem.getTowers();
-        List<AADefense> aaList = combatSystem.getAADefenses();
-        
-        double tileSize = gameConfig.getTileSize();
-        double rowY = row * tileSize + tileSize/2;
-        
-        int towersHit = 0;
-        int aaHit = 0;
-        
-        // Strike towers in this row
-        for (Tower tower : towers) {
-            if (tower.isAlive()) {
-                int towerRow = (int)(tower.getY() / tileSize);
-                if (towerRow == row) {
-                    tower.takeDamage(damage);
-                    towersHit++;
-                }
-            }
-        }
-        
-        // Strike AA defenses in this row
-        for (AADefense aa : aaList) {
-            if (aa.isAlive()) {
-                int aaRow = (int)(aa.getY() / tileSize);
-                if (aaRow == row) {
-                    aa.takeDamage(damage);
-                    aaHit++;
-                }
-            }
-        }
-        
-        System.out.println("🚀 Row " + row + " strike complete! Hit " + towersHit + " towers, " + aaHit + " AA defenses.");
+    private int strikeRow(int row, int damage) {
+        int hit = combatSystem.getThreatIndex().strikeRow(row, damage);
+        System.out.println("🚀 Row " + row + " strike complete! Hit " + hit + " towers and AA defenses.");
+        return hit;
     }
     
     /**
      * Strike all towers and AA in a column
      */
-    private void strikeColumn(int col, int damage) {
-        List<Tower> towers = combatSystem.getTowers();
-        List<AADefense> aaList = combatSystem.getAADefenses();
-        
-        double tileSize = gameConfig.getTileSize();
-        double colX = col * tileSize + tileSize/2;
-        
-        int towersHit = 0;
-        int aaHit = 0;
-        
-        // Strike towers in this column
-        for (Tower tower : towers) {
-            if (tower.isAlive()) {
-                int towerCol = (int)(tower.getX() / tileSize);
-                if (towerCol == col) {
-                    tower.takeDamage(damage);
-                    towersHit++;
-                }
-            }
-        }
-        
-        // Strike AA defenses in this column
-        for (AADefense aa : aaList) {
-            if (aa.isAlive()) {
-                int aaCol = (int)(aa.getX() / tileSize);
-                if (aaCol == col) {
-                    aa.takeDamage(damage);
-                    aaHit++;
-                }
-            }
-        }
-        
-        System.out.println("🚀 Column " + col + " strike complete! Hit " + towersHit + " towers, " + aaHit + " AA defenses.");
+    private int strikeColumn(int col, int damage) {
+        int hit = combatSystem.getThreatIndex().strikeColumn(col, damage);
+        System.out.println("🚀 Column " + col + " strike complete! Hit " + hit + " towers and AA defenses.");
+        return hit;
     }
     
     @Override
@@ -346,7 +281,7 @@ public class Aircraft extends Enemy {
     @Override
     protected void onReachedEnd() {
         // Aircraft don't damage castle directly, but their power counts for victory conditions
-        EventBus.getInstance().publish(new EventBus.EnemyReachedCastleEvent(0)); // No direct damage
+        context.getEventBus().enqueue(EventBus.EnemyReachedCastleEvent.obtain(0)); // No direct damage
     }
     
     /**
@@ -1,5 +1,7 @@
 package com.tdgame.model.actors;
 
+import com.tdgame.config.Balance;
+import com.tdgame.core.GameContext;
 import com.tdgame.util.Math2D;
 import com.tdgame.model.grid.GridMap;
 
@@ -9,6 +11,11 @@ import com.tdgame.model.grid.GridMap;
  */
 public abstract class Enemy {
     
+    // Furthest an enemy strays from the centre of its path, in pixels
+    public static final double MAX_LANE_OFFSET = 16;
+    
+    protected final GameContext context;
+    
     protected double x, y;
     protected int maxHp;
     protected int currentHp;
@@ -22,15 +29,19 @@ public abstract class Enemy {
     protected boolean alive = true;
     protected boolean reachedEnd = false;
     
+    // Bumped on every reset so holders can tell a recycled enemy from the one they targeted
+    protected int generation = 0;
+    
     // Lane system for dual-lane movement
     protected int lane = 0; // 0 = top lane, 1 = bottom lane  
-    protected double laneOffset = 16; // Pixels offset from center path
+    protected double laneOffset = MAX_LANE_OFFSET; // Pixels offset from center path
     
     // Status effects
     protected double slowMultiplier = 1.0;
     protected double slowDuration = 0.0;
     
-    public Enemy(int hp, double speed, int power, int spriteIndex) {
+    public Enemy(GameContext context, int hp, double speed, int power, int spriteIndex) {
+        this.context = context;
         this.maxHp = hp;
         this.currentHp = hp;
         this.baseSpeed = speed;
@@ -39,6 +50,38 @@ public abstract class Enemy {
         this.spriteIndex = spriteIndex;
     }
     
+    /**
+     * Reinitialise a pooled enemy for a new spawn
+     */
+    public void reset(Balance.EnemyStats stats, GridMap.Path path, int lane) {
+        this.maxHp = stats.hp;
+        this.currentHp = stats.hp;
+        this.baseSpeed = stats.speed;
+        this.currentSpeed = stats.speed;
+        this.power = stats.power;
+        this.spriteIndex = stats.spriteIndex;
+        
+        this.pathProgress = 0.0;
+        this.alive = true;
+        this.reachedEnd = false;
+        this.slowMultiplier = 1.0;
+        this.slowDuration = 0.0;
+        this.generation++;
+        
+        resetSpecific(stats);
+        
+        // Lane first so the start position gets its offset once
+        this.lane = lane;
+        setPath(path);
+    }
+    
+    /**
+     * Reset subclass state when a pooled enemy is reused
+     */
+    protected void resetSpecific(Balance.EnemyStats stats) {
+        // No extra state by default
+    }
+    
     /**
      * Set the path this enemy will follow
      */
@@ -265,7 +308,9 @@ public abstract class Enemy {
     public boolean isAlive() { return alive; }
     public boolean hasReachedEnd() { return reachedEnd; }
     public double getPathProgress() { return pathProgress; }
+    public GridMap.Path getPath() { return path; }
     public double getSlowMultiplier() { return slowMultiplier; }
+    public int getGeneration() { return generation; }
     
     public void setPosition(double x, double y) {
         this.x = x;
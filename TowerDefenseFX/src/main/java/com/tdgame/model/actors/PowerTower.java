@@ -3,7 +3,6 @@ package com.tdgame.model.actors;
 import com.tdgame.config.Balance;
 import com.tdgame.util.Math2D;
 import java.util.List;
-import java.util.ArrayList;
 
 /**
  * High-damage, slow-firing tower.
@@ -11,7 +10,6 @@ import java.util.ArrayList;
  */
 public class PowerTower extends Tower {
     
-    private List<Projectile> projectiles = new ArrayList<>();
     private double projectileSpeed;
     
     // Rotation animation
@@ -81,18 +79,7 @@ public class PowerTower extends Tower {
         
         // Create and fire projectile with correct sprite
         int projectileSprite = 272; // Tower projectile sprite
-        Projectile projectile = new Projectile(x, y, target, projectileSpeed, damage, projectileSprite);
-        projectiles.add(projectile);
-    }
-    
-    /**
-     * Update projectiles (called by combat system)
-     */
-    public void updateProjectiles(double deltaTime) {
-        projectiles.removeIf(p -> {
-            p.update(deltaTime);
-            return !p.isActive();
-        });
+        launchProjectile(target, projectileSpeed, projectileSprite);
     }
     
     @Override
@@ -102,8 +89,9 @@ public class PowerTower extends Tower {
         return enemy.getPathProgress() + hpRatio * 0.5;
     }
     
-    public List<Projectile> getProjectiles() {
-        return projectiles;
+    @Override
+    protected boolean targetsFurthestAlong() {
+        return false;
     }
     
     // Getters for animation
@@ -14,6 +14,7 @@ public class Projectile {
     private int damage;
     private int spriteIndex;
     private Enemy target;
+    private int targetGeneration;
     
     private boolean active = true;
     private boolean hitTarget = false;
@@ -22,14 +23,33 @@ public class Projectile {
     private final double HIT_EFFECT_TIME = 0.3;
     
     public Projectile(double startX, double startY, Enemy target, double speed, int damage, int spriteIndex) {
+        reset(startX, startY, target, speed, damage, spriteIndex);
+    }
+    
+    /**
+     * Blank projectile for {@link ActorPools}; reset before use
+     */
+    Projectile() {
+    }
+    
+    /**
+     * Reinitialise a pooled projectile for a new shot
+     */
+    public void reset(double startX, double startY, Enemy target, double speed, int damage, int spriteIndex) {
         this.x = startX;
         this.y = startY;
         this.target = target;
+        this.targetGeneration = target.getGeneration();
         this.targetX = target.getX();
         this.targetY = target.getY();
         this.speed = speed;
         this.damage = damage;
         this.spriteIndex = spriteIndex;
+        
+        this.active = true;
+        this.hitTarget = false;
+        this.showHitEffect = false;
+        this.hitEffectDuration = 0.0;
     }
     
     /**
@@ -49,7 +69,7 @@ public class Projectile {
         if (!active || hitTarget) return;
         
         // Update target position if target is still alive
-        if (target != null && target.isAlive()) {
+        if (isTargetLive()) {
             targetX = target.getX();
             targetY = target.getY();
         }
@@ -72,7 +92,7 @@ public class Projectile {
      * Handle projectile hitting its target
      */
     private void onHit() {
-        if (target != null && target.isAlive()) {
+        if (isTargetLive()) {
             target.takeDamage(damage);
         }
         
@@ -85,6 +105,13 @@ public class Projectile {
         y = targetY;
     }
     
+    /**
+     * Target still alive and not recycled into a new enemy since the shot
+     */
+    private boolean isTargetLive() {
+        return target != null && target.isAlive() && target.getGeneration() == targetGeneration;
+    }
+    
     /**
      * Manually destroy the projectile
      */
@@ -2,6 +2,7 @@ package com.tdgame.model.actors;
 
 import com.tdgame.config.Balance;
 import com.tdgame.core.EventBus;
+import com.tdgame.core.GameContext;
 
 /**
  * Basic enemy soldier unit.
@@ -9,8 +10,15 @@ import com.tdgame.core.EventBus;
  */
 public class Soldier extends Enemy {
     
-    public Soldier(Balance.EnemyStats stats) {
-        super(stats.hp, stats.speed, stats.power, stats.spriteIndex);
+    public Soldier(GameContext context, Balance.EnemyStats stats) {
+        super(context, stats.hp, stats.speed, stats.power, stats.spriteIndex);
+    }
+    
+    /**
+     * Blank soldier for {@link ActorPools}; reset before use
+     */
+    Soldier(GameContext context) {
+        super(context, 0, 0, 0, 0);
     }
     
     @Override
@@ -32,6 +40,6 @@ public class Soldier extends Enemy {
     @Override
     protected void onReachedEnd() {
         // Enemy reached the castle
-        EventBus.getInstance().publish(new EventBus.EnemyReachedCastleEvent(power));
+        context.getEventBus().enqueue(EventBus.EnemyReachedCastleEvent.obtain(power));
     }
 }
\ No newline at end of file
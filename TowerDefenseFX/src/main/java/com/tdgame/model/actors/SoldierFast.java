@@ -2,6 +2,7 @@ package com.tdgame.model.actors;
 
 import com.tdgame.config.Balance;
 import com.tdgame.core.EventBus;
+import com.tdgame.core.GameContext;
 
 /**
  * Fast soldier unit (Green/Grey sprite).
@@ -9,8 +10,15 @@ import com.tdgame.core.EventBus;
  */
 public class SoldierFast extends Enemy {
     
-    public SoldierFast(Balance.EnemyStats stats) {
-        super(stats.hp, stats.speed, stats.power, stats.spriteIndex);
+    public SoldierFast(GameContext context, Balance.EnemyStats stats) {
+        super(context, stats.hp, stats.speed, stats.power, stats.spriteIndex);
+    }
+    
+    /**
+     * Blank fast soldier for {@link ActorPools}; reset before use
+     */
+    SoldierFast(GameContext context) {
+        super(context, 0, 0, 0, 0);
     }
     
     @Override
@@ -31,6 +39,6 @@ public class SoldierFast extends Enemy {
     @Override
     protected void onReachedEnd() {
         // Fast soldier reached the castle
-        EventBus.getInstance().publish(new EventBus.EnemyReachedCastleEvent(power));
+        context.getEventBus().enqueue(EventBus.EnemyReachedCastleEvent.obtain(power));
     }
 }
\ No newline at end of file
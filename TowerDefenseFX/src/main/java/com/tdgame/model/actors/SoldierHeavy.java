@@ -2,6 +2,7 @@ package com.tdgame.model.actors;
 
 import com.tdgame.config.Balance;
 import com.tdgame.core.EventBus;
+import com.tdgame.core.GameContext;
 
 /**
  * Heavy soldier unit (Blue/Red sprite).
@@ -9,8 +10,15 @@ import com.tdgame.core.EventBus;
  */
 public class SoldierHeavy extends Enemy {
     
-    public SoldierHeavy(Balance.EnemyStats stats) {
-        super(stats.hp, stats.speed, stats.power, stats.spriteIndex);
+    public SoldierHeavy(GameContext context, Balance.EnemyStats stats) {
+        super(context, stats.hp, stats.speed, stats.power, stats.spriteIndex);
+    }
+    
+    /**
+     * Blank heavy soldier for {@link ActorPools}; reset before use
+     */
+    SoldierHeavy(GameContext context) {
+        super(context, 0, 0, 0, 0);
     }
     
     @Override
@@ -31,6 +39,6 @@ public class SoldierHeavy extends Enemy {
     @Override
     protected void onReachedEnd() {
         // Heavy soldier reached the castle
-        EventBus.getInstance().publish(new EventBus.EnemyReachedCastleEvent(power));
+        context.getEventBus().enqueue(EventBus.EnemyReachedCastleEvent.obtain(power));
     }
 }
\ No newline at end of file
@@ -0,0 +1,12 @@
+package com.tdgame.model.actors;
+
+/**
+ * A player-built defense that enemies can attack: towers and AA defenses.
+ */
+public interface Structure {
+    double getX();
+    double getY();
+    int getMaxHp();
+    boolean isAlive();
+    void takeDamage(int damage);
+}
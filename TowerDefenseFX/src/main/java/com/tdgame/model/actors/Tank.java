@@ -2,18 +2,17 @@ package com.tdgame.model.actors;
 
 import com.tdgame.config.Balance;
 import com.tdgame.core.EventBus;
+import com.tdgame.core.GameContext;
+import com.tdgame.model.systems.StructureGrid;
 import com.tdgame.util.Math2D;
 
-import java.util.List;
-import java.util.ArrayList;
-
 /**
  * Heavy armored enemy tank.
- * Can shoot at nearby enemies while moving with rotation animation.
+ * Shoots at nearby towers and AA defenses while moving with rotation animation.
  */
 public class Tank extends Enemy {
     
-    private final double dpsVsEnemies;
+    private double dpsVsEnemies;
     private double shootCooldown = 0.0;
     private final double shootInterval = 1.0; // Shoot every second
     private final double attackRange = 5.0; // Range to attack enemies
@@ -28,25 +27,42 @@ public class Tank extends Enemy {
     private double attackFlashDuration = 0.0;
     private final double ATTACK_FLASH_TIME = 0.2;
     
-    // Projectile system
-    private List<Projectile> firedProjectiles = new ArrayList<>();
-    
-    private List<Enemy> nearbyEnemies = new ArrayList<>();
-    private List<Tower> nearbyTowers = new ArrayList<>();
-    private List<AADefense> nearbyAA = new ArrayList<>();
+    // Shared broadphase over the player's structures, set by the combat system
+    private StructureGrid structures = null;
     
-    private Enemy currentEnemyTarget = null; // Current enemy being targeted
     private Tower currentTowerTarget = null; // Current tower being targeted
     private AADefense currentAATarget = null; // Current AA being targeted
     
-    public Tank(Balance.EnemyStats stats) {
-        super(stats.hp, stats.speed, stats.power, stats.spriteIndex);
+    public Tank(GameContext context, Balance.EnemyStats stats) {
+        super(context, stats.hp, stats.speed, stats.power, stats.spriteIndex);
         this.dpsVsEnemies = stats.dpsVsDefenses != null ? stats.dpsVsDefenses : 25.0; // Damage to other enemies
         
         // Tanks are larger and occupy more space
         this.laneOffset = 0; // Tanks always use center path, no lane offset
     }
     
+    /**
+     * Blank tank for {@link ActorPools}; reset before use
+     */
+    Tank(GameContext context) {
+        super(context, 0, 0, 0, 0);
+        this.laneOffset = 0;
+    }
+    
+    @Override
+    protected void resetSpecific(Balance.EnemyStats stats) {
+        dpsVsEnemies = stats.dpsVsDefenses != null ? stats.dpsVsDefenses : 25.0;
+        shootCooldown = 0.0;
+        currentRotation = 0.0;
+        targetRotation = 0.0;
+        turretRotation = 0.0;
+        attackFlashDuration = 0.0;
+        
+        // Drop everything referenced in the previous life
+        currentTowerTarget = null;
+        currentAATarget = null;
+    }
+    
     @Override
     protected void updateSpecific(double deltaTime) {
         // Update rotation animation
@@ -55,9 +71,6 @@ public class Tank extends Enemy {
         // Update turret rotation towards target
         updateTurretRotation(deltaTime);
         
-        // Update projectiles
-        updateProjectiles(deltaTime);
-        
         // Update attack flash animation
         if (attackFlashDuration > 0) {
             attackFlashDuration -= deltaTime;
@@ -107,13 +120,13 @@ public class Tank extends Enemy {
     }
     
     /**
-     * Update turret rotation towards current target (tower, AA, or enemy)
+     * Update turret rotation towards current target (tower or AA)
      */
     private void updateTurretRotation(double deltaTime) {
         double targetX = 0, targetY = 0;
         boolean hasTarget = false;
         
-        // Priority: Tower > AA > Enemy
+        // Priority: Tower > AA
         if (currentTowerTarget != null && currentTowerTarget.isAlive()) {
             targetX = currentTowerTarget.getX();
             targetY = currentTowerTarget.getY();
@@ -122,10 +135,6 @@ public class Tank extends Enemy {
             targetX = currentAATarget.getX();
             targetY = currentAATarget.getY();
             hasTarget = true;
-        } else if (currentEnemyTarget != null && currentEnemyTarget.isAlive()) {
-            targetX = currentEnemyTarget.getX();
-            targetY = currentEnemyTarget.getY();
-            hasTarget = true;
         }
         
         if (hasTarget) {
@@ -148,20 +157,6 @@ public class Tank extends Enemy {
         }
     }
     
-    /**
-     * Update fired projectiles
-     */
-    private void updateProjectiles(double deltaTime) {
-        for (int i = firedProjectiles.size() - 1; i >= 0; i--) {
-            Projectile projectile = firedProjectiles.get(i);
-            projectile.update(deltaTime);
-            
-            if (!projectile.isActive() || projectile.hasHitTarget()) {
-                firedProjectiles.remove(i);
-            }
-        }
-    }
-    
     /**
      * Attack nearby towers (highest priority)
      */
@@ -190,52 +185,17 @@ public class Tank extends Enemy {
         return false;
     }
     
-    /**
-     * Attack nearby enemies within range by firing projectiles (lowest priority)
-     */
-    private boolean attackNearbyEnemies() {
-        Enemy target = findBestEnemyTarget();
-        
-        if (target != null) {
-            currentEnemyTarget = target;
-            fireProjectileAtEnemy(target);
-            return true;
-        }
-        return false;
-    }
-    
-    /**
-     * Find the best enemy target within range (excluding self)
-     */
-    private Enemy findBestEnemyTarget() {
-        Enemy bestTarget = null;
-        double closestDistance = Double.MAX_VALUE;
-        
-        // Check nearby enemies (excluding self)
-        for (Enemy enemy : nearbyEnemies) {
-            if (!enemy.isAlive() || enemy == this) continue; // Don't target self
-            
-            double distance = Math2D.distance(x, y, enemy.getX(), enemy.getY());
-            double maxRange = attackRange * 64; // Convert tile range to pixels
-            
-            if (distance <= maxRange && distance < closestDistance) {
-                closestDistance = distance;
-                bestTarget = enemy;
-            }
-        }
-        
-        return bestTarget;
-    }
-    
     /**
      * Find the best tower target within range
      */
     private Tower findBestTowerTarget() {
+        if (structures == null) return null;
+        
         Tower bestTarget = null;
         double closestDistance = Double.MAX_VALUE;
         
-        for (Tower tower : nearbyTowers) {
-            if (!tower.isAlive()) continue;
+        for (Structure structure : structures.query(x, y, attackRange * 64)) {
+            if (!(structure instanceof Tower tower)) continue;
             
             double distance = Math2D.distance(x, y, tower.getX(), tower.getY());
             double maxRange = attackRange * 64; // Convert tile range to pixels
@@ -253,11 +213,13 @@ public class Tank extends Enemy {
      * Find the best AA target within range
      */
     private AADefense findBestAATarget() {
+        if (structures == null) return null;
+        
         AADefense bestTarget = null;
         double closestDistance = Double.MAX_VALUE;
         
-        for (AADefense aa : nearbyAA) {
-            if (!aa.isAlive()) continue;
+        for (Structure structure : structures.query(x, y, attackRange * 64)) {
+            if (!(structure instanceof AADefense aa)) continue;
             
             double distance = Math2D.distance(x, y, aa.getX(), aa.getY());
             double maxRange = attackRange * 64; // Convert tile range to pixels
@@ -312,60 +274,10 @@ public class Tank extends Enemy {
     }
     
     /**
-     * Fire a projectile at an enemy target
-     */
-    private void fireProjectileAtEnemy(Enemy target) {
-        if (target == null || !target.isAlive()) return;
-        
-        // Create projectile directly targeting the enemy
-        int damage = (int)(dpsVsEnemies * shootInterval);
-        double projectileSpeed = 250.0; // pixels per second
-        int projectileSpriteIndex = 274; // Tank shell sprite
-        
-        Projectile projectile = new Projectile(x, y, target, projectileSpeed, damage, projectileSpriteIndex);
-        firedProjectiles.add(projectile);
-    }
-    
-    /**
-     * Update list of nearby enemies (called by combat system)
-     */
-    public void updateNearbyEnemies(List<Enemy> enemies) {
-        nearbyEnemies.clear();
-        
-        for (Enemy enemy : enemies) {
-            if (enemy != this && enemy.isAlive() && 
-                Math2D.distance(x, y, enemy.getX(), enemy.getY()) <= attackRange * 64 * 1.5) { // Detection range slightly larger
-                nearbyEnemies.add(enemy);
-            }
-        }
-    }
-    
-    /**
-     * Update list of nearby towers (called by combat system)
-     */
-    public void updateNearbyTowers(List<Tower> towers) {
-        nearbyTowers.clear();
-        
-        for (Tower tower : towers) {
-            if (tower.isAlive() && 
-                Math2D.distance(x, y, tower.getX(), tower.getY()) <= attackRange * 64 * 1.5) {
-                nearbyTowers.add(tower);
-            }
-        }
-    }
-    
-    /**
-     * Update list of nearby AA defenses (called by combat system)
+     * Use the combat system's structure grid for target selection
      */
-    public void updateNearbyAA(List<AADefense> aaDefenses) {
-        nearbyAA.clear();
-        
-        for (AADefense aa : aaDefenses) {
-            if (aa.isAlive() && 
-                Math2D.distance(x, y, aa.getX(), aa.getY()) <= attackRange * 64 * 1.5) {
-                nearbyAA.add(aa);
-            }
-        }
+    public void setStructureGrid(StructureGrid structures) {
+        this.structures = structures;
     }
     
     @Override
@@ -376,21 +288,16 @@ public class Tank extends Enemy {
     @Override
     protected void onDeath() {
         // Tank explosion effect, higher score reward
-        // Clear current target when tank dies
-        currentEnemyTarget = null;
-        firedProjectiles.clear();
     }
     
     @Override
     protected void onReachedEnd() {
-        EventBus.getInstance().publish(new EventBus.EnemyReachedCastleEvent(power));
+        context.getEventBus().enqueue(EventBus.EnemyReachedCastleEvent.obtain(power));
     }
     
     // Getters for animation and rendering
     public double getCurrentRotation() { return currentRotation; }
     public double getTurretRotation() { return turretRotation; }
-    public List<Projectile> getFiredProjectiles() { return new ArrayList<>(firedProjectiles); }
-    public Enemy getCurrentEnemyTarget() { return currentEnemyTarget; }
     public Tower getCurrentTowerTarget() { return currentTowerTarget; }
     public AADefense getCurrentAATarget() { return currentAATarget; }
     public boolean isAttacking() { return attackFlashDuration > 0; }
@@ -18,7 +18,7 @@ public class TankTower extends Tower {
     private double turretRotation = 0.0; // Separate turret rotation
     
     // Projectile system
-    private List<Projectile> firedProjectiles = new ArrayList<>();
+    private final List<Projectile> firedProjectiles = new ArrayList<>();
     
     // Firing animation
     private double fireFlashDuration = 0.0;
@@ -108,8 +108,7 @@ public class TankTower extends Tower {
         double projectileSpeed = 300.0; // pixels per second
         int projectileSpriteIndex = 274; // Tank shell sprite (different from regular towers)
         
-        Projectile projectile = new Projectile(x, y, target, projectileSpeed, damage, projectileSpriteIndex);
-        firedProjectiles.add(projectile);
+        firedProjectiles.add(launchProjectile(target, projectileSpeed, projectileSpriteIndex));
     }
     
     @Override
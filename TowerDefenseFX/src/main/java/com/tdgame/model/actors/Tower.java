@@ -1,14 +1,19 @@
 package com.tdgame.model.actors;
 
+import com.tdgame.model.grid.GridMap;
+import com.tdgame.model.systems.EnemyIndex;
 import com.tdgame.util.Math2D;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Base class for all tower defense structures.
  * Handles targeting, shooting, and health management.
  */
-public abstract class Tower {
+public abstract class Tower implements Structure {
     protected double x, y;
     protected double range;
     protected int hp;
@@ -19,9 +24,18 @@ public abstract class Tower {
     
     protected double fireCooldown = 0.0;
     protected Enemy currentTarget = null;
+    protected int currentTargetGeneration = 0;
     protected boolean alive = true;
     protected com.tdgame.model.grid.BuildSlot buildSlot = null;
     
+    // Shots fired since the combat system last collected them
+    protected ActorPools actorPools = null;
+    private final List<Projectile> launched = new ArrayList<>();
+    
+    // Progress-ordered enemies, and the path intervals within range (towers never move)
+    protected EnemyIndex enemyIndex = null;
+    private final Map<GridMap.Path, double[]> coverage = new IdentityHashMap<>();
+    
     public Tower(double range, int hp, double fireRate, int damage, int spriteIndex) {
         this.range = range;
         this.hp = hp;
@@ -41,7 +55,8 @@ public abstract class Tower {
         fireCooldown -= deltaTime;
         
         // Acquire target if we don't have one or current target is invalid
-        if (currentTarget == null || !isValidTarget(currentTarget)) {
+        if (currentTarget == null || currentTarget.getGeneration() != currentTargetGeneration
+                || !isValidTarget(currentTarget)) {
             acquireTarget(enemies);
         }
         
@@ -56,6 +71,11 @@ public abstract class Tower {
      * Acquire the best target from available enemies
      */
     protected void acquireTarget(List<Enemy> enemies) {
+        if (enemyIndex != null) {
+            acquireIndexedTarget();
+            return;
+        }
+        
         currentTarget = null;
         double bestPriority = -1;
         
@@ -74,6 +94,60 @@ public abstract class Tower {
                 }
             }
         }
+        
+        if (currentTarget != null) {
+            currentTargetGeneration = currentTarget.getGeneration();
+        }
+    }
+    
+    /**
+     * Acquire the best target from the enemies inside this tower's coverage
+     * intervals. Tracks are ordered furthest along first, so with the default
+     * priority the first enemy in range is the target.
+     */
+    protected void acquireIndexedTarget() {
+        currentTarget = null;
+        double bestPriority = -1;
+        double pixelRange = range * 64.0;
+        boolean furthestFirst = targetsFurthestAlong();
+        
+        for (EnemyIndex.Track track : enemyIndex.getTracks()) {
+            double[] intervals = getCoverage(track.getPath());
+            for (int k = 0; k < intervals.length; k += 2) {
+                int end = track.indexBelow(intervals[k]);
+                for (int i = track.indexAtOrBelow(intervals[k + 1]); i < end; i++) {
+                    Enemy enemy = track.get(i);
+                    if (!isValidTarget(enemy)) continue;
+                    
+                    // Intervals are widened by the lane offset, so confirm the actual distance
+                    double distance = Math2D.distance(x, y, enemy.getX(), enemy.getY());
+                    if (distance > pixelRange) continue;
+                    
+                    double priority = calculateTargetPriority(enemy, distance);
+                    if (priority > bestPriority) {
+                        bestPriority = priority;
+                        currentTarget = enemy;
+                    }
+                    if (furthestFirst) break;
+                }
+            }
+        }
+        
+        if (currentTarget != null) {
+            currentTargetGeneration = currentTarget.getGeneration();
+        }
+    }
+    
+    /**
+     * Path progress intervals in which an enemy on the path can be in range
+     */
+    protected double[] getCoverage(GridMap.Path path) {
+        double[] intervals = coverage.get(path);
+        if (intervals == null) {
+            intervals = path.getCoverage(x, y, range * 64.0 + Enemy.MAX_LANE_OFFSET);
+            coverage.put(path, intervals);
+        }
+        return intervals;
     }
     
     /**
@@ -93,11 +167,41 @@ public abstract class Tower {
         return enemy.getPathProgress();
     }
     
+    /**
+     * Whether the priority is path progress alone, which lets indexed targeting
+     * stop at the first enemy in range. Subclasses that override
+     * {@link #calculateTargetPriority} must return false.
+     */
+    protected boolean targetsFurthestAlong() {
+        return true;
+    }
+    
     /**
      * Fire at the target
      */
     protected abstract void fire(Enemy target);
     
+    /**
+     * Fire a projectile from the tower position, taken from the actor pools
+     * when the tower belongs to a combat system
+     */
+    protected Projectile launchProjectile(Enemy target, double speed, int projectileSprite) {
+        Projectile projectile = actorPools != null
+            ? actorPools.obtainProjectile(x, y, target, speed, damage, projectileSprite)
+            : new Projectile(x, y, target, speed, damage, projectileSprite);
+        launched.add(projectile);
+        return projectile;
+    }
+    
+    /**
+     * Move the projectiles fired since the last call into the given list
+     */
+    public void collectLaunched(List<Projectile> into) {
+        if (launched.isEmpty()) return;
+        into.addAll(launched);
+        launched.clear();
+    }
+    
     /**
      * Take damage (from tank attacks)
      */
@@ -125,12 +229,21 @@ public abstract class Tower {
     public void setPosition(double x, double y) {
         this.x = x;
         this.y = y;
+        coverage.clear();
     }
     
     public void setBuildSlot(com.tdgame.model.grid.BuildSlot buildSlot) {
         this.buildSlot = buildSlot;
     }
     
+    public void setActorPools(ActorPools actorPools) {
+        this.actorPools = actorPools;
+    }
+    
+    public void setEnemyIndex(EnemyIndex enemyIndex) {
+        this.enemyIndex = enemyIndex;
+    }
+    
     // Getters
     public double getX() { return x; }
     public double getY() { return y; }
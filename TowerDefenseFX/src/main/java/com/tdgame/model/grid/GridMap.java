@@ -2,9 +2,11 @@ package com.tdgame.model.grid;
 
 import com.tdgame.config.GameConfig;
 import com.tdgame.config.LevelData;
+import com.tdgame.config.PathTable;
 import com.tdgame.util.Math2D;
 import com.tdgame.util.RNG;
 
+import java.util.Arrays;
 import java.util.List;
 import java.util.ArrayList;
 
@@ -23,8 +25,10 @@ public class GridMap {
     private final List<BuildSlot> bombSlots;
     private final List<Path> paths;
     private final Math2D.Point castlePosition;
+    private final RNG rng; // Tile variety
     
-    public GridMap(GameConfig config) {
+    public GridMap(GameConfig config, RNG rng) {
+        this.rng = rng;
         LevelData levelData = config.getLevelData();
         this.cols = levelData.grid.cols;
         this.rows = levelData.grid.rows;
@@ -51,14 +55,16 @@ public class GridMap {
             bombSlots.add(new BuildSlot(slot.col, slot.row, tileSize));
         }
         
-        // Create paths
+        // Create paths from the precompiled path tables
         this.paths = new ArrayList<>();
-        for (LevelData.PathData pathData : levelData.paths) {
+        for (PathTable table : config.getPathTables()) {
             List<Math2D.Point> waypoints = new ArrayList<>();
-            for (int[] wp : pathData.waypoints) {
-                waypoints.add(gridToWorld(wp[0], wp[1]));
+            double[] cumulativeLength = new double[table.size()];
+            for (int i = 0; i < table.size(); i++) {
+                waypoints.add(gridToWorld(table.getCol(i), table.getRow(i)));
+                cumulativeLength[i] = table.getCumulativeLength(i) * tileSize;
             }
-            paths.add(new Path(pathData.name, waypoints));
+            paths.add(new Path(table.getName(), waypoints, cumulativeLength));
         }
         
         // Castle position
@@ -95,28 +101,27 @@ public class GridMap {
         int[] groundSprites = config.getBalance().sprites.ground;
         for (int row = 0; row < rows; row++) {
             for (int col = 0; col < cols; col++) {
-                int spriteIndex = RNG.choice(groundSprites);
+                int spriteIndex = rng.choice(groundSprites);
                 grid[row][col] = new Tile(Tile.TileType.GROUND, spriteIndex);
             }
         }
         
         // Set path tiles
         int[] pathSprites = config.getBalance().sprites.path;
-        for (LevelData.PathData pathData : levelData.paths) {
-            for (int[] wp : pathData.waypoints) {
-                int col = wp[0];
-                int row = wp[1];
+        for (PathTable table : config.getPathTables()) {
+            for (int i = 0; i < table.size(); i++) {
+                int col = table.getCol(i);
+                int row = table.getRow(i);
                 if (isValidGridPosition(col, row)) {
-                    int spriteIndex = RNG.choice(pathSprites);
+                    int spriteIndex = rng.choice(pathSprites);
                     grid[row][col] = new Tile(Tile.TileType.PATH, spriteIndex);
                 }
             }
             
             // Fill in path between waypoints
-            for (int i = 0; i < pathData.waypoints.size() - 1; i++) {
-                int[] from = pathData.waypoints.get(i);
-                int[] to = pathData.waypoints.get(i + 1);
-                fillPathBetween(grid, from[0], from[1], to[0], to[1], pathSprites);
+            for (int i = 0; i < table.size() - 1; i++) {
+                fillPathBetween(grid, table.getCol(i), table.getRow(i),
+                    table.getCol(i + 1), table.getRow(i + 1), pathSprites);
             }
         }
         
@@ -147,7 +152,7 @@ public class GridMap {
         
         for (; n > 0; --n) {
             if (isValidGridPosition(x, y)) {
-                int spriteIndex = RNG.choice(pathSprites);
+                int spriteIndex = rng.choice(pathSprites);
                 grid[y][x] = new Tile(Tile.TileType.PATH, spriteIndex);
             }
             
@@ -260,10 +265,24 @@ public class GridMap {
     public static class Path {
         private final String name;
         private final List<Math2D.Point> waypoints;
+        private final double[] cumulativeLength;
         
         public Path(String name, List<Math2D.Point> waypoints) {
+            this(name, waypoints, measure(waypoints));
+        }
+        
+        private Path(String name, List<Math2D.Point> waypoints, double[] cumulativeLength) {
             this.name = name;
             this.waypoints = waypoints;
+            this.cumulativeLength = cumulativeLength;
+        }
+        
+        private static double[] measure(List<Math2D.Point> waypoints) {
+            double[] lengths = new double[waypoints.size()];
+            for (int i = 1; i < lengths.length; i++) {
+                lengths[i] = lengths[i - 1] + waypoints.get(i - 1).distanceTo(waypoints.get(i));
+            }
+            return lengths;
         }
         
         public String getName() { return name; }
@@ -277,38 +296,83 @@ public class GridMap {
             if (progress <= 0) return waypoints.get(0);
             if (progress >= 1) return waypoints.get(waypoints.size() - 1);
             
-            double totalLength = getTotalLength();
-            double targetDistance = progress * totalLength;
-            double currentDistance = 0;
+            double targetDistance = progress * getTotalLength();
+            
+            // Binary search for the segment containing the target distance
+            int low = 0;
+            int high = cumulativeLength.length - 1;
+            while (high - low > 1) {
+                int mid = (low + high) >>> 1;
+                if (cumulativeLength[mid] <= targetDistance) {
+                    low = mid;
+                } else {
+                    high = mid;
+                }
+            }
+            
+            Math2D.Point from = waypoints.get(low);
+            Math2D.Point to = waypoints.get(high);
+            double segmentLength = cumulativeLength[high] - cumulativeLength[low];
+            if (segmentLength <= 0) return from;
+            
+            double segmentProgress = (targetDistance - cumulativeLength[low]) / segmentLength;
+            return new Math2D.Point(
+                Math2D.lerp(from.x, to.x, segmentProgress),
+                Math2D.lerp(from.y, to.y, segmentProgress)
+            );
+        }
+        
+        /**
+         * Progress intervals during which the path centre is within the given
+         * radius of a point, as a flat array of [start, end] pairs in path order
+         */
+        public double[] getCoverage(double cx, double cy, double radius) {
+            double total = getTotalLength();
+            if (waypoints.size() < 2 || total <= 0) return new double[0];
             
-            for (int i = 0; i < waypoints.size() - 1; i++) {
+            double[] intervals = new double[2 * (waypoints.size() - 1)];
+            int count = 0;
+            for (int i = 0; i + 1 < waypoints.size(); i++) {
                 Math2D.Point from = waypoints.get(i);
                 Math2D.Point to = waypoints.get(i + 1);
-                double segmentLength = from.distanceTo(to);
+                double segmentLength = cumulativeLength[i + 1] - cumulativeLength[i];
+                if (segmentLength <= 0) continue;
                 
-                if (currentDistance + segmentLength >= targetDistance) {
-                    double segmentProgress = (targetDistance - currentDistance) / segmentLength;
-                    return new Math2D.Point(
-                        Math2D.lerp(from.x, to.x, segmentProgress),
-                        Math2D.lerp(from.y, to.y, segmentProgress)
-                    );
-                }
+                // Solve |from + t * (to - from) - c| <= radius for t in [0, 1]
+                double dx = to.x - from.x;
+                double dy = to.y - from.y;
+                double fx = from.x - cx;
+                double fy = from.y - cy;
+                double a = dx * dx + dy * dy;
+                double b = 2 * (fx * dx + fy * dy);
+                double c = fx * fx + fy * fy - radius * radius;
+                double discriminant = b * b - 4 * a * c;
+                if (discriminant < 0) continue;
                 
-                currentDistance += segmentLength;
+                double root = Math.sqrt(discriminant);
+                double t1 = Math.max(0.0, (-b - root) / (2 * a));
+                double t2 = Math.min(1.0, (-b + root) / (2 * a));
+                if (t1 > t2) continue;
+                
+                double start = (cumulativeLength[i] + t1 * segmentLength) / total;
+                double end = (cumulativeLength[i] + t2 * segmentLength) / total;
+                
+                // Merge with the previous interval when the path stays in range across a waypoint
+                if (count > 0 && start <= intervals[count - 1] + 1e-9) {
+                    intervals[count - 1] = Math.max(intervals[count - 1], end);
+                } else {
+                    intervals[count++] = start;
+                    intervals[count++] = end;
+                }
             }
-            
-            return waypoints.get(waypoints.size() - 1);
+            return Arrays.copyOf(intervals, count);
         }
         
         /**
          * Get total path length
          */
         public double getTotalLength() {
-            double length = 0;
-            for (int i = 0; i < waypoints.size() - 1; i++) {
-                length += waypoints.get(i).distanceTo(waypoints.get(i + 1));
-            }
-            return length;
+            return cumulativeLength.length == 0 ? 0 : cumulativeLength[cumulativeLength.length - 1];
         }
     }
-}
\ No newline at end of file
+}
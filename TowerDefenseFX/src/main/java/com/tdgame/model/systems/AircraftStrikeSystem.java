@@ -1,9 +1,9 @@
 package com.tdgame.model.systems;
 
 import com.tdgame.config.GameConfig;
+import com.tdgame.diagnostics.JfrEvents;
 import com.tdgame.model.actors.*;
 import com.tdgame.model.grid.GridMap;
-import com.tdgame.util.Math2D;
 
 import java.util.List;
 import java.util.ArrayList;
@@ -54,9 +54,21 @@ public class AircraftStrikeSystem {
      * Trigger the optimal strike position for maximum damage
      */
     private void triggerOptimalStrike(Aircraft aircraft) {
+        JfrEvents.StrikePlan event = new JfrEvents.StrikePlan();
+        event.begin();
         StrikeTarget bestTarget = calculateOptimalStrike();
         
         if (bestTarget != null) {
+            if (event.shouldCommit()) {
+                ThreatIndex threats = combatSystem.getThreatIndex();
+                boolean row = bestTarget.type == StrikeType.ROW;
+                event.line = row ? "row" : "column";
+                event.index = bestTarget.index;
+                event.structures = row ? threats.getRowCount(bestTarget.index) : threats.getColumnCount(bestTarget.index);
+                event.score = row ? threats.getRowScore(bestTarget.index) : threats.getColumnScore(bestTarget.index);
+                event.commit();
+            }
+            
             PendingStrike strike = new PendingStrike(
                 bestTarget.type,
                 bestTarget.index,
@@ -72,96 +84,24 @@ public class AircraftStrikeSystem {
     }
     
     /**
-     * Calculate the optimal strike position
-     */
-    private StrikeTarget calculateOptimalStrike() {
-        StrikeTarget bestTarget = null;
-        double bestScore = 0;
-        
-        int rows = config.getGridRows();
-        int cols = config.getGridCols();
-        
-        // Evaluate each row
-        for (int row = 0; row < rows; row++) {
-            double score = calculateRowStrikeValue(row);
-            if (score > bestScore) {
-                bestScore = score;
-                bestTarget = new StrikeTarget(StrikeType.ROW, row);
-            }
-        }
-        
-        // Evaluate each column
-        for (int col = 0; col < cols; col++) {
-            double score = calculateColumnStrikeValue(col);
-            if (score > bestScore) {
-                bestScore = score;
-                bestTarget = new StrikeTarget(StrikeType.COLUMN, col);
-            }
-        }
-        
-        return bestTarget;
-    }
-    
-    /**
-     * Calculate damage potential for striking a specific row
+     * Calculate the optimal strike position from the threat index:
+     * the highest scoring row, unless a column scores strictly higher
      */
-    private double calculateRowStrikeValue(int row) {
-        double score = 0;
-        double tileSize = config.getTileSize();
-        double rowY = row * tileSize + tileSize / 2;
-        
-        // Check towers in this row
-        for (Tower tower : combatSystem.getTowers()) {
-            if (tower.isAlive()) {
-                Math2D.Point gridPos = gridMap.worldToGrid(tower.getX(), tower.getY());
-                if (Math.abs(gridPos.y - row) < 0.5) {
-                    score += tower.getMaxHp() * 2; // Towers are valuable targets
-                }
-            }
-        }
+    StrikeTarget calculateOptimalStrike() {
+        ThreatIndex threats = combatSystem.getThreatIndex();
+        int bestRow = threats.getBestRow();
+        int bestCol = threats.getBestColumn();
         
-        // Check AA defenses in this row
-        for (AADefense aa : combatSystem.getAADefenses()) {
-            if (aa.isAlive()) {
-                Math2D.Point gridPos = gridMap.worldToGrid(aa.getX(), aa.getY());
-                if (Math.abs(gridPos.y - row) < 0.5) {
-                    score += aa.getMaxHp() * 3; // AA defenses are high priority
-                }
-            }
-        }
-        
-        return score;
-    }
-    
-    /**
-     * Calculate damage potential for striking a specific column
-     */
-    private double calculateColumnStrikeValue(int col) {
-        double score = 0;
-        double tileSize = config.getTileSize();
-        double colX = col * tileSize + tileSize / 2;
+        double rowScore = bestRow >= 0 ? threats.getRowScore(bestRow) : 0;
+        double colScore = bestCol >= 0 ? threats.getColumnScore(bestCol) : 0;
         
-        // Check towers in this column
-        for (Tower tower : combatSystem.getTowers()) {
-            if (tower.isAlive()) {
-                Math2D.Point gridPos = gridMap.worldToGrid(tower.getX(), tower.getY());
-                if (Math.abs(gridPos.x - col) < 0.5) {
-                    score += tower.getMaxHp() * 2;
-                }
-            }
+        if (bestCol >= 0 && colScore > rowScore) {
+            return new StrikeTarget(StrikeType.COLUMN, bestCol);
         }
-        
-        // Check AA defenses in this column
-        for (AADefense aa : combatSystem.getAADefenses()) {
-            if (aa.isAlive()) {
-                Math2D.Point gridPos = gridMap.worldToGrid(aa.getX(), aa.getY());
-                if (Math.abs(gridPos.x - col) < 0.5) {
-                    score += aa.getMaxHp() * 3;
-                }
-            }
+        if (bestRow >= 0) {
+            return new StrikeTarget(StrikeType.ROW, bestRow);
         }
-        
-        return score;
+        return null;
     }
     
     /**
@@ -184,10 +124,21 @@ public class AircraftStrikeSystem {
      * Execute the aircraft strike
      */
     private void executeStrike(PendingStrike strike) {
+        JfrEvents.StrikeExecute event = new JfrEvents.StrikeExecute();
+        event.begin();
+        int hit;
         if (strike.type == StrikeType.ROW) {
-            executeRowStrike(strike.index, strike.damage);
+            hit = executeRowStrike(strike.index, strike.damage);
         } else {
-            executeColumnStrike(strike.index, strike.damage);
+            hit = executeColumnStrike(strike.index, strike.damage);
+        }
+        
+        if (event.shouldCommit()) {
+            event.line = strike.type == StrikeType.ROW ? "row" : "column";
+            event.index = strike.index;
+            event.damage = strike.damage;
+            event.structuresHit = hit;
+            event.commit();
         }
         
         System.out.println("Aircraft strike executed on " + strike.type + " " + strike.index + 
@@ -197,49 +148,15 @@ public class AircraftStrikeSystem {
     /**
      * Execute strike on a row
      */
-    private void executeRowStrike(int row, int damage) {
-        // Damage all towers and AA in this row
-        for (Tower tower : combatSystem.getTowers()) {
-            if (tower.isAlive()) {
-                Math2D.Point gridPos = gridMap.worldToGrid(tower.getX(), tower.getY());
-                if (Math.abs(gridPos.y - row) < 0.5) {
-                    tower.takeDamage(damage);
-                }
-            }
-        }
-        
-        for (AADefense aa : combatSystem.getAADefenses()) {
-            if (aa.isAlive()) {
-                Math2D.Point gridPos = gridMap.worldToGrid(aa.getX(), aa.getY());
-                if (Math.abs(gridPos.y - row) < 0.5) {
-                    aa.takeDamage(damage);
-                }
-            }
-        }
+    private int executeRowStrike(int row, int damage) {
+        return combatSystem.getThreatIndex().strikeRow(row, damage);
     }
     
     /**
      * Execute strike on a column
      */
-    private void executeColumnStrike(int col, int damage) {
-        // Damage all towers and AA in this column
-        for (Tower tower : combatSystem.getTowers()) {
-            if (tower.isAlive()) {
-                Math2D.Point gridPos = gridMap.worldToGrid(tower.getX(), tower.getY());
-                if (Math.abs(gridPos.x - col) < 0.5) {
-                    tower.takeDamage(damage);
-                }
-            }
-        }
-        
-        for (AADefense aa : combatSystem.getAADefenses()) {
-            if (aa.isAlive()) {
-                Math2D.Point gridPos = gridMap.worldToGrid(aa.getX(), aa.getY());
-                if (Math.abs(gridPos.x - col) < 0.5) {
-                    aa.takeDamage(damage);
-                }
-            }
-        }
+    private int executeColumnStrike(int col, int damage) {
+        return combatSystem.getThreatIndex().strikeColumn(col, damage);
     }
     
     /**
@@ -258,7 +175,7 @@ public class AircraftStrikeSystem {
         ROW, COLUMN
     }
     
-    private static class StrikeTarget {
+    static class StrikeTarget {
         final StrikeType type;
         final int index;
         
@@ -1,6 +1,7 @@
 package com.tdgame.model.systems;
 
 import com.tdgame.config.GameConfig;
+import com.tdgame.core.GameContext;
 import com.tdgame.model.actors.*;
 import com.tdgame.model.placeables.*;
 
@@ -14,6 +15,10 @@ import java.util.ArrayList;
 public class CombatSystem {
     
     private final GameConfig config;
+    private final ActorPools actorPools;
+    private final ThreatIndex threatIndex;
+    private final EnemyIndex enemyIndex;
+    private final StructureGrid structureGrid;
     private final List<Tower> towers;
     private final List<AADefense> aaDefenses;
     private final List<Enemy> enemies;
@@ -21,8 +26,15 @@ public class CombatSystem {
     private final List<SpeedBump> speedBumps;
     private final List<Bomb> bombs;
     
-    public CombatSystem(GameConfig config) {
+    // Enemies before this position are already in the enemy index
+    private int indexedEnemies = 0;
+    
+    public CombatSystem(GameContext context, GameConfig config) {
         this.config = config;
+        this.actorPools = context.getActorPools();
+        this.threatIndex = new ThreatIndex(config.getGridRows(), config.getGridCols(), config.getTileSize());
+        this.enemyIndex = new EnemyIndex();
+        this.structureGrid = new StructureGrid(config.getGridRows(), config.getGridCols(), config.getTileSize());
         this.towers = new ArrayList<>();
         this.aaDefenses = new ArrayList<>();
         this.enemies = new ArrayList<>();
@@ -32,9 +44,15 @@ public class CombatSystem {
     }
     
     public void update(double deltaTime) {
+        // Hand new tanks the structure grid before their first update
+        attachNewEnemies();
+        
         // Update all enemies
         updateEnemies(deltaTime);
         
+        // Re-order enemies by progress for tower targeting
+        updateEnemyIndex();
+        
         // Update tower combat
         updateTowers(deltaTime);
         
@@ -47,13 +65,21 @@ public class CombatSystem {
         // Update placeables
         updatePlaceables(deltaTime);
         
-        // Update tank attacks on defenses
-        updateTankAttacks(deltaTime);
-        
         // Clean up dead entities
         cleanupDeadEntities();
     }
     
+    /**
+     * Give tanks spawned since the last tick the structure grid they target from
+     */
+    private void attachNewEnemies() {
+        for (int i = indexedEnemies; i < enemies.size(); i++) {
+            if (enemies.get(i) instanceof Tank tank) {
+                tank.setStructureGrid(structureGrid);
+            }
+        }
+    }
+    
     /**
      * Update all enemies
      */
@@ -63,6 +89,18 @@ public class CombatSystem {
         }
     }
     
+    /**
+     * Index enemies spawned since the last tick and re-sort the rest.
+     * The wave manager appends to the enemy list directly, and only cleanup removes from it.
+     */
+    private void updateEnemyIndex() {
+        for (int i = indexedEnemies; i < enemies.size(); i++) {
+            enemyIndex.add(enemies.get(i));
+        }
+        indexedEnemies = enemies.size();
+        enemyIndex.refresh();
+    }
+    
     /**
      * Update tower targeting and firing
      */
@@ -72,32 +110,8 @@ public class CombatSystem {
             
             tower.update(deltaTime, enemies);
             
-            // Update tower-specific projectiles
-            if (tower instanceof FastTower fastTower) {
-                // Don't clear - let tower manage its own projectiles
-                List<Projectile> towerProjectiles = fastTower.getProjectiles();
-                for (Projectile projectile : towerProjectiles) {
-                    if (!projectiles.contains(projectile)) {
-                        projectiles.add(projectile);
-                    }
-                }
-            } else if (tower instanceof PowerTower powerTower) {
-                // Don't clear - let tower manage its own projectiles  
-                List<Projectile> towerProjectiles = powerTower.getProjectiles();
-                for (Projectile projectile : towerProjectiles) {
-                    if (!projectiles.contains(projectile)) {
-                        projectiles.add(projectile);
-                    }
-                }
-            } else if (tower instanceof TankTower tankTower) {
-                // Update and collect tank tower projectiles like other towers
-                List<Projectile> tankProjectiles = tankTower.getFiredProjectiles();
-                for (Projectile projectile : tankProjectiles) {
-                    if (!projectiles.contains(projectile)) {
-                        projectiles.add(projectile);
-                    }
-                }
-            }
+            // Take over the shots fired this tick
+            tower.collectLaunched(projectiles);
         }
     }
     
@@ -134,41 +148,38 @@ public class CombatSystem {
     }
     
     /**
-     * Update tank attacks on towers, AA defenses, and other enemies
-     */
-    private void updateTankAttacks(double deltaTime) {
-        for (Enemy enemy : enemies) {
-            if (enemy instanceof Tank tank && enemy.isAlive()) {
-                // Update nearby targets for tanks
-                tank.updateNearbyEnemies(enemies);
-                tank.updateNearbyTowers(towers);
-                tank.updateNearbyAA(aaDefenses);
-                
-                // Add tank projectiles to main projectile list for rendering
-                for (Projectile tankProjectile : tank.getFiredProjectiles()) {
-                    if (!projectiles.contains(tankProjectile)) {
-                        projectiles.add(tankProjectile);
-                    }
-                }
-            }
-        }
-    }
-    
-    /**
-     * Clean up dead entities
+     * Clean up dead and leaked entities, returning pooled enemies and projectiles
+     * once nothing in the combat system refers to them any more
      */
     private void cleanupDeadEntities() {
-        // Remove dead enemies
-        enemies.removeIf(enemy -> !enemy.isAlive());
-        
-        // Remove dead towers
-        towers.removeIf(tower -> !tower.isAlive());
+        // Remove dead enemies and those that made it to the castle
+        enemies.removeIf(enemy -> {
+            if (enemy.isAlive() && !enemy.hasReachedEnd()) return false;
+            actorPools.release(enemy);
+            return true;
+        });
+        indexedEnemies = enemies.size();
         
-        // Remove dead AA defenses
-        aaDefenses.removeIf(aa -> !aa.isAlive());
+        // Remove dead towers and AA defenses, their threat scores and grid buckets
+        towers.removeIf(tower -> {
+            if (tower.isAlive()) return false;
+            threatIndex.remove(tower);
+            structureGrid.remove(tower);
+            return true;
+        });
+        aaDefenses.removeIf(aa -> {
+            if (aa.isAlive()) return false;
+            threatIndex.remove(aa);
+            structureGrid.remove(aa);
+            return true;
+        });
         
         // Remove inactive projectiles
-        projectiles.removeIf(projectile -> !projectile.isActive());
+        projectiles.removeIf(projectile -> {
+            if (projectile.isActive()) return false;
+            actorPools.release(projectile);
+            return true;
+        });
         
         // Remove expired speed bumps
         speedBumps.removeIf(speedBump -> !speedBump.isActive());
@@ -181,14 +192,21 @@ public class CombatSystem {
      * Add a tower to the combat system
      */
     public void addTower(Tower tower) {
+        tower.setActorPools(actorPools);
+        tower.setEnemyIndex(enemyIndex);
         towers.add(tower);
+        threatIndex.add(tower);
+        structureGrid.add(tower);
     }
     
     /**
      * Add an AA defense to the combat system
      */
     public void addAADefense(AADefense aaDefense) {
+        aaDefense.setEnemyIndex(enemyIndex);
         aaDefenses.add(aaDefense);
+        threatIndex.add(aaDefense);
+        structureGrid.add(aaDefense);
     }
     
     /**
@@ -213,6 +231,10 @@ public class CombatSystem {
     }
     
     // Getters for systems that need access
+    public ActorPools getActorPools() { return actorPools; }
+    public ThreatIndex getThreatIndex() { return threatIndex; }
+    public EnemyIndex getEnemyIndex() { return enemyIndex; }
+    public StructureGrid getStructureGrid() { return structureGrid; }
     public List<Tower> getTowers() { return towers; }
     public List<AADefense> getAADefenses() { return aaDefenses; }
     public List<Enemy> getEnemies() { return enemies; }
@@ -1,31 +1,45 @@
 package com.tdgame.model.systems;
 
 import com.tdgame.config.GameConfig;
-import com.tdgame.core.EventBus;
-import javafx.application.Platform;
+import com.tdgame.core.UiUpdateChannel;
 
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 
 /**
  * Thread-safe economy management system.
  * Handles money income, spending, and UI updates.
+ *
+ * Income is driven by simulation time through {@link #update(double)}: the
+ * elapsed time is accumulated and a payout is made for every whole income
+ * period it covers, so the total earned depends only on simulated time and
+ * not on frame rate, time scale or how the ticks were split.
  */
 public class EconomyManager {
     
+    private static final double INCOME_PERIOD = 1.0; // seconds
+    // Absorbs rounding when many small steps should add up to a whole period
+    private static final double PERIOD_EPSILON = 1e-9;
+    
     private final GameConfig config;
     private final AtomicInteger money;
     private final int incomePerSecond;
+    private final UiUpdateChannel uiChannel;
     
-    private ScheduledExecutorService scheduler;
     private volatile boolean running = false;
     
+    // Simulation time accrued while running, and whole periods already paid for
+    private double incomeTime = 0;
+    private long periodsPaid = 0;
+    
     public EconomyManager(GameConfig config) {
+        this(config, new UiUpdateChannel());
+    }
+    
+    public EconomyManager(GameConfig config, UiUpdateChannel uiChannel) {
         this.config = config;
         this.money = new AtomicInteger(config.getStartingMoney());
         this.incomePerSecond = config.getMoneyIncomePerSec();
+        this.uiChannel = uiChannel;
     }
     
     /**
@@ -35,38 +49,23 @@ public class EconomyManager {
         if (running) return;
         
         running = true;
-        scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r, "EconomyManager");
-            t.setDaemon(true);
-            return t;
-        });
-        
-        // Generate income every second
-        scheduler.scheduleAtFixedRate(this::generateIncome, 1000, 1000, TimeUnit.MILLISECONDS);
         
         // Notify UI of initial money
-        Platform.runLater(() -> 
-            EventBus.getInstance().publish(new EventBus.MoneyChangedEvent(money.get()))
-        );
+        uiChannel.post(UiUpdateChannel.Field.MONEY, money.get());
     }
     
     /**
-     * Pause income generation
+     * Pause income generation. Time accrued towards the next payout is kept.
      */
     public void pause() {
         running = false;
-        if (scheduler != null && !scheduler.isShutdown()) {
-            scheduler.shutdown();
-        }
     }
     
     /**
      * Resume income generation
      */
     public void resume() {
-        if (!running) {
-            start();
-        }
+        running = true;
     }
     
     /**
@@ -74,31 +73,23 @@ public class EconomyManager {
      */
     public void stop() {
         running = false;
-        if (scheduler != null && !scheduler.isShutdown()) {
-            scheduler.shutdown();
-            try {
-                if (!scheduler.awaitTermination(1, TimeUnit.SECONDS)) {
-                    scheduler.shutdownNow();
-                }
-            } catch (InterruptedException e) {
-                scheduler.shutdownNow();
-                Thread.currentThread().interrupt();
-            }
-        }
     }
     
     /**
-     * Generate periodic income
+     * Advance income by a simulation step. Called from the game tick.
+     * @param deltaTime simulated seconds since the last update
      */
-    private void generateIncome() {
-        if (!running) return;
+    public void update(double deltaTime) {
+        if (!running || deltaTime <= 0) return;
         
-        int newAmount = money.addAndGet(incomePerSecond);
-        
-        // Update UI on JavaFX thread
-        Platform.runLater(() -> 
-            EventBus.getInstance().publish(new EventBus.MoneyChangedEvent(newAmount))
-        );
+        incomeTime += deltaTime;
+        long periodsDue = (long) Math.floor(incomeTime / INCOME_PERIOD + PERIOD_EPSILON);
+        if (periodsDue > periodsPaid) {
+            int income = (int) ((periodsDue - periodsPaid) * incomePerSecond);
+            periodsPaid = periodsDue;
+            int newAmount = money.addAndGet(income);
+            uiChannel.post(UiUpdateChannel.Field.MONEY, newAmount);
+        }
     }
     
     /**
@@ -114,10 +105,7 @@ public class EconomyManager {
             }
             
             if (money.compareAndSet(currentMoney, currentMoney - amount)) {
-                // Update UI on JavaFX thread
-                Platform.runLater(() -> 
-                    EventBus.getInstance().publish(new EventBus.MoneyChangedEvent(money.get()))
-                );
+                uiChannel.post(UiUpdateChannel.Field.MONEY, money.get());
                 return true;
             }
             // Retry if another thread modified money between get and compareAndSet
@@ -129,11 +117,7 @@ public class EconomyManager {
      */
     public void addMoney(int amount) {
         int newAmount = money.addAndGet(amount);
-        
-        // Update UI on JavaFX thread
-        Platform.runLater(() -> 
-            EventBus.getInstance().publish(new EventBus.MoneyChangedEvent(newAmount))
-        );
+        uiChannel.post(UiUpdateChannel.Field.MONEY, newAmount);
     }
     
     /**
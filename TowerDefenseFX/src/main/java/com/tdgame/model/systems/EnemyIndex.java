@@ -0,0 +1,173 @@
+package com.tdgame.model.systems;
+
+import com.tdgame.model.actors.Aircraft;
+import com.tdgame.model.actors.Enemy;
+import com.tdgame.model.grid.GridMap;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Enemies ordered by path progress, one track per path, plus the aircraft in flight.
+ * Towers look up the enemies inside their precomputed coverage intervals with a
+ * binary search instead of measuring the distance to every enemy.
+ * Tracks keep their order between ticks, so the per-tick re-sort only has to
+ * fix up the few enemies that overtook each other.
+ */
+public class EnemyIndex {
+    
+    private final Map<GridMap.Path, Track> tracksByPath = new IdentityHashMap<>();
+    private final List<Track> tracks = new ArrayList<>();
+    private final List<Aircraft> aircraft = new ArrayList<>();
+    
+    /**
+     * Start tracking a newly spawned enemy
+     */
+    public void add(Enemy enemy) {
+        if (enemy instanceof Aircraft plane) {
+            aircraft.add(plane);
+            return;
+        }
+        
+        GridMap.Path path = enemy.getPath();
+        if (path == null) return;
+        
+        Track track = tracksByPath.get(path);
+        if (track == null) {
+            track = new Track(path);
+            tracksByPath.put(path, track);
+            tracks.add(track);
+        }
+        track.add(enemy);
+    }
+    
+    /**
+     * Drop enemies that died, finished or were recycled, and re-sort by the
+     * progress reached this tick. Call once after enemies have moved.
+     */
+    public void refresh() {
+        for (Track track : tracks) {
+            track.refresh();
+        }
+        aircraft.removeIf(plane -> !plane.isAlive());
+    }
+    
+    /**
+     * Number of indexed enemies, aircraft included
+     */
+    public int size() {
+        int size = aircraft.size();
+        for (Track track : tracks) {
+            size += track.size();
+        }
+        return size;
+    }
+    
+    // Getters
+    public List<Track> getTracks() { return tracks; }
+    public List<Aircraft> getAircraft() { return aircraft; }
+    
+    /**
+     * Ground enemies on one path, furthest along first
+     */
+    public static final class Track {
+        private final GridMap.Path path;
+        private Enemy[] enemies = new Enemy[64];
+        private int[] generations = new int[64];
+        private double[] progress = new double[64];
+        private int size = 0;
+        
+        Track(GridMap.Path path) {
+            this.path = path;
+        }
+        
+        void add(Enemy enemy) {
+            if (size == enemies.length) {
+                enemies = Arrays.copyOf(enemies, size * 2);
+                generations = Arrays.copyOf(generations, size * 2);
+                progress = Arrays.copyOf(progress, size * 2);
+            }
+            // New spawns start at the beginning of the path, which is the end of the track
+            enemies[size] = enemy;
+            generations[size] = enemy.getGeneration();
+            progress[size] = enemy.getPathProgress();
+            size++;
+        }
+        
+        void refresh() {
+            // Compact out entries that can no longer be targeted
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                Enemy enemy = enemies[i];
+                if (enemy.getGeneration() == generations[i] && enemy.isAlive()
+                        && !enemy.hasReachedEnd() && enemy.getPath() == path) {
+                    enemies[kept] = enemy;
+                    generations[kept] = generations[i];
+                    kept++;
+                }
+            }
+            Arrays.fill(enemies, kept, size, null);
+            size = kept;
+            
+            // Insertion sort, descending; almost sorted from the previous tick
+            for (int i = 0; i < size; i++) {
+                Enemy enemy = enemies[i];
+                int generation = generations[i];
+                double value = enemy.getPathProgress();
+                int j = i - 1;
+                while (j >= 0 && progress[j] < value) {
+                    enemies[j + 1] = enemies[j];
+                    generations[j + 1] = generations[j];
+                    progress[j + 1] = progress[j];
+                    j--;
+                }
+                enemies[j + 1] = enemy;
+                generations[j + 1] = generation;
+                progress[j + 1] = value;
+            }
+        }
+        
+        /**
+         * First position whose progress is at most the given value
+         */
+        public int indexAtOrBelow(double value) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (progress[mid] <= value) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+        
+        /**
+         * First position whose progress is below the given value
+         */
+        public int indexBelow(double value) {
+            int low = 0;
+            int high = size;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (progress[mid] < value) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            return low;
+        }
+        
+        // Getters
+        public GridMap.Path getPath() { return path; }
+        public int size() { return size; }
+        public Enemy get(int index) { return enemies[index]; }
+        public double getProgress(int index) { return progress[index]; }
+    }
+}
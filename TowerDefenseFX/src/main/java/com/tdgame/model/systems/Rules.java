@@ -2,6 +2,7 @@ package com.tdgame.model.systems;
 
 import com.tdgame.config.GameConfig;
 import com.tdgame.core.EventBus;
+import com.tdgame.core.GameContext;
 
 /**
  * Manages victory and defeat conditions according to game rules.
@@ -9,6 +10,7 @@ import com.tdgame.core.EventBus;
  */
 public class Rules {
     
+    private final GameContext context;
     private final GameConfig config;
     private final WaveManager waveManager;
     private final CombatSystem combatSystem;
@@ -19,7 +21,8 @@ public class Rules {
     private boolean gameOver = false;
     private boolean victory = false;
     
-    public Rules(GameConfig config, WaveManager waveManager, CombatSystem combatSystem) {
+    public Rules(GameContext context, GameConfig config, WaveManager waveManager, CombatSystem combatSystem) {
+        this.context = context;
         this.config = config;
         this.waveManager = waveManager;
         this.combatSystem = combatSystem;
@@ -29,7 +32,7 @@ public class Rules {
         calculateTotalEnemyPower();
         
         // Subscribe to enemy reached castle events
-        EventBus.getInstance().subscribe(EventBus.EnemyReachedCastleEvent.class, this::onEnemyReachedCastle);
+        context.getEventBus().subscribe(EventBus.EnemyReachedCastleEvent.class, this::onEnemyReachedCastle);
     }
     
     public void update(double deltaTime) {
@@ -51,7 +54,7 @@ public class Rules {
             gameOver = true;
             
             // Trigger victory event
-            EventBus.getInstance().publish(new EventBus.GameOverEvent(true));
+            context.getEventBus().publish(new EventBus.GameOverEvent(true));
             
             System.out.println("🎉 VICTORY! All waves defeated!");
         }
@@ -64,15 +67,15 @@ public class Rules {
         if (gameOver) return;
         
         // Defeat: >= 10% of total enemy power has leaked
-        if (totalEnemyPower > 0) {
-            double leakPercentage = (double) leakedEnemyPower / totalEnemyPower;
+        if (getTotalEnemyPower() > 0) {
+            double leakPercentage = getCurrentLeakPercentage();
             
             if (leakPercentage >= leakDefeatThreshold) {
                 victory = false;
                 gameOver = true;
                 
                 // Trigger defeat event
-                EventBus.getInstance().publish(new EventBus.GameOverEvent(false));
+                context.getEventBus().publish(new EventBus.GameOverEvent(false));
                 
                 System.out.println("💀 DEFEAT! " + String.format("%.1f%%", leakPercentage * 100) + " enemies reached castle! (Limit: " + String.format("%.1f%%", leakDefeatThreshold * 100) + ")");
             }
@@ -86,7 +89,7 @@ public class Rules {
         leakedEnemyPower += event.damage;
         
         System.out.println("Enemy reached castle! Power: " + event.damage + 
-                          ", Total leaked: " + leakedEnemyPower + "/" + totalEnemyPower + 
+                          ", Total leaked: " + leakedEnemyPower + "/" + getTotalEnemyPower() + 
                           " (" + String.format("%.1f%%", getCurrentLeakPercentage() * 100) + ")");
     }
     
@@ -115,7 +118,7 @@ public class Rules {
     /**
      * Get enemy power by type
      */
-    private int getEnemyPower(String type) {
+    static int getEnemyPower(String type) {
         return switch (type.toLowerCase()) {
             case "soldier" -> 1;
             case "soldierfast" -> 1;
@@ -137,14 +140,15 @@ public class Rules {
      * Get current leak percentage
      */
     public double getCurrentLeakPercentage() {
-        return totalEnemyPower > 0 ? (double) leakedEnemyPower / totalEnemyPower : 0.0;
+        int total = getTotalEnemyPower();
+        return total > 0 ? (double) leakedEnemyPower / total : 0.0;
     }
     
     /**
      * Get remaining allowed leak before defeat
      */
     public double getRemainingLeakAllowance() {
-        if (totalEnemyPower <= 0) return 1.0;
+        if (getTotalEnemyPower() <= 0) return 1.0;
         
         double currentLeak = getCurrentLeakPercentage();
         return Math.max(0.0, leakDefeatThreshold - currentLeak);
@@ -163,7 +167,7 @@ public class Rules {
     // Getters
     public boolean isGameOver() { return gameOver; }
     public boolean isVictory() { return victory; }
-    public int getTotalEnemyPower() { return totalEnemyPower; }
+    public int getTotalEnemyPower() { return totalEnemyPower + waveManager.getGeneratedPower(); } // Generated waves count once scheduled
     public int getLeakedEnemyPower() { return leakedEnemyPower; }
     public double getLeakDefeatThreshold() { return leakDefeatThreshold; }
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.tdgame.model.systems;
+
+import com.tdgame.model.actors.Structure;
+import com.tdgame.util.Math2D;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-tile buckets of the live player structures. Structures never move, so
+ * they are bucketed once when built and dropped when destroyed; range queries
+ * only visit the tiles that overlap the query circle.
+ *
+ * Queries fill one shared scratch list, valid until the next query.
+ */
+public class StructureGrid {
+    
+    private final int rows;
+    private final int cols;
+    private final double tileSize;
+    private final List<List<Structure>> cells;
+    private final List<Structure> scratch = new ArrayList<>();
+    private int size = 0;
+    
+    public StructureGrid(int rows, int cols, double tileSize) {
+        this.rows = rows;
+        this.cols = cols;
+        this.tileSize = tileSize;
+        this.cells = new ArrayList<>(rows * cols);
+        for (int i = 0; i < rows * cols; i++) cells.add(new ArrayList<>());
+    }
+    
+    /**
+     * Bucket a newly built structure at its current position
+     */
+    public void add(Structure structure) {
+        List<Structure> cell = cellAt(structure.getX(), structure.getY());
+        if (cell.contains(structure)) return;
+        cell.add(structure);
+        size++;
+    }
+    
+    /**
+     * Drop a destroyed structure
+     */
+    public void remove(Structure structure) {
+        if (cellAt(structure.getX(), structure.getY()).remove(structure)) {
+            size--;
+        }
+    }
+    
+    /**
+     * Live structures within the radius of a point.
+     * Returns the shared scratch list, which the next query overwrites.
+     */
+    public List<Structure> query(double x, double y, double radius) {
+        scratch.clear();
+        int minCol = clampCol((int) Math.floor((x - radius) / tileSize));
+        int maxCol = clampCol((int) Math.floor((x + radius) / tileSize));
+        int minRow = clampRow((int) Math.floor((y - radius) / tileSize));
+        int maxRow = clampRow((int) Math.floor((y + radius) / tileSize));
+        
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int col = minCol; col <= maxCol; col++) {
+                List<Structure> cell = cells.get(row * cols + col);
+                for (int i = 0; i < cell.size(); i++) {
+                    Structure structure = cell.get(i);
+                    if (structure.isAlive()
+                            && Math2D.distance(x, y, structure.getX(), structure.getY()) <= radius) {
+                        scratch.add(structure);
+                    }
+                }
+            }
+        }
+        return scratch;
+    }
+    
+    private List<Structure> cellAt(double x, double y) {
+        int col = clampCol((int) Math.floor(x / tileSize));
+        int row = clampRow((int) Math.floor(y / tileSize));
+        return cells.get(row * cols + col);
+    }
+    
+    private int clampCol(int col) {
+        return Math.max(0, Math.min(cols - 1, col));
+    }
+    
+    private int clampRow(int row) {
+        return Math.max(0, Math.min(rows - 1, row));
+    }
+    
+    // Getters
+    public int size() { return size; }
+}
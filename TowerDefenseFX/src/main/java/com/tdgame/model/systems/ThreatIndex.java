@@ -0,0 +1,170 @@
+package com.tdgame.model.systems;
+
+import com.tdgame.model.actors.AADefense;
+import com.tdgame.model.actors.Structure;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-row and per-column totals of the live player structures, kept up to
+ * date as structures are built and destroyed. Aircraft strike planning reads
+ * the totals in O(rows + cols), and strikes only visit the structures of
+ * the struck line.
+ *
+ * A structure is scored at twice its max HP, an AA defense at three times,
+ * since AA is what keeps aircraft from striking at all.
+ */
+public class ThreatIndex {
+    
+    private final int rows;
+    private final int cols;
+    private final double tileSize;
+    
+    private final double[] rowScores;
+    private final double[] colScores;
+    private final int[] rowCounts;
+    private final int[] colCounts;
+    private final List<List<Entry>> rowEntries;
+    private final List<List<Entry>> colEntries;
+    private final Map<Structure, Entry> entries = new IdentityHashMap<>();
+    
+    private static class Entry {
+        final Structure structure;
+        final int row;
+        final int col;
+        final double score;
+        
+        Entry(Structure structure, int row, int col, double score) {
+            this.structure = structure;
+            this.row = row;
+            this.col = col;
+            this.score = score;
+        }
+    }
+    
+    public ThreatIndex(int rows, int cols, double tileSize) {
+        this.rows = rows;
+        this.cols = cols;
+        this.tileSize = tileSize;
+        this.rowScores = new double[rows];
+        this.colScores = new double[cols];
+        this.rowCounts = new int[rows];
+        this.colCounts = new int[cols];
+        this.rowEntries = new ArrayList<>(rows);
+        this.colEntries = new ArrayList<>(cols);
+        for (int row = 0; row < rows; row++) rowEntries.add(new ArrayList<>());
+        for (int col = 0; col < cols; col++) colEntries.add(new ArrayList<>());
+    }
+    
+    /**
+     * Index a newly built structure at its current position
+     */
+    public void add(Structure structure) {
+        if (!structure.isAlive() || entries.containsKey(structure)) return;
+        
+        int row = (int) (structure.getY() / tileSize);
+        int col = (int) (structure.getX() / tileSize);
+        double score = structure.getMaxHp() * (structure instanceof AADefense ? 3.0 : 2.0);
+        Entry entry = new Entry(structure, row, col, score);
+        entries.put(structure, entry);
+        
+        if (row >= 0 && row < rows) {
+            rowScores[row] += score;
+            rowCounts[row]++;
+            rowEntries.get(row).add(entry);
+        }
+        if (col >= 0 && col < cols) {
+            colScores[col] += score;
+            colCounts[col]++;
+            colEntries.get(col).add(entry);
+        }
+    }
+    
+    /**
+     * Drop a structure from the index; does nothing if it is not indexed
+     */
+    public void remove(Structure structure) {
+        Entry entry = entries.remove(structure);
+        if (entry == null) return;
+        
+        if (entry.row >= 0 && entry.row < rows) {
+            rowScores[entry.row] -= entry.score;
+            rowCounts[entry.row]--;
+            rowEntries.get(entry.row).remove(entry);
+        }
+        if (entry.col >= 0 && entry.col < cols) {
+            colScores[entry.col] -= entry.score;
+            colCounts[entry.col]--;
+            colEntries.get(entry.col).remove(entry);
+        }
+    }
+    
+    /**
+     * Damage every structure in a row, dropping the ones destroyed
+     * @return the number of structures hit
+     */
+    public int strikeRow(int row, int damage) {
+        if (row < 0 || row >= rows) return 0;
+        return strike(rowEntries.get(row), damage);
+    }
+    
+    /**
+     * Damage every structure in a column, dropping the ones destroyed
+     * @return the number of structures hit
+     */
+    public int strikeColumn(int col, int damage) {
+        if (col < 0 || col >= cols) return 0;
+        return strike(colEntries.get(col), damage);
+    }
+    
+    private int strike(List<Entry> line, int damage) {
+        // Copy first: destroyed structures are removed from this very list
+        Entry[] targets = line.toArray(new Entry[0]);
+        for (Entry entry : targets) {
+            entry.structure.takeDamage(damage);
+            if (!entry.structure.isAlive()) {
+                remove(entry.structure);
+            }
+        }
+        return targets.length;
+    }
+    
+    /**
+     * Row with the highest score, or -1 if every row is empty.
+     * Ties go to the lowest index.
+     */
+    public int getBestRow() {
+        return argmax(rowScores);
+    }
+    
+    /**
+     * Column with the highest score, or -1 if every column is empty
+     */
+    public int getBestColumn() {
+        return argmax(colScores);
+    }
+    
+    private static int argmax(double[] scores) {
+        int best = -1;
+        double bestScore = 0;
+        for (int i = 0; i < scores.length; i++) {
+            if (scores[i] > bestScore) {
+                bestScore = scores[i];
+                best = i;
+            }
+        }
+        return best;
+    }
+    
+    // Getters
+    public int getRows() { return rows; }
+    public int getCols() { return cols; }
+    public double getRowScore(int row) { return rowScores[row]; }
+    public double getColumnScore(int col) { return colScores[col]; }
+    public int getRowCount(int row) { return rowCounts[row]; }
+    public int getColumnCount(int col) { return colCounts[col]; }
+    public int size() { return entries.size(); }
+}
@@ -1,60 +1,93 @@
 package com.tdgame.model.systems;
 
 import com.tdgame.config.GameConfig;
-import com.tdgame.config.WaveData;
+import com.tdgame.config.SpawnTimeline;
+import com.tdgame.config.WaveGenerator;
 import com.tdgame.config.Balance;
 import com.tdgame.model.actors.*;
 import com.tdgame.model.grid.GridMap;
 import com.tdgame.core.EventBus;
-import com.tdgame.util.RNG;
+import com.tdgame.core.GameContext;
+import com.tdgame.diagnostics.JfrEvents;
 
-import java.util.List;
 import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Manages enemy wave spawning and progression.
- * Spawns enemies according to wave configuration data.
+ * Spawns enemies from the precompiled {@link SpawnTimeline} of each wave:
+ * every tick emits all spawns whose time has passed, so spawning keeps to
+ * schedule at any frame rate or time scale.
  */
 public class WaveManager {
     
+    private final GameContext context;
     private final GameConfig config;
     private final GridMap gridMap;
     private final List<Enemy> enemies;
     private CombatSystem combatSystem;
     
-    private List<WaveData.Wave> waves;
+    private final List<SpawnTimeline> waves;
+    private WaveGenerator endlessGenerator = null;
+    private int generatedPower = 0; // Power of the waves added by the endless generator
     private int currentWaveIndex = 0;
     private double gameTime = 0.0;
     private boolean allWavesComplete = false;
     
     // Current wave state
-    private WaveData.Wave currentWave = null;
+    private SpawnTimeline currentWave = null;
     private boolean waveStarted = false;
-    private List<WaveData.EnemySpawn> remainingSpawns = new ArrayList<>();
-    private double spawnTimer = 0.0;
-    private int currentSpawnIndex = 0;
-    private int enemiesSpawnedInCurrentGroup = 0;
-    
-    // Lane alternation for soldiers
-    private int nextLane = 0; // 0 or 1
+    private double waveStartTime = 0.0;
+    private double previousWaveEndTime = 0.0;
+    private int nextSpawn = 0;
+    private int nextPath = 0; // Spawns take turns on the level's paths
     
     // Aircraft strike tracking
     private boolean aircraftStrikeTriggered = false;
     
-    public WaveManager(GameConfig config, GridMap gridMap, List<Enemy> enemies) {
+    public WaveManager(GameContext context, GameConfig config, GridMap gridMap, List<Enemy> enemies) {
+        this.context = context;
         this.config = config;
         this.gridMap = gridMap;
         this.enemies = enemies;
-        this.waves = config.getWaveData().waves;
+        this.waves = new ArrayList<>(config.getSpawnTimelines());
+        
+        if (config.getWaveData().endless) {
+            setEndless(new WaveGenerator(WaveGenerator.endless(), config.getBalance().enemies, context.getSeed()));
+        }
     }
     
     public void setCombatSystem(CombatSystem combatSystem) {
         this.combatSystem = combatSystem;
     }
     
+    /**
+     * Keep generating waves once the configured ones run out, so the game
+     * only ends in defeat. Enabled by wave files with {@code "endless": true};
+     * call before {@link #start()}.
+     */
+    public void setEndless(WaveGenerator generator) {
+        this.endlessGenerator = generator;
+        if (waves.isEmpty()) {
+            addGeneratedWave(generator.nextTimeline(null));
+        }
+    }
+    
+    private void addGeneratedWave(SpawnTimeline timeline) {
+        waves.add(timeline);
+        for (int i = 0; i < timeline.size(); i++) {
+            generatedPower += Rules.getEnemyPower(timeline.getType(i));
+        }
+        if (timeline.getAircraftChance() != null && timeline.getAircraftChance() > 0) {
+            generatedPower += Rules.getEnemyPower("aircraft");
+        }
+    }
+    
     public void start() {
         gameTime = 0.0;
         currentWaveIndex = 0;
+        nextPath = 0;
+        previousWaveEndTime = 0.0;
         allWavesComplete = false;
         
         // Start first wave if available
@@ -66,20 +99,18 @@ public class WaveManager {
     public void update(double deltaTime) {
         gameTime += deltaTime;
         
-        if (allWavesComplete) return;
-        
-        // Check if it's time to start the next wave
-        if (!waveStarted && currentWave != null && gameTime >= currentWave.delay) {
-            startCurrentWave();
-        }
-        
-        // Spawn enemies from current wave
-        if (waveStarted) {
-            updateEnemySpawning(deltaTime);
-        }
-        
-        // Check if current wave is complete (all enemy types spawned)
-        if (waveStarted && currentSpawnIndex >= currentWave.enemies.size()) {
+        // A long tick may start a wave, finish it and start the next one
+        while (!allWavesComplete && currentWave != null) {
+            // Check if it's time to start the next wave
+            if (!waveStarted) {
+                if (gameTime < currentWave.getDelay()) break;
+                startCurrentWave();
+            }
+            
+            spawnDueEnemies();
+            
+            // Check if current wave is complete (all enemies spawned)
+            if (nextSpawn < currentWave.size()) break;
             completeCurrentWave();
         }
     }
@@ -92,11 +123,7 @@ public class WaveManager {
             currentWave = waves.get(currentWaveIndex);
             waveStarted = false;
             aircraftStrikeTriggered = false;
-            
-            // Reset spawning state
-            currentSpawnIndex = 0;
-            enemiesSpawnedInCurrentGroup = 0;
-            spawnTimer = 0.0;
+            nextSpawn = 0;
         }
     }
     
@@ -104,87 +131,84 @@ public class WaveManager {
      * Start spawning the current wave
      */
     private void startCurrentWave() {
+        JfrEvents.WaveStart event = new JfrEvents.WaveStart();
+        event.begin();
         waveStarted = true;
         
-        // Copy enemy spawns to remaining list
-        remainingSpawns.clear();
-        remainingSpawns.addAll(currentWave.enemies);
+        // Waves start at their delay, or once the previous wave has finished spawning
+        waveStartTime = Math.max(currentWave.getDelay(), previousWaveEndTime);
         
-        EventBus.getInstance().publish(new EventBus.WaveStartedEvent(currentWaveIndex + 1));
+        context.getEventBus().publish(new EventBus.WaveStartedEvent(currentWaveIndex + 1));
         
         // Trigger aircraft strike if specified
-        if (currentWave.aircraftChance != null && RNG.nextBoolean(currentWave.aircraftChance)) {
+        Double aircraftChance = currentWave.getAircraftChance();
+        if (aircraftChance != null && context.getWaveRng().nextBoolean(aircraftChance)) {
             scheduleAircraftStrike();
         }
+        
+        if (event.shouldCommit()) {
+            event.wave = currentWaveIndex + 1;
+            event.enemies = currentWave.size();
+            event.aircraft = aircraftStrikeTriggered;
+            event.commit();
+        }
     }
     
     /**
-     * Update enemy spawning within the current wave
+     * Spawn every enemy of the current wave whose time has passed
      */
-    private void updateEnemySpawning(double deltaTime) {
-        if (remainingSpawns.isEmpty()) return;
+    private void spawnDueEnemies() {
+        int due = currentWave.dueUntil(nextSpawn, gameTime - waveStartTime);
+        if (due <= nextSpawn) return;
         
-        spawnTimer -= deltaTime;
+        JfrEvents.SpawnBatch event = new JfrEvents.SpawnBatch();
+        event.begin();
+        int first = nextSpawn;
+        for (; nextSpawn < due; nextSpawn++) {
+            spawnEnemy(currentWave.getType(nextSpawn), currentWave.getLane(nextSpawn));
+        }
         
-        if (spawnTimer <= 0) {
-            spawnNextEnemy();
+        if (event.shouldCommit()) {
+            event.wave = currentWaveIndex + 1;
+            event.spawned = due - first;
+            event.liveEnemies = enemies.size();
+            event.commit();
         }
     }
     
     /**
-     * Spawn the next enemy in the current wave
+     * Spawn one enemy, cycling through the paths of the level
      */
-    private void spawnNextEnemy() {
-        if (currentSpawnIndex >= remainingSpawns.size()) return;
-        
-        WaveData.EnemySpawn spawn = remainingSpawns.get(currentSpawnIndex);
+    private void spawnEnemy(String type, int lane) {
+        List<GridMap.Path> paths = gridMap.getPaths();
+        GridMap.Path path = paths.isEmpty() ? null : paths.get(nextPath);
+        nextPath = paths.isEmpty() ? 0 : (nextPath + 1) % paths.size();
         
-        // Create enemy based on type
-        Enemy enemy = createEnemy(spawn.type);
-        if (enemy != null) {
-            enemy.setPath(gridMap.getMainPath());
-            
-            // Set lane for soldiers (alternate lanes), tanks use center
-            if (enemy instanceof Soldier || enemy instanceof SoldierFast || enemy instanceof SoldierHeavy) {
-                enemy.setLane(nextLane);
-                nextLane = 1 - nextLane; // Alternate between 0 and 1
-            } else if (enemy instanceof Tank) {
-                enemy.setLane(0); // Tanks always center (lane offset = 0)
-            }
-            // Aircraft don't use paths
-            
-            enemies.add(enemy);
-        }
+        Enemy enemy = createEnemy(type, path, lane);
+        if (enemy == null) return;
         
-        enemiesSpawnedInCurrentGroup++;
-        
-        // Check if we've spawned all enemies of this type
-        if (enemiesSpawnedInCurrentGroup >= spawn.count) {
-            currentSpawnIndex++;
-            enemiesSpawnedInCurrentGroup = 0;
-            
-            // Set timer for next enemy group (or next enemy in current group)
-            if (currentSpawnIndex < remainingSpawns.size()) {
-                spawnTimer = remainingSpawns.get(currentSpawnIndex).gap;
-            }
-        } else {
-            // Set timer for next enemy in current group
-            spawnTimer = spawn.gap;
-        }
+        enemies.add(enemy);
     }
     
     /**
-     * Create an enemy of the specified type
+     * Take an enemy of the specified type from the actor pools, placed at the
+     * start of the path. Soldiers alternate lanes, tanks use center; aircraft
+     * are never pooled and don't use lanes.
      */
-    private Enemy createEnemy(String type) {
+    private Enemy createEnemy(String type, GridMap.Path path, int lane) {
         Balance.EnemiesConfig enemies = config.getBalance().enemies;
+        ActorPools pools = context.getActorPools();
         
-        return switch (type.toLowerCase()) {
-            case "soldier" -> new Soldier(enemies.soldier);
-            case "soldierfast" -> new SoldierFast(enemies.soldierFast);
-            case "soldierheavy" -> new SoldierHeavy(enemies.soldierHeavy);
-            case "tank" -> new Tank(enemies.tank);
-            case "aircraft" -> new Aircraft(enemies.aircraft);
+        return switch (type) {
+            case "soldier" -> pools.obtainSoldier(enemies.soldier, path, lane);
+            case "soldierfast" -> pools.obtainSoldierFast(enemies.soldierFast, path, lane);
+            case "soldierheavy" -> pools.obtainSoldierHeavy(enemies.soldierHeavy, path, lane);
+            case "tank" -> pools.obtainTank(enemies.tank, path, lane);
+            case "aircraft" -> {
+                Aircraft aircraft = new Aircraft(context, enemies.aircraft);
+                aircraft.setPath(path);
+                yield aircraft;
+            }
             default -> {
                 System.err.println("Unknown enemy type: " + type);
                 yield null;
@@ -199,13 +223,10 @@ public class WaveManager {
         if (aircraftStrikeTriggered) return;
         
         // Create aircraft enemy
-        Enemy aircraftEnemy = createEnemy("aircraft");
-        if (aircraftEnemy instanceof Aircraft aircraft) {
-            aircraft.setCombatSystem(combatSystem, config);
-            enemies.add(aircraft);
-            aircraftStrikeTriggered = true;
-            
-        }
+        Aircraft aircraft = new Aircraft(context, config.getBalance().enemies.aircraft);
+        aircraft.setCombatSystem(combatSystem, config);
+        enemies.add(aircraft);
+        aircraftStrikeTriggered = true;
     }
     
     /**
@@ -213,13 +234,27 @@ public class WaveManager {
      */
     private void completeCurrentWave() {
         waveStarted = false;
+        previousWaveEndTime = waveStartTime + currentWave.getDuration();
         currentWaveIndex++;
         
         System.out.println("Wave " + currentWaveIndex + " completed! Total waves: " + waves.size());
         
+        JfrEvents.WaveComplete event = new JfrEvents.WaveComplete();
+        if (event.shouldCommit()) {
+            event.wave = currentWaveIndex;
+            event.enemies = currentWave.size();
+            event.liveEnemies = enemies.size();
+            event.commit();
+        }
+        
+        if (currentWaveIndex == waves.size() && endlessGenerator != null) {
+            addGeneratedWave(endlessGenerator.nextTimeline(currentWave));
+        }
+        
         if (currentWaveIndex < waves.size()) {
             scheduleNextWave();
         } else {
+            currentWave = null;
             allWavesComplete = true;
             System.out.println("🎉 All waves completed! Victory should trigger.");
         }
@@ -241,6 +276,20 @@ public class WaveManager {
         return Math.min(waveNumber, waves.size());
     }
     
+    /**
+     * Check if waves are generated without end
+     */
+    public boolean isEndless() {
+        return endlessGenerator != null;
+    }
+    
+    /**
+     * Total power of the generated waves scheduled so far
+     */
+    public int getGeneratedPower() {
+        return generatedPower;
+    }
+    
     /**
      * Check if all waves are complete
      */
@@ -253,17 +302,7 @@ public class WaveManager {
      */
     public int getRemainingEnemiesInWave() {
         if (!waveStarted || currentWave == null) return 0;
-        
-        int remaining = 0;
-        for (int i = currentSpawnIndex; i < remainingSpawns.size(); i++) {
-            WaveData.EnemySpawn spawn = remainingSpawns.get(i);
-            if (i == currentSpawnIndex) {
-                remaining += spawn.count - enemiesSpawnedInCurrentGroup;
-            } else {
-                remaining += spawn.count;
-            }
-        }
-        return remaining;
+        return currentWave.size() - nextSpawn;
     }
     
     /**
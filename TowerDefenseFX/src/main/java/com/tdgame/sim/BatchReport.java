@@ -0,0 +1,142 @@
+package com.tdgame.sim;
+
+import com.tdgame.util.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Aggregated results of a batch run, one row per (level, difficulty, build order).
+ * Written as CSV or JSON depending on the output file extension.
+ */
+public class BatchReport {
+    
+    public static class Row {
+        public final String level;
+        public final String difficulty;
+        public final String buildOrder;
+        public final int games;
+        public final int wins;
+        public final int timeouts;
+        public final double winRate;
+        public final double leakMean;
+        public final double leakP10;
+        public final double leakP50;
+        public final double leakP90;
+        public final double leakMax;
+        public final double meanTicks;
+        public final double meanSimulatedSeconds;
+        public final double meanAllocatedBytesPerTick;
+        
+        Row(List<GameResult> results) {
+            GameResult first = results.get(0);
+            this.level = first.level;
+            this.difficulty = first.difficulty;
+            this.buildOrder = first.buildOrder;
+            this.games = results.size();
+            this.wins = (int) results.stream().filter(r -> r.victory).count();
+            this.timeouts = (int) results.stream().filter(r -> r.timedOut).count();
+            this.winRate = (double) wins / games;
+            
+            double[] leaks = results.stream().mapToDouble(r -> r.leakPercentage).sorted().toArray();
+            this.leakMean = Arrays.stream(leaks).average().orElse(0);
+            this.leakP10 = percentile(leaks, 0.10);
+            this.leakP50 = percentile(leaks, 0.50);
+            this.leakP90 = percentile(leaks, 0.90);
+            this.leakMax = leaks[leaks.length - 1];
+            
+            this.meanTicks = results.stream().mapToLong(r -> r.ticks).average().orElse(0);
+            this.meanSimulatedSeconds = results.stream().mapToDouble(r -> r.simulatedSeconds).average().orElse(0);
+            this.meanAllocatedBytesPerTick = results.stream().mapToDouble(r -> r.allocatedBytesPerTick).average().orElse(0);
+        }
+    }
+    
+    public final int totalGames;
+    public final int threads;
+    public final double wallSeconds;
+    public final double gamesPerSecond;
+    public final List<Row> rows;
+    
+    public BatchReport(List<GameResult> results, int threads, double wallSeconds) {
+        this.totalGames = results.size();
+        this.threads = threads;
+        this.wallSeconds = wallSeconds;
+        this.gamesPerSecond = wallSeconds > 0 ? totalGames / wallSeconds : 0;
+        
+        // Group while keeping the order configurations were submitted in
+        Map<String, List<GameResult>> groups = new LinkedHashMap<>();
+        for (GameResult result : results) {
+            String key = result.level + "|" + result.difficulty + "|" + result.buildOrder;
+            groups.computeIfAbsent(key, k -> new ArrayList<>()).add(result);
+        }
+        List<Row> built = new ArrayList<>();
+        for (List<GameResult> group : groups.values()) {
+            built.add(new Row(group));
+        }
+        this.rows = List.copyOf(built);
+    }
+    
+    /**
+     * Nearest-rank percentile of sorted values
+     */
+    static double percentile(double[] sorted, double fraction) {
+        if (sorted.length == 0) return 0;
+        int rank = (int) Math.ceil(fraction * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+    
+    public String toCsv() {
+        StringBuilder csv = new StringBuilder();
+        csv.append("level,difficulty,build_order,games,wins,timeouts,win_rate,")
+           .append("leak_mean,leak_p10,leak_p50,leak_p90,leak_max,mean_ticks,mean_simulated_seconds,")
+           .append("mean_allocated_bytes_per_tick,")
+           .append("games_per_second\n");
+        for (Row row : rows) {
+            csv.append(row.level).append(',')
+               .append(row.difficulty).append(',')
+               .append('"').append(row.buildOrder.replace("\"", "\"\"")).append('"').append(',')
+               .append(row.games).append(',')
+               .append(row.wins).append(',')
+               .append(row.timeouts).append(',')
+               .append(format(row.winRate)).append(',')
+               .append(format(row.leakMean)).append(',')
+               .append(format(row.leakP10)).append(',')
+               .append(format(row.leakP50)).append(',')
+               .append(format(row.leakP90)).append(',')
+               .append(format(row.leakMax)).append(',')
+               .append(format(row.meanTicks)).append(',')
+               .append(format(row.meanSimulatedSeconds)).append(',')
+               .append(format(row.meanAllocatedBytesPerTick)).append(',')
+               .append(format(gamesPerSecond)).append('\n');
+        }
+        return csv.toString();
+    }
+    
+    public String toJson() {
+        return Json.toJson(this);
+    }
+    
+    /**
+     * Write as JSON if the file name ends in .json, CSV otherwise
+     */
+    public void write(Path file) {
+        String content = file.getFileName().toString().endsWith(".json") ? toJson() : toCsv();
+        try {
+            Files.writeString(file, content);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write batch report to " + file, e);
+        }
+    }
+    
+    private static String format(double value) {
+        return String.format(Locale.ROOT, "%.4f", value);
+    }
+}
@@ -0,0 +1,201 @@
+package com.tdgame.sim;
+
+import com.tdgame.config.GameConfig;
+import com.tdgame.config.LevelData;
+import com.tdgame.config.LevelGenerator;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Monte-Carlo batch runner: plays many headless games per
+ * (level, difficulty, build order) in parallel and writes an aggregated report.
+ *
+ * Usage: BatchRunner [--levels=level1,level2] [--difficulties=easy,normal,hard]
+ *                    [--games=100] [--seed=1] [--builds="0:FAST_TOWER@0;none"]
+ *                    [--threads=N] [--step=0.0166667] [--max-time=1800]
+ *                    [--out=batch-report.csv|.json] [--verbose]
+ *                    [--generate=large,medium]
+ *
+ * --generate plays generated stress levels (stress-large, stress-medium) instead
+ * of the default level, each pre-populated with its tower layout. The "endless"
+ * difficulty generates waves until the defence falls, so its games end in
+ * defeat or at --max-time; compare them on mean ticks rather than win rate.
+ *
+ * Game i of every configuration uses seed + i, so configurations are compared
+ * on the same wave and hit rolls.
+ */
+public class BatchRunner {
+    
+    private final List<String> levels;
+    private final List<String> difficulties;
+    private final List<BuildOrder> buildOrders;
+    private final int games;
+    private final long baseSeed;
+    private final int threads;
+    private final double step;
+    private final double maxTime;
+    private final Map<String, BuildOrder> layouts = new HashMap<>();
+    private boolean verbose = false;
+    
+    public BatchRunner(List<String> levels, List<String> difficulties, List<BuildOrder> buildOrders,
+                       int games, long baseSeed, int threads, double step, double maxTime) {
+        this.levels = levels;
+        this.difficulties = difficulties;
+        this.buildOrders = buildOrders;
+        this.games = games;
+        this.baseSeed = baseSeed;
+        this.threads = threads;
+        this.step = step;
+        this.maxTime = maxTime;
+    }
+    
+    /**
+     * Pre-populate every game of a level with a tower layout
+     */
+    public void setLayout(String level, BuildOrder layout) {
+        layouts.put(level, layout);
+    }
+    
+    /**
+     * Print every game's pool, profile and allocation summaries after the run
+     */
+    public void setVerbose(boolean verbose) {
+        this.verbose = verbose;
+    }
+    
+    /**
+     * Play every game on a work-stealing pool and aggregate the results
+     */
+    public BatchReport run() {
+        List<Callable<GameResult>> tasks = new ArrayList<>();
+        for (String level : levels) {
+            for (String difficulty : difficulties) {
+                for (BuildOrder buildOrder : buildOrders) {
+                    for (int i = 0; i < games; i++) {
+                        HeadlessGame game = new HeadlessGame(level, difficulty, baseSeed + i, buildOrder);
+                        game.setLayout(layouts.getOrDefault(level, BuildOrder.NONE));
+                        tasks.add(() -> game.play(step, maxTime));
+                    }
+                }
+            }
+        }
+        
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        long start = System.nanoTime();
+        try {
+            List<GameResult> results = new ArrayList<>(tasks.size());
+            for (Future<GameResult> future : pool.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+            if (verbose) {
+                for (GameResult result : results) {
+                    System.out.println(result.level + "/" + result.difficulty + " seed " + result.seed
+                        + " [" + result.buildOrder + "]\n" + result.diagnostics);
+                }
+            }
+            double wallSeconds = (System.nanoTime() - start) / 1_000_000_000.0;
+            return new BatchReport(results, threads, wallSeconds);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Batch run interrupted", e);
+        } catch (ExecutionException e) {
+            throw new RuntimeException("Headless game failed", e.getCause());
+        } finally {
+            pool.shutdown();
+        }
+    }
+    
+    public static void main(String[] args) {
+        Map<String, String> options = parseArgs(args);
+        
+        long seed = Long.parseLong(options.getOrDefault("seed", "1"));
+        
+        // Generated levels are registered under their name so games load them like resources
+        Map<String, BuildOrder> generated = new LinkedHashMap<>();
+        if (options.containsKey("generate")) {
+            for (String preset : options.get("generate").split(",")) {
+                LevelGenerator.Settings settings = switch (preset) {
+                    case "large" -> LevelGenerator.large();
+                    case "medium" -> LevelGenerator.medium();
+                    default -> throw new IllegalArgumentException("Unknown level preset: " + preset);
+                };
+                String name = "stress-" + preset;
+                LevelGenerator generator = new LevelGenerator(settings, seed);
+                LevelData level = generator.generate(name);
+                GameConfig.registerLevel(name, level);
+                generated.put(name, BuildOrder.parse(generator.generateLayout(level)));
+            }
+        }
+        
+        List<String> levels = options.containsKey("levels") || generated.isEmpty()
+            ? List.of(options.getOrDefault("levels", "level1").split(","))
+            : List.copyOf(generated.keySet());
+        List<String> difficulties = List.of(options.getOrDefault("difficulties", "easy,normal,hard").split(","));
+        List<BuildOrder> buildOrders = new ArrayList<>();
+        for (String spec : options.getOrDefault("builds", "none").split(";")) {
+            buildOrders.add(BuildOrder.parse(spec));
+        }
+        int games = Integer.parseInt(options.getOrDefault("games", "100"));
+        int threads = Integer.parseInt(options.getOrDefault("threads",
+            String.valueOf(Runtime.getRuntime().availableProcessors())));
+        double step = Double.parseDouble(options.getOrDefault("step", String.valueOf(1.0 / 60.0)));
+        double maxTime = Double.parseDouble(options.getOrDefault("max-time", "1800"));
+        Path out = Path.of(options.getOrDefault("out", "batch-report.csv"));
+        
+        BatchRunner runner = new BatchRunner(levels, difficulties, buildOrders, games, seed, threads, step, maxTime);
+        generated.forEach(runner::setLayout);
+        runner.setVerbose(options.containsKey("verbose"));
+        
+        // Game systems log to stdout; silence them unless asked, it dominates runtime otherwise
+        PrintStream console = System.out;
+        if (!options.containsKey("verbose")) {
+            System.setOut(new PrintStream(OutputStream.nullOutputStream()));
+        }
+        BatchReport report;
+        try {
+            report = runner.run();
+        } finally {
+            System.setOut(console);
+        }
+        
+        report.write(out);
+        console.printf("Played %d games on %d threads in %.2fs (%.1f games/s)%n",
+            report.totalGames, report.threads, report.wallSeconds, report.gamesPerSecond);
+        for (BatchReport.Row row : report.rows) {
+            console.printf("  %s/%s [%s]: win rate %.1f%%, leak p50 %.1f%% p90 %.1f%%, %.0f ticks, %.0f B/tick%n",
+                row.level, row.difficulty, row.buildOrder, row.winRate * 100,
+                row.leakP50 * 100, row.leakP90 * 100, row.meanTicks, row.meanAllocatedBytesPerTick);
+        }
+        console.println("Report written to " + out.toAbsolutePath());
+    }
+    
+    /**
+     * Parse "--key=value" and bare "--flag" arguments
+     */
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + arg);
+            }
+            int eq = arg.indexOf('=');
+            if (eq < 0) {
+                options.put(arg.substring(2), "true");
+            } else {
+                options.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+        }
+        return options;
+    }
+}
@@ -0,0 +1,72 @@
+package com.tdgame.sim;
+
+import com.tdgame.controller.BuildMenuController.BuildOption;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Scripted build order for headless games.
+ * Written as comma-separated "time:OPTION@slot" steps, e.g.
+ * "0:FAST_TOWER@0,5:POWER_TOWER@1,20:AA_60@2". Steps run in order; each waits
+ * until its time has passed and the money is available.
+ */
+public class BuildOrder {
+    
+    public static final BuildOrder NONE = new BuildOrder("none", List.of());
+    
+    public static class Step {
+        public final double time;
+        public final BuildOption option;
+        public final int slot; // Index into the slot list for the option's kind
+        
+        public Step(double time, BuildOption option, int slot) {
+            this.time = time;
+            this.option = option;
+            this.slot = slot;
+        }
+    }
+    
+    private final String spec;
+    private final List<Step> steps;
+    
+    private BuildOrder(String spec, List<Step> steps) {
+        this.spec = spec;
+        this.steps = steps;
+    }
+    
+    /**
+     * Parse a build order spec; "none" or an empty string means no builds
+     */
+    public static BuildOrder parse(String spec) {
+        if (spec == null || spec.isBlank() || spec.equalsIgnoreCase("none")) {
+            return NONE;
+        }
+        
+        List<Step> steps = new ArrayList<>();
+        for (String part : spec.split(",")) {
+            String entry = part.trim();
+            int colon = entry.indexOf(':');
+            int at = entry.indexOf('@');
+            if (colon < 0 || at < colon) {
+                throw new IllegalArgumentException("Invalid build step '" + entry + "', expected time:OPTION@slot");
+            }
+            try {
+                double time = Double.parseDouble(entry.substring(0, colon));
+                BuildOption option = BuildOption.valueOf(entry.substring(colon + 1, at).toUpperCase(Locale.ROOT));
+                int slot = Integer.parseInt(entry.substring(at + 1));
+                steps.add(new Step(time, option, slot));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Invalid build step '" + entry + "': " + e.getMessage(), e);
+            }
+        }
+        steps.sort((a, b) -> Double.compare(a.time, b.time));
+        return new BuildOrder(spec.trim(), Collections.unmodifiableList(steps));
+    }
+    
+    // Getters
+    public String getSpec() { return spec; }
+    public List<Step> getSteps() { return steps; }
+}
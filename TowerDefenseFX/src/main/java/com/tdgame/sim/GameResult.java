@@ -0,0 +1,37 @@
+package com.tdgame.sim;
+
+/**
+ * Outcome of one headless game
+ */
+public class GameResult {
+    public final String level;
+    public final String difficulty;
+    public final String buildOrder;
+    public final long seed;
+    public final boolean victory;
+    public final boolean timedOut;
+    public final double leakPercentage;
+    public final long ticks;
+    public final double simulatedSeconds;
+    public final int skippedBuildSteps;
+    public final double allocatedBytesPerTick; // Mean over the game, 0 if the JVM cannot measure it
+    public final String diagnostics; // Actor pool, frame profile and allocation summaries
+    
+    public GameResult(String level, String difficulty, String buildOrder, long seed,
+                      boolean victory, boolean timedOut, double leakPercentage,
+                      long ticks, double simulatedSeconds, int skippedBuildSteps,
+                      double allocatedBytesPerTick, String diagnostics) {
+        this.level = level;
+        this.difficulty = difficulty;
+        this.buildOrder = buildOrder;
+        this.seed = seed;
+        this.victory = victory;
+        this.timedOut = timedOut;
+        this.leakPercentage = leakPercentage;
+        this.ticks = ticks;
+        this.simulatedSeconds = simulatedSeconds;
+        this.skippedBuildSteps = skippedBuildSteps;
+        this.allocatedBytesPerTick = allocatedBytesPerTick;
+        this.diagnostics = diagnostics;
+    }
+}
@@ -0,0 +1,118 @@
+package com.tdgame.sim;
+
+import com.tdgame.config.GameConfig;
+import com.tdgame.controller.BuildMenuController;
+import com.tdgame.core.GameContext;
+import com.tdgame.core.Simulation;
+import com.tdgame.diagnostics.AllocationMeter;
+import com.tdgame.model.grid.BuildSlot;
+
+import java.util.List;
+
+/**
+ * Plays one complete game without any UI using fixed time steps.
+ * Each instance has its own {@link GameContext}, so many can run in parallel.
+ */
+public class HeadlessGame {
+    
+    private final String level;
+    private final String difficulty;
+    private final long seed;
+    private final BuildOrder buildOrder;
+    private BuildOrder layout = BuildOrder.NONE;
+    private int warmupTicks = 0;
+    
+    public HeadlessGame(String level, String difficulty, long seed, BuildOrder buildOrder) {
+        this.level = level;
+        this.difficulty = difficulty;
+        this.seed = seed;
+        this.buildOrder = buildOrder;
+    }
+    
+    /**
+     * Towers placed for free before the game starts, e.g. the layout of a
+     * generated level; every step's time is ignored
+     */
+    public void setLayout(BuildOrder layout) {
+        this.layout = layout;
+    }
+    
+    /**
+     * Leave the first ticks out of the allocation figures, so the result
+     * reflects the steady state rather than class loading and JIT warm-up
+     */
+    public void setWarmupTicks(int warmupTicks) {
+        this.warmupTicks = warmupTicks;
+    }
+    
+    /**
+     * Run the game until it ends or the time limit is reached
+     * @param step simulated seconds per tick
+     * @param maxTime simulated seconds before the game is called a timeout
+     */
+    public GameResult play(double step, double maxTime) {
+        GameContext context = new GameContext(seed);
+        GameConfig config = GameConfig.load(level, difficulty);
+        Simulation simulation = new Simulation(context, config);
+        BuildMenuController builder = new BuildMenuController(
+            context, config, simulation.getEconomyManager(), simulation.getCombatSystem());
+        
+        AllocationMeter allocations = context.getAllocationMeter();
+        
+        List<BuildOrder.Step> steps = buildOrder.getSteps();
+        int nextStep = 0;
+        int skippedSteps = 0;
+        
+        for (BuildOrder.Step layoutStep : layout.getSteps()) {
+            if (!builder.place(layoutStep.option, findSlot(simulation, layoutStep))) {
+                skippedSteps++;
+            }
+        }
+        
+        simulation.start();
+        while (!simulation.isOver() && simulation.getSimulationTime() < maxTime) {
+            // Apply every build step that is due and affordable, in order
+            while (nextStep < steps.size() && steps.get(nextStep).time <= simulation.getSimulationTime()) {
+                BuildOrder.Step buildStep = steps.get(nextStep);
+                BuildSlot slot = findSlot(simulation, buildStep);
+                if (slot == null || slot.isOccupied()) {
+                    skippedSteps++;
+                } else if (!builder.canAfford(buildStep.option)) {
+                    break; // Wait for income
+                } else {
+                    builder.tryBuild(buildStep.option, slot);
+                }
+                nextStep++;
+            }
+            
+            long before = allocations.begin();
+            simulation.tick(step);
+            allocations.end(AllocationMeter.Phase.UPDATE, before);
+            if (simulation.getTicks() == warmupTicks) {
+                allocations.reset();
+            }
+            context.getProfiler().endFrame();
+        }
+        
+        return new GameResult(
+            level, difficulty, buildOrder.getSpec(), seed,
+            simulation.getRules().isVictory(),
+            !simulation.isOver(),
+            simulation.getRules().getCurrentLeakPercentage(),
+            simulation.getTicks(),
+            simulation.getSimulationTime(),
+            skippedSteps,
+            allocations.getMean(AllocationMeter.Phase.UPDATE),
+            context.report()
+        );
+    }
+    
+    private BuildSlot findSlot(Simulation simulation, BuildOrder.Step step) {
+        List<BuildSlot> slots = switch (step.option) {
+            case SPEED_BUMP -> simulation.getGridMap().getSpeedBumpSlots();
+            case BOMB -> simulation.getGridMap().getBombSlots();
+            default -> simulation.getGridMap().getBuildSlots();
+        };
+        return step.slot >= 0 && step.slot < slots.size() ? slots.get(step.slot) : null;
+    }
+}
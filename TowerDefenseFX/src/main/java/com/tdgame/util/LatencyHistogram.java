@@ -0,0 +1,77 @@
+package com.tdgame.util;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size log-linear histogram of nanosecond durations.
+ * Every power of two is split into {@value #SUB_BUCKETS} linear buckets, so
+ * any recorded value is reported within about 6% of its true value from
+ * 1 ns up to about 18 minutes. All buckets are allocated up front and
+ * recording never allocates.
+ */
+public class LatencyHistogram {
+    
+    private static final int SUB_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int MAX_MAGNITUDE = 40; // 2^40 ns
+    private static final int BUCKETS = (MAX_MAGNITUDE - SUB_BITS + 2) * SUB_BUCKETS;
+    
+    private final long[] counts = new long[BUCKETS];
+    private long count = 0;
+    private long max = 0;
+    private long total = 0;
+    
+    /**
+     * Record one duration in nanoseconds; negative values count as zero
+     */
+    public void record(long nanos) {
+        long value = Math.max(0, nanos);
+        counts[bucketOf(value)]++;
+        count++;
+        total += value;
+        if (value > max) max = value;
+    }
+    
+    /**
+     * Upper edge of the bucket holding the given quantile (0.0 to 1.0), or 0 if empty
+     */
+    public long getPercentile(double quantile) {
+        if (count == 0) return 0;
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(max, upperEdgeOf(i));
+            }
+        }
+        return max;
+    }
+    
+    public void reset() {
+        Arrays.fill(counts, 0);
+        count = 0;
+        max = 0;
+        total = 0;
+    }
+    
+    private static int bucketOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+        int magnitude = Math.min(MAX_MAGNITUDE, 63 - Long.numberOfLeadingZeros(value));
+        int shift = magnitude - SUB_BITS;
+        int sub = (int) Math.min(SUB_BUCKETS - 1, (value >>> shift) - SUB_BUCKETS);
+        return (shift + 1) * SUB_BUCKETS + sub;
+    }
+    
+    private static long upperEdgeOf(int bucket) {
+        if (bucket < SUB_BUCKETS) return bucket;
+        int shift = bucket / SUB_BUCKETS - 1;
+        long sub = bucket % SUB_BUCKETS;
+        return ((SUB_BUCKETS + sub + 1) << shift) - 1;
+    }
+    
+    // Getters
+    public long getCount() { return count; }
+    public long getMax() { return max; }
+    public double getMean() { return count == 0 ? 0 : (double) total / count; }
+}
@@ -0,0 +1,71 @@
+package com.tdgame.util;
+
+import java.util.ArrayList;
+import java.util.function.Supplier;
+
+/**
+ * Free list of reusable instances for one game.
+ * Not thread-safe: every pool belongs to a single simulation, which only
+ * touches it from its own thread. Callers must reset obtained instances
+ * and must not keep references to released ones.
+ */
+public class ObjectPool<T> {
+
+    private final String name;
+    private final Supplier<T> factory;
+    private final ArrayList<T> free = new ArrayList<>();
+
+    private long obtained;
+    private long reused;
+    private int inUse;
+    private int highWater;
+
+    public ObjectPool(String name, Supplier<T> factory) {
+        this.name = name;
+        this.factory = factory;
+    }
+
+    /**
+     * Take an idle instance, creating one if none is left
+     */
+    public T obtain() {
+        obtained++;
+        inUse++;
+        highWater = Math.max(highWater, inUse);
+
+        if (free.isEmpty()) {
+            return factory.get();
+        }
+        reused++;
+        return free.remove(free.size() - 1);
+    }
+
+    /**
+     * Return an instance that is no longer referenced by the game
+     */
+    public void release(T instance) {
+        inUse--;
+        free.add(instance);
+    }
+
+    /**
+     * Fraction of obtains served from the free list
+     */
+    public double getReuseRatio() {
+        return obtained == 0 ? 0.0 : (double) reused / obtained;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: high-water %d, reuse %.1f%% (%d of %d)",
+            name, highWater, getReuseRatio() * 100, reused, obtained);
+    }
+
+    // Getters
+    public String getName() { return name; }
+    public long getObtained() { return obtained; }
+    public long getReused() { return reused; }
+    public int getInUse() { return inUse; }
+    public int getHighWater() { return highWater; }
+    public int getIdle() { return free.size(); }
+}
@@ -1,33 +1,50 @@
 package com.tdgame.util;
 
-import java.util.Random;
+import java.util.SplittableRandom;
 
 /**
- * Thread-safe random number generator utilities for game logic.
+ * Random number generator utilities for game logic.
  * Provides consistent random behavior and common random operations.
+ * Backed by a seeded {@link SplittableRandom}; each subsystem of a game gets
+ * its own stream via {@link #split()}, so identical seeds replay identically.
+ * Instances are only used from their game's simulation thread.
  */
 public class RNG {
-    private static final ThreadLocal<Random> THREAD_LOCAL_RANDOM = 
-        ThreadLocal.withInitial(() -> new Random());
+    private final SplittableRandom random;
+    
+    public RNG(long seed) {
+        this(new SplittableRandom(seed));
+    }
+    
+    private RNG(SplittableRandom random) {
+        this.random = random;
+    }
+    
+    /**
+     * New independent stream derived from this one
+     */
+    public RNG split() {
+        return new RNG(random.split());
+    }
     
     /**
-     * Get the thread-local Random instance
+     * Get the underlying generator
      */
-    public static Random get() {
-        return THREAD_LOCAL_RANDOM.get();
+    public SplittableRandom get() {
+        return random;
     }
     
     /**
      * Random integer between min (inclusive) and max (exclusive)
      */
-    public static int nextInt(int min, int max) {
+    public int nextInt(int min, int max) {
         return get().nextInt(max - min) + min;
     }
     
     /**
      * Random double between min (inclusive) and max (exclusive)
      */
-    public static double nextDouble(double min, double max) {
+    public double nextDouble(double min, double max) {
         return get().nextDouble() * (max - min) + min;
     }
     
@@ -35,21 +52,28 @@ public class RNG {
      * Random boolean with specified probability
      * @param probability chance of returning true (0.0 to 1.0)
      */
-    public static boolean nextBoolean(double probability) {
+    public boolean nextBoolean(double probability) {
         return get().nextDouble() < probability;
     }
     
     /**
      * Random gaussian (normal distribution) with mean and standard deviation
      */
-    public static double nextGaussian(double mean, double stdDev) {
+    public double nextGaussian(double mean, double stdDev) {
         return get().nextGaussian() * stdDev + mean;
     }
     
+    /**
+     * Fresh seed for games that were not given one
+     */
+    public static long randomSeed() {
+        return new SplittableRandom().nextLong();
+    }
+    
     /**
      * Pick a random element from an array
      */
-    public static <T> T choice(T[] array) {
+    public <T> T choice(T[] array) {
         if (array.length == 0) return null;
         return array[get().nextInt(array.length)];
     }
@@ -57,7 +81,7 @@ public class RNG {
     /**
      * Pick a random element from an int array
      */
-    public static int choice(int[] array) {
+    public int choice(int[] array) {
         if (array.length == 0) return 0;
         return array[get().nextInt(array.length)];
     }
@@ -65,8 +89,8 @@ public class RNG {
     /**
      * Shuffle an array in place
      */
-    public static <T> void shuffle(T[] array) {
-        Random rnd = get();
+    public <T> void shuffle(T[] array) {
+        SplittableRandom rnd = get();
         for (int i = array.length - 1; i > 0; i--) {
             int index = rnd.nextInt(i + 1);
             T temp = array[index];
@@ -1,6 +1,10 @@
 package com.tdgame.view;
 
+import com.tdgame.config.CompiledLevel;
 import com.tdgame.config.GameConfig;
+import com.tdgame.core.FrameProfiler;
+import com.tdgame.core.GameContext;
+import com.tdgame.diagnostics.AllocationMeter;
 import com.tdgame.model.grid.GridMap;
 import com.tdgame.model.grid.Tile;
 import com.tdgame.model.actors.*;
@@ -28,6 +32,11 @@ public class GameCanvas {
     private final GameConfig config;
     private final SpriteLoader spriteLoader;
     
+    // Per-layer timings and per-phase allocations, optionally drawn next to the camera UI
+    private final FrameProfiler profiler;
+    private final AllocationMeter allocations;
+    private boolean showProfiler = false;
+    
     // Camera system
     private double zoomLevel = 1.0;
     private final double MIN_ZOOM = 0.5;
@@ -49,9 +58,11 @@ public class GameCanvas {
     private List<Bomb> bombs;
     private List<AircraftStrikeSystem.PendingStrike> pendingStrikes;
     
-    public GameCanvas(GameConfig config) {
+    public GameCanvas(GameContext context, GameConfig config) {
         this.config = config;
-        this.spriteLoader = SpriteLoader.getInstance();
+        this.spriteLoader = context.getSpriteLoader();
+        this.profiler = context.getProfiler();
+        this.allocations = context.getAllocationMeter();
         
         // Bigger canvas for the new 14x10 grid
         int width = config.getGridCols() * config.getTileSize();
@@ -67,8 +78,8 @@ public class GameCanvas {
             -fx-border-radius: 8;
         """);
         
-        // Preload sprites
-        spriteLoader.preloadCommonSprites();
+        // Preload the sprites this level can draw
+        spriteLoader.preloadSprites(config.getSpriteManifest());
     }
     
     /**
@@ -93,6 +104,8 @@ public class GameCanvas {
     }
     
     public void render() {
+        long renderStart = profiler.start();
+        
         // Clear canvas with gradient background
         gc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
         
@@ -110,25 +123,34 @@ public class GameCanvas {
         gc.translate(centerX, centerY);
         gc.scale(zoomLevel, zoomLevel);
         gc.translate(-centerX + cameraX, -centerY + cameraY);
+        long t = profiler.lap(FrameProfiler.Stage.BACKGROUND, renderStart);
         
         // Render in layers
         renderTiles();
+        t = profiler.lap(FrameProfiler.Stage.TILES, t);
+        boolean manualTiles = config.getCompiledLevel().hasManualTiles();
         // Only render path if not using manual tiles
-        if (config.getLevelData().manualTiles == null || 
-            config.getLevelData().manualTiles.isEmpty()) {
+        if (!manualTiles) {
             renderPath();
+            t = profiler.lap(FrameProfiler.Stage.PATH, t);
         }
         renderBuildSlots();
+        t = profiler.lap(FrameProfiler.Stage.SLOTS, t);
         renderPlaceables();
+        t = profiler.lap(FrameProfiler.Stage.PLACEABLES, t);
         // Render path glow on top of everything if using manual tiles
-        if (config.getLevelData().manualTiles != null && 
-            !config.getLevelData().manualTiles.isEmpty()) {
+        if (manualTiles) {
             renderPathGlow();
+            t = profiler.lap(FrameProfiler.Stage.PATH, t);
         }
         renderEnemies();
+        t = profiler.lap(FrameProfiler.Stage.ENEMIES, t);
         renderTowers();
+        t = profiler.lap(FrameProfiler.Stage.TOWERS, t);
         renderProjectiles();
+        t = profiler.lap(FrameProfiler.Stage.PROJECTILES, t);
         renderEffects();
+        t = profiler.lap(FrameProfiler.Stage.EFFECTS, t);
         renderUI();
         
         // Restore zoom transformation
@@ -136,6 +158,11 @@ public class GameCanvas {
         
         // Render zoom UI
         renderZoomUI();
+        if (showProfiler) {
+            renderProfilerUI();
+        }
+        profiler.lap(FrameProfiler.Stage.UI, t);
+        profiler.lap(FrameProfiler.Stage.RENDER, renderStart);
     }
     
     /**
@@ -148,8 +175,7 @@ public class GameCanvas {
         double tileSize = config.getTileSize();
         
         // Check if manual tiles are defined
-        if (config.getLevelData().manualTiles != null && 
-            !config.getLevelData().manualTiles.isEmpty()) {
+        if (config.getCompiledLevel().hasManualTiles()) {
             // Use manual tile mapping
             renderManualTiles();
         } else {
@@ -159,20 +185,19 @@ public class GameCanvas {
     }
     
     /**
-     * Render tiles using manual tile mapping from JSON
+     * Render tiles using the packed manual tile arrays of the compiled level
      */
     private void renderManualTiles() {
         double tileSize = config.getTileSize();
-        var manualTiles = config.getLevelData().manualTiles;
+        CompiledLevel level = config.getCompiledLevel();
         
-        for (int row = 0; row < manualTiles.size() && row < config.getGridRows(); row++) {
-            var rowTiles = manualTiles.get(row);
-            for (int col = 0; col < rowTiles.size() && col < config.getGridCols(); col++) {
-                var manualTile = rowTiles.get(col);
-                if (manualTile != null) {
+        for (int row = 0; row < level.getRows(); row++) {
+            for (int col = 0; col < level.getCols(); col++) {
+                int tileIndex = level.getTileIndex(col, row);
+                if (tileIndex >= 0) {
                     double x = col * tileSize;
                     double y = row * tileSize;
-                    renderSpriteWithRotation(manualTile.tileIndex, x, y, tileSize, tileSize, manualTile.rotation);
+                    renderSpriteWithRotation(tileIndex, x, y, tileSize, tileSize, level.getTileRotation(col, row));
                 }
             }
         }
@@ -663,14 +688,6 @@ public class GameCanvas {
                 gc.setFill(Color.BLUE.deriveColor(0, 1, 1, 0.3));
                 gc.fillOval(enemy.getX() - 20, enemy.getY() - 20, 40, 40);
             }
-            
-            // Draw attack range for tanks with current target
-            if (enemy instanceof Tank tank && tank.getCurrentEnemyTarget() != null) {
-                gc.setStroke(Color.RED.deriveColor(0, 1, 1, 0.3));
-                gc.setLineWidth(1);
-                double range = tank.getAttackRange() * config.getTileSize();
-                gc.strokeOval(tank.getX() - range, tank.getY() - range, range * 2, range * 2);
-            }
         }
     }
     
@@ -726,11 +743,6 @@ public class GameCanvas {
             if (target.isAlive()) {
                 drawTargetingLine(x, y, target.getX(), target.getY(), Color.PURPLE, "AA");
             }
-        } else if (tank.getCurrentEnemyTarget() != null) {
-            Enemy target = tank.getCurrentEnemyTarget();
-            if (target.isAlive()) {
-                drawTargetingLine(x, y, target.getX(), target.getY(), Color.ORANGE, "ENEMY");
-            }
         }
     }
     
@@ -1245,7 +1257,59 @@ public class GameCanvas {
         gc.setFill(Color.LIGHTGRAY);
         gc.setFont(Font.font("Arial", FontWeight.NORMAL, 10));
         gc.fillText("🖱️ Wheel: Zoom | ⌨️ Arrows: Pan | R: Reset", 10, canvas.getHeight() - 25);
-        gc.fillText("➕➖: Zoom | WASD: Pan", 10, canvas.getHeight() - 10);
+        gc.fillText("➕➖: Zoom | WASD: Pan | F3: Profiler", 10, canvas.getHeight() - 10);
+    }
+    
+    /**
+     * Render p50/p99/max per simulation system and canvas layer, then the
+     * bytes allocated per update and render, beside the camera UI
+     */
+    private void renderProfilerUI() {
+        FrameProfiler.Stage[] stages = FrameProfiler.Stage.values();
+        AllocationMeter.Phase[] phases = AllocationMeter.Phase.values();
+        double lineHeight = 12;
+        double height = (stages.length + phases.length + 2) * lineHeight + 10;
+        double left = 210;
+        double top = canvas.getHeight() - 10 - height;
+        
+        gc.setFill(Color.BLACK.deriveColor(0, 1, 1, 0.7));
+        gc.fillRoundRect(left, top, 250, height, 8, 8);
+        
+        gc.setFont(Font.font("Monospaced", FontWeight.BOLD, 10));
+        gc.setFill(Color.WHITE);
+        gc.fillText(String.format("%-12s %8s %8s %8s", "stage (us)", "p50", "p99", "max"), left + 6, top + 14);
+        
+        gc.setFont(Font.font("Monospaced", FontWeight.NORMAL, 10));
+        for (int i = 0; i < stages.length; i++) {
+            var histogram = profiler.getHistogram(stages[i]);
+            boolean total = stages[i] == FrameProfiler.Stage.TICK || stages[i] == FrameProfiler.Stage.RENDER;
+            gc.setFill(total ? Color.GOLD : Color.LIGHTGRAY);
+            gc.fillText(String.format("%-12s %8.1f %8.1f %8.1f", stages[i].getLabel(),
+                histogram.getPercentile(0.50) / 1000.0,
+                histogram.getPercentile(0.99) / 1000.0,
+                histogram.getMax() / 1000.0), left + 6, top + 14 + (i + 1) * lineHeight);
+        }
+        
+        double allocTop = top + 14 + (stages.length + 1) * lineHeight;
+        gc.setFont(Font.font("Monospaced", FontWeight.BOLD, 10));
+        gc.setFill(Color.WHITE);
+        gc.fillText(String.format("%-12s %8s %8s %8s", "alloc (KB)", "last", "mean", "max"), left + 6, allocTop);
+        
+        gc.setFont(Font.font("Monospaced", FontWeight.NORMAL, 10));
+        gc.setFill(Color.LIGHTGRAY);
+        for (int i = 0; i < phases.length; i++) {
+            gc.fillText(String.format("%-12s %8.1f %8.1f %8.1f", phases[i].getLabel(),
+                allocations.getLast(phases[i]) / 1024.0,
+                allocations.getMean(phases[i]) / 1024.0,
+                allocations.getMax(phases[i]) / 1024.0), left + 6, allocTop + (i + 1) * lineHeight);
+        }
+    }
+    
+    /**
+     * Toggle the frame profiler overlay
+     */
+    public void toggleProfilerUI() {
+        showProfiler = !showProfiler;
     }
     
     /**
@@ -2,6 +2,8 @@ package com.tdgame.view;
 
 import com.tdgame.config.GameConfig;
 import com.tdgame.core.EventBus;
+import com.tdgame.core.GameContext;
+import com.tdgame.core.UiUpdateChannel;
 import com.tdgame.model.systems.*;
 
 import javafx.scene.control.Label;
@@ -41,13 +43,13 @@ public class HUD {
     private double currentLeakPercentage = 0.0;
     private double maxLeakPercentage = 0.1; // 10%
     
-    public HUD(GameConfig config) {
+    public HUD(GameContext context, GameConfig config) {
         this.config = config;
         this.currentMoney = config.getStartingMoney();
         this.maxLeakPercentage = config.getLeakDefeatThreshold();
         
         initializeUI();
-        setupEventListeners();
+        setupEventListeners(context.getEventBus());
     }
     
     /**
@@ -87,9 +89,7 @@ public class HUD {
     /**
      * Setup event listeners for game events
      */
-    private void setupEventListeners() {
-        EventBus eventBus = EventBus.getInstance();
-        
+    private void setupEventListeners(EventBus eventBus) {
         // Listen for money changes
         eventBus.subscribe(EventBus.MoneyChangedEvent.class, this::onMoneyChanged);
         
@@ -124,25 +124,23 @@ public class HUD {
     }
     
     /**
-     * Update the HUD with current game state
+     * Bind the HUD to the coalesced update channel written by the simulation
      */
-    public void update(double deltaTime, WaveManager waveManager, Rules rules) {
-        // Update timer
-        gameTime += deltaTime;
-        updateTimerDisplay();
+    public void bind(UiUpdateChannel channel, int totalWaves) {
+        this.totalWaves = totalWaves;
         
-        // Update wave information
-        if (waveManager != null) {
-            totalWaves = waveManager.getTotalWaves();
-            currentWave = waveManager.getCurrentWaveNumber();
+        channel.setSink(UiUpdateChannel.Field.TIMER, time -> {
+            gameTime = time;
+            updateTimerDisplay();
+        });
+        channel.setSink(UiUpdateChannel.Field.WAVE, wave -> {
+            currentWave = (int) wave;
             updateWavesDisplay();
-        }
-        
-        // Update leak information
-        if (rules != null) {
-            currentLeakPercentage = rules.getCurrentLeakPercentage();
+        });
+        channel.setSink(UiUpdateChannel.Field.LEAK, leak -> {
+            currentLeakPercentage = leak;
             updateLeakDisplay();
-        }
+        });
     }
     
     /**
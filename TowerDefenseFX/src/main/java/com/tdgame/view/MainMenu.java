@@ -89,8 +89,9 @@ public class MainMenu {
         Button startEasy = createStyledButton("🟢 EASY MODE", "Beginner friendly", "#2ecc71", e -> app.startGame(selectedLevel, "easy"));
         Button startNormal = createStyledButton("🟡 NORMAL MODE", "Balanced challenge", "#f39c12", e -> app.startGame(selectedLevel, "normal"));
         Button startHard = createStyledButton("🔴 HARD MODE", "Expert difficulty", "#e74c3c", e -> app.startGame(selectedLevel, "hard"));
+        Button startEndless = createStyledButton("♾️ ENDLESS MODE", "Survive generated waves", "#8e44ad", e -> app.startGame(selectedLevel, "endless"));
         
-        difficultyBox.getChildren().addAll(startEasy, startNormal, startHard);
+        difficultyBox.getChildren().addAll(startEasy, startNormal, startHard, startEndless);
         
         root.getChildren().addAll(difficultyLabel, difficultyBox);
     }
@@ -2,6 +2,7 @@ package com.tdgame.view;
 
 import javafx.scene.image.Image;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -11,15 +12,10 @@ import java.util.Map;
  */
 public class SpriteLoader {
     
-    private static final SpriteLoader INSTANCE = new SpriteLoader();
     private final Map<Integer, Image> spriteCache = new HashMap<>();
     private final String basePath = "assets/kenney/PNG/Default size/";
     
-    private SpriteLoader() {}
-    
-    public static SpriteLoader getInstance() {
-        return INSTANCE;
-    }
+    public SpriteLoader() {}
     
     /**
      * Load a sprite by its index (1-299)
@@ -88,6 +84,15 @@ public class SpriteLoader {
         }
     }
     
+    /**
+     * Preload every sprite in a config's sprite manifest
+     */
+    public void preloadSprites(Collection<Integer> indices) {
+        for (int index : indices) {
+            getSprite(index);
+        }
+    }
+    
     /**
      * Clear the sprite cache to free memory
      */
@@ -0,0 +1,107 @@
+package com.tdgame.config;
+
+import com.tdgame.util.Json;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test the binary level format
+ */
+public class CompiledLevelTest {
+
+    @Test
+    void testRoundTripMatchesJson() {
+        LevelData json = Json.loadFromResource("levels/level1.json", LevelData.class);
+        CompiledLevel level = CompiledLevel.read(CompiledLevel.compile(json).toBytes());
+
+        assertEquals(json.name, level.getName());
+        assertEquals(json.grid.cols, level.getCols());
+        assertEquals(json.grid.rows, level.getRows());
+        assertEquals(json.castle.hp, level.getCastleHp());
+        assertTrue(level.hasManualTiles());
+
+        for (int row = 0; row < level.getRows(); row++) {
+            for (int col = 0; col < level.getCols(); col++) {
+                LevelData.ManualTile tile = json.manualTiles.get(row).get(col);
+                assertEquals(tile.tileIndex, level.getTileIndex(col, row));
+                assertEquals(tile.rotation, level.getTileRotation(col, row), 1e-6);
+            }
+        }
+
+        for (LevelData.SlotPosition slot : json.buildSlots) {
+            assertTrue(level.isBuildSlot(slot.col, slot.row));
+        }
+        assertEquals(json.paths.get(0).waypoints.size(), level.getPaths().get(0).size());
+
+        LevelData rebuilt = level.toLevelData();
+        assertEquals(json.buildSlots.size(), rebuilt.buildSlots.size());
+        assertEquals(json.bombSlots.size(), rebuilt.bombSlots.size());
+    }
+
+    @Test
+    void testSlotsKeepAuthoringOrder() {
+        // BuildOrder and BatchRunner address slots by index, so both load paths must agree
+        for (String name : new String[]{"level1", "level2", "level3"}) {
+            LevelData json = Json.loadFromResource("levels/" + name + ".json", LevelData.class);
+            LevelData rebuilt = CompiledLevel.read(CompiledLevel.compile(json).toBytes()).toLevelData();
+
+            assertEquals(cells(json.buildSlots), cells(rebuilt.buildSlots), name);
+            assertEquals(cells(json.speedBumpSlots), cells(rebuilt.speedBumpSlots), name);
+            assertEquals(cells(json.bombSlots), cells(rebuilt.bombSlots), name);
+        }
+    }
+
+    private List<String> cells(List<LevelData.SlotPosition> slots) {
+        List<String> cells = new ArrayList<>();
+        for (LevelData.SlotPosition slot : slots) {
+            cells.add(slot.col + "," + slot.row);
+        }
+        return cells;
+    }
+
+    @Test
+    void testCorruptedPayloadIsRejected() {
+        LevelData json = Json.loadFromResource("levels/level2.json", LevelData.class);
+        ByteBuffer bytes = CompiledLevel.compile(json).toBytes();
+
+        int last = bytes.limit() - 1;
+        bytes.put(last, (byte) (bytes.get(last) ^ 0x01));
+
+        assertThrows(IllegalArgumentException.class, () -> CompiledLevel.read(bytes));
+    }
+
+    @Test
+    void testLargeMapRoundTrip() {
+        int size = 256;
+        LevelData json = new LevelData();
+        json.name = "stress";
+        json.grid = new LevelData.GridConfig();
+        json.grid.cols = size;
+        json.grid.rows = size;
+        json.grid.tileSize = 64;
+        json.castle = new LevelData.CastleData();
+        json.castle.col = size - 1;
+        json.castle.row = size - 1;
+        json.castle.hp = 1000;
+
+        json.manualTiles = new ArrayList<>();
+        for (int row = 0; row < size; row++) {
+            List<LevelData.ManualTile> tiles = new ArrayList<>();
+            for (int col = 0; col < size; col++) {
+                tiles.add(new LevelData.ManualTile((row * size + col) % 300, (col % 4) * 90.0));
+            }
+            json.manualTiles.add(tiles);
+        }
+
+        CompiledLevel level = CompiledLevel.read(CompiledLevel.compile(json).toBytes());
+
+        assertEquals(size, level.getCols());
+        assertEquals((255 * size + 17) % 300, level.getTileIndex(17, 255));
+        assertEquals(90.0, level.getTileRotation(17, 255), 1e-6);
+    }
+}
@@ -1,6 +1,12 @@
 package com.tdgame.config;
 
+import com.tdgame.sim.BatchRunner;
+import com.tdgame.sim.BuildOrder;
+import com.tdgame.util.Json;
 import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -45,4 +51,60 @@ public class GameConfigTest {
             // Don't fail the test since resources might not be available in test environment
         }
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testConfigIsCompiledOnce() {
+        GameConfig first = GameConfig.load("level1", "easy");
+        GameConfig second = GameConfig.load("level1", "easy");
+        
+        assertSame(first, second);
+        assertSame(first.getBalance(), GameConfig.load("level1", "hard").getBalance());
+        assertNotSame(first, GameConfig.load("level1", "hard"));
+    }
+    
+    @Test
+    void testLoadedCollectionsAreFrozen() {
+        GameConfig config = GameConfig.load("level1", "easy");
+        
+        assertThrows(UnsupportedOperationException.class, () -> config.getWaveData().waves.clear());
+        assertThrows(UnsupportedOperationException.class, () -> config.getLevelData().buildSlots.clear());
+        assertThrows(UnsupportedOperationException.class, () -> config.getSpriteManifest().clear());
+    }
+    
+    @Test
+    void testGamesDoNotWriteSharedConfig() {
+        GameConfig config = GameConfig.load("level1", "normal");
+        String balance = Json.toJson(config.getBalance());
+        String level = Json.toJson(config.getLevelData());
+        String waves = Json.toJson(config.getWaveData());
+        
+        // Parallel games exercising towers, AA, placeables and enemy scaling all share this config
+        BatchRunner runner = new BatchRunner(List.of("level1"), List.of("normal"),
+            List.of(BuildOrder.parse("0:FAST_TOWER@0,0:POWER_TOWER@1,0:AA_60@2,0:SPEED_BUMP@0,0:BOMB@0")),
+            4, 7L, 2, 1.0 / 20.0, 300);
+        runner.run();
+        
+        assertEquals(balance, Json.toJson(config.getBalance()));
+        assertEquals(level, Json.toJson(config.getLevelData()));
+        assertEquals(waves, Json.toJson(config.getWaveData()));
+    }
+    
+    @Test
+    void testDerivedTables() {
+        GameConfig config = GameConfig.load("level1", "easy");
+        
+        assertEquals(config.getWaveData().waves.size(), config.getSpawnTimelines().size());
+        for (SpawnTimeline timeline : config.getSpawnTimelines()) {
+            for (int i = 1; i < timeline.size(); i++) {
+                assertTrue(timeline.getTime(i) >= timeline.getTime(i - 1));
+            }
+        }
+        
+        PathTable main = config.getPathTables().get(0);
+        LevelData json = Json.loadFromResource("levels/level1.json", LevelData.class);
+        assertEquals(json.paths.get(0).waypoints.size(), main.size());
+        assertEquals(main.size() - 1, main.getTotalLength(), 1e-9); // level1 path is one tile per step
+        
+        assertTrue(config.getSpriteManifest().contains(config.getBalance().enemies.soldier.spriteIndex));
+    }
+}
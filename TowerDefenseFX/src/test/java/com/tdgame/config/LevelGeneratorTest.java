@@ -0,0 +1,67 @@
+package com.tdgame.config;
+
+import com.tdgame.core.GameContext;
+import com.tdgame.core.Simulation;
+import com.tdgame.sim.BuildOrder;
+import com.tdgame.sim.GameResult;
+import com.tdgame.sim.HeadlessGame;
+import com.tdgame.util.Json;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test procedural stress levels and their tower layouts
+ */
+public class LevelGeneratorTest {
+
+    @Test
+    void testSameSeedSameLevel() {
+        String first = Json.toJson(new LevelGenerator(LevelGenerator.medium(), 7).generate("a"));
+        String second = Json.toJson(new LevelGenerator(LevelGenerator.medium(), 7).generate("a"));
+        String other = Json.toJson(new LevelGenerator(LevelGenerator.medium(), 8).generate("a"));
+
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+    }
+
+    @Test
+    void testMediumPresetSizes() {
+        LevelGenerator.Settings settings = LevelGenerator.medium();
+        LevelData level = new LevelGenerator(settings, 1).generate("stress-test-medium");
+
+        assertEquals(settings.cols, level.grid.cols);
+        assertEquals(settings.rows, level.grid.rows);
+        assertEquals(settings.paths, level.paths.size());
+        assertEquals(settings.buildSlots, level.buildSlots.size());
+        assertEquals(settings.speedBumpSlots, level.speedBumpSlots.size());
+        assertEquals(settings.bombSlots, level.bombSlots.size());
+        assertNotNull(CompiledLevel.compile(level));
+    }
+
+    @Test
+    void testRegisteredLevelLoadsWithAllPaths() {
+        LevelData level = new LevelGenerator(LevelGenerator.medium(), 3).generate("stress-test-paths");
+        GameConfig.registerLevel(level.name, level);
+
+        Simulation simulation = new Simulation(new GameContext(3), GameConfig.load(level.name, "normal"));
+        assertEquals(level.paths.size(), simulation.getGridMap().getPaths().size());
+        assertEquals(level.buildSlots.size(), simulation.getGridMap().getBuildSlots().size());
+    }
+
+    @Test
+    void testLayoutPlacesEveryTower() {
+        LevelGenerator generator = new LevelGenerator(LevelGenerator.medium(), 5);
+        LevelData level = generator.generate("stress-test-layout");
+        GameConfig.registerLevel(level.name, level);
+        BuildOrder layout = BuildOrder.parse(generator.generateLayout(level));
+        assertFalse(layout.getSteps().isEmpty());
+
+        HeadlessGame game = new HeadlessGame(level.name, "normal", 5L, BuildOrder.NONE);
+        game.setLayout(layout);
+        GameResult result = game.play(1.0 / 30.0, 60);
+
+        assertEquals(0, result.skippedBuildSteps);
+        assertTrue(result.ticks > 0);
+    }
+}
@@ -0,0 +1,68 @@
+package com.tdgame.config;
+
+import com.tdgame.util.Json;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test procedural wave schedules
+ */
+public class WaveGeneratorTest {
+
+    private final Balance.EnemiesConfig enemies = GameConfig.load("level1", "normal").getBalance().enemies;
+
+    private int countEnemies(WaveData.Wave wave) {
+        return wave.enemies.stream().mapToInt(spawn -> spawn.count).sum();
+    }
+
+    @Test
+    void testSameSeedSameSchedule() {
+        String first = Json.toJson(new WaveGenerator(WaveGenerator.endless(), enemies, 42).generate());
+        String second = Json.toJson(new WaveGenerator(WaveGenerator.endless(), enemies, 42).generate());
+        String other = Json.toJson(new WaveGenerator(WaveGenerator.endless(), enemies, 43).generate());
+
+        assertEquals(first, second);
+        assertNotEquals(first, other);
+    }
+
+    @Test
+    void testStressPresetRampsToTenThousand() {
+        WaveData data = new WaveGenerator(WaveGenerator.stress(), enemies, 1).generate();
+
+        assertEquals(10, data.waves.size());
+        int last = countEnemies(data.waves.get(data.waves.size() - 1));
+        assertTrue(last >= 9_000 && last <= 11_000, "last wave has " + last + " enemies");
+
+        // Waves never overlap: each delay comes after the previous wave finished spawning
+        for (int i = 1; i < data.waves.size(); i++) {
+            SpawnTimeline previous = new SpawnTimeline(data.waves.get(i - 1), 0);
+            assertTrue(data.waves.get(i).delay >= previous.getDelay() + previous.getDuration());
+        }
+    }
+
+    @Test
+    void testScheduleRoundTripsThroughWaveData() {
+        WaveData data = new WaveGenerator(WaveGenerator.endless(), enemies, 3).generate();
+        WaveData loaded = Json.fromJson(Json.toJson(data), WaveData.class);
+
+        assertEquals(data.waves.size(), loaded.waves.size());
+        for (int i = 0; i < data.waves.size(); i++) {
+            assertEquals(countEnemies(data.waves.get(i)), countEnemies(loaded.waves.get(i)));
+            assertEquals(data.waves.get(i).aircraftChance, loaded.waves.get(i).aircraftChance);
+        }
+    }
+
+    @Test
+    void testEndlessPresetDoesNotOverwriteMarker() {
+        assertEquals(Path.of("src/main/resources/waves/stress.json"), WaveGenerator.defaultOutput("stress"));
+        assertEquals(Path.of("src/main/resources/waves/endless-schedule.json"), WaveGenerator.defaultOutput("endless"));
+
+        // waves/endless.json is the marker that switches a level to generated waves
+        WaveData marker = Json.loadFromResource("waves/endless.json", WaveData.class);
+        assertTrue(marker.endless);
+        assertTrue(marker.waves.isEmpty());
+    }
+}
@@ -0,0 +1,92 @@
+package com.tdgame.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test EventBus dispatch and the per-tick queue
+ */
+public class EventBusTest {
+
+    private EventBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new EventBus();
+    }
+
+    @Test
+    void testSupertypeListenersReceiveEvents() {
+        List<Object> received = new ArrayList<>();
+        bus.subscribe(EventBus.WaveStartedEvent.class, received::add);
+        bus.subscribe(Object.class, received::add);
+
+        bus.publish(new EventBus.WaveStartedEvent(3));
+        assertEquals(2, received.size());
+
+        // Subscribing after the type was resolved must refresh its dispatch table
+        bus.subscribe(EventBus.WaveStartedEvent.class, received::add);
+        bus.publish(new EventBus.WaveStartedEvent(4));
+        assertEquals(5, received.size());
+    }
+
+    @Test
+    void testQueuedEventsAreDeliveredOnDrain() {
+        AtomicInteger leaked = new AtomicInteger();
+        bus.subscribe(EventBus.EnemyReachedCastleEvent.class, e -> leaked.addAndGet(e.damage));
+
+        bus.enqueue(EventBus.EnemyReachedCastleEvent.obtain(2));
+        bus.enqueue(EventBus.EnemyReachedCastleEvent.obtain(3));
+        assertEquals(0, leaked.get());
+
+        assertEquals(2, bus.drainQueue());
+        assertEquals(5, leaked.get());
+        assertEquals(0, bus.drainQueue());
+    }
+
+    @Test
+    void testConcurrentProducers() throws InterruptedException {
+        AtomicInteger leaked = new AtomicInteger();
+        bus.subscribe(EventBus.EnemyReachedCastleEvent.class, e -> leaked.addAndGet(e.damage));
+
+        Thread[] producers = new Thread[4];
+        for (int i = 0; i < producers.length; i++) {
+            producers[i] = new Thread(() -> {
+                for (int j = 0; j < 200; j++) {
+                    bus.enqueue(EventBus.EnemyReachedCastleEvent.obtain(1));
+                }
+            });
+            producers[i].start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        assertEquals(800, bus.drainQueue());
+        assertEquals(800, leaked.get());
+    }
+
+    @Test
+    void testFullQueueDeliversEveryEvent() {
+        List<Integer> received = new ArrayList<>();
+        bus.subscribe(EventBus.WaveStartedEvent.class, e -> received.add(e.waveNumber));
+
+        for (int i = 0; i < 2000; i++) {
+            bus.enqueue(new EventBus.WaveStartedEvent(i));
+        }
+        // The producer that overflowed the queue dispatched the backlog itself
+        assertEquals(1024, received.size());
+
+        assertEquals(976, bus.drainQueue());
+        assertEquals(2000, received.size());
+        for (int i = 0; i < received.size(); i++) {
+            assertEquals(i, received.get(i));
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.tdgame.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test rolling frame profiler windows
+ */
+public class FrameProfilerTest {
+
+    @Test
+    void testWindowRollsAfterFullFrameCount() {
+        FrameProfiler profiler = new FrameProfiler();
+        for (int frame = 0; frame < FrameProfiler.WINDOW_FRAMES; frame++) {
+            profiler.lap(FrameProfiler.Stage.COMBAT, profiler.start() - 5_000);
+            profiler.endFrame();
+        }
+
+        // The completed window stays visible while the next one fills. The marker lap
+        // is far longer than any scheduling hiccup in the 5 us laps above.
+        profiler.lap(FrameProfiler.Stage.COMBAT, profiler.start() - 10_000_000_000L);
+        assertEquals(FrameProfiler.WINDOW_FRAMES, profiler.getHistogram(FrameProfiler.Stage.COMBAT).getCount());
+        assertTrue(profiler.getHistogram(FrameProfiler.Stage.COMBAT).getMax() < 10_000_000_000L);
+        assertTrue(profiler.report().contains("combat"));
+        assertFalse(profiler.report().contains("render"));
+
+        profiler.setEnabled(false);
+        assertEquals(0, profiler.start());
+    }
+}
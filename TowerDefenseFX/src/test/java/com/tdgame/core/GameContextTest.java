@@ -0,0 +1,59 @@
+package com.tdgame.core;
+
+import com.tdgame.util.RNG;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test per-game context isolation and seeded random streams
+ */
+public class GameContextTest {
+
+    @Test
+    void testSameSeedGivesSameStreams() {
+        GameContext a = new GameContext(42);
+        GameContext b = new GameContext(42);
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(a.getWaveRng().get().nextLong(), b.getWaveRng().get().nextLong());
+            assertEquals(a.getAARng().get().nextLong(), b.getAARng().get().nextLong());
+            assertEquals(a.getTileRng().get().nextLong(), b.getTileRng().get().nextLong());
+        }
+    }
+
+    @Test
+    void testStreamsAreIndependent() {
+        GameContext a = new GameContext(7);
+        GameContext b = new GameContext(7);
+
+        // Extra draws on one stream must not shift another
+        for (int i = 0; i < 50; i++) {
+            a.getAARng().get().nextDouble();
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(a.getWaveRng().get().nextLong(), b.getWaveRng().get().nextLong());
+        }
+    }
+
+    @Test
+    void testContextsDoNotShareEvents() {
+        GameContext a = new GameContext(1);
+        GameContext b = new GameContext(1);
+        int[] received = new int[1];
+        a.getEventBus().subscribe(EventBus.WaveStartedEvent.class, e -> received[0]++);
+
+        b.getEventBus().publish(new EventBus.WaveStartedEvent(1));
+        assertEquals(0, received[0]);
+
+        a.getEventBus().publish(new EventBus.WaveStartedEvent(1));
+        assertEquals(1, received[0]);
+    }
+
+    @Test
+    void testSplitRngIsDeterministic() {
+        RNG first = new RNG(99).split();
+        RNG second = new RNG(99).split();
+        assertEquals(first.nextInt(0, 1000), second.nextInt(0, 1000));
+    }
+}
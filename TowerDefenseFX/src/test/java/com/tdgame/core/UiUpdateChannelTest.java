@@ -0,0 +1,49 @@
+package com.tdgame.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test coalescing of HUD updates
+ */
+public class UiUpdateChannelTest {
+
+    @Test
+    void testOnlyLatestValueIsFlushed() {
+        UiUpdateChannel channel = new UiUpdateChannel();
+        List<Double> money = new ArrayList<>();
+        channel.setSink(UiUpdateChannel.Field.MONEY, money::add);
+
+        for (int i = 1; i <= 10; i++) {
+            channel.post(UiUpdateChannel.Field.MONEY, i * 10);
+        }
+
+        assertEquals(1, channel.flush());
+        assertEquals(List.of(100.0), money);
+        assertEquals(9, channel.getCoalescedCount());
+        assertEquals(10, channel.getPostedCount());
+
+        // Nothing changed since the last flush
+        assertEquals(0, channel.flush());
+    }
+
+    @Test
+    void testFieldsAreIndependent() {
+        UiUpdateChannel channel = new UiUpdateChannel();
+        double[] seen = new double[2];
+        channel.setSink(UiUpdateChannel.Field.WAVE, wave -> seen[0] = wave);
+        channel.setSink(UiUpdateChannel.Field.LEAK, leak -> seen[1] = leak);
+
+        channel.post(UiUpdateChannel.Field.WAVE, 3);
+        channel.post(UiUpdateChannel.Field.LEAK, 0.05);
+
+        assertEquals(2, channel.flush());
+        assertEquals(3.0, seen[0]);
+        assertEquals(0.05, seen[1]);
+        assertEquals(0, channel.getCoalescedCount());
+    }
+}
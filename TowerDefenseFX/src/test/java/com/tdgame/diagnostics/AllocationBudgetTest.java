@@ -0,0 +1,66 @@
+package com.tdgame.diagnostics;
+
+import com.tdgame.sim.BuildOrder;
+import com.tdgame.sim.GameResult;
+import com.tdgame.sim.HeadlessGame;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Test that fixed-seed games stay within the steady-state allocation budget per tick.
+ * Override the budget with -Dtdgame.allocation.budget=bytes (gradle test -PallocationBudget=bytes).
+ */
+public class AllocationBudgetTest {
+
+    // Steady state measured at about 17-21 KB/tick, mostly path interpolation points
+    private static final double DEFAULT_BUDGET = 32 * 1024;
+    private static final int WARMUP_TICKS = 3000;
+
+    private static double budget() {
+        return Double.parseDouble(System.getProperty("tdgame.allocation.budget", String.valueOf(DEFAULT_BUDGET)));
+    }
+
+    private void assertWithinBudget(String difficulty, long seed, String build) {
+        assumeTrue(AllocationMeter.isSupported(), "JVM has no per-thread allocation accounting");
+
+        HeadlessGame game = new HeadlessGame("level1", difficulty, seed, BuildOrder.parse(build));
+        game.setWarmupTicks(WARMUP_TICKS);
+        GameResult result = game.play(1.0 / 60.0, 300);
+
+        assertTrue(result.ticks > WARMUP_TICKS, "Scenario ended during warm-up");
+        assertTrue(result.allocatedBytesPerTick <= budget(), String.format(
+            "%s/%d allocated %.0f bytes/tick, budget is %.0f", difficulty, seed, result.allocatedBytesPerTick, budget()));
+    }
+
+    @Test
+    void testUndefendedGameStaysWithinBudget() {
+        assertWithinBudget("normal", 1L, "none");
+    }
+
+    @Test
+    void testDefendedGameStaysWithinBudget() {
+        assertWithinBudget("hard", 1234L, "0:FAST_TOWER@0,0:POWER_TOWER@1,20:FAST_TOWER@2,30:AA_60@3,45:POWER_TOWER@4");
+    }
+
+    @Test
+    void testMeterRecordsPerPhase() {
+        assumeTrue(AllocationMeter.isSupported(), "JVM has no per-thread allocation accounting");
+
+        AllocationMeter meter = new AllocationMeter();
+        long before = meter.begin();
+        byte[][] garbage = new byte[16][];
+        for (int i = 0; i < garbage.length; i++) {
+            garbage[i] = new byte[1024];
+        }
+        meter.end(AllocationMeter.Phase.RENDER, before);
+
+        assertTrue(meter.getLast(AllocationMeter.Phase.RENDER) >= 16 * 1024);
+        assertEquals(1, meter.getCount(AllocationMeter.Phase.RENDER));
+        assertEquals(0, meter.getCount(AllocationMeter.Phase.UPDATE));
+
+        meter.reset();
+        assertEquals(0, meter.getMean(AllocationMeter.Phase.RENDER));
+    }
+}
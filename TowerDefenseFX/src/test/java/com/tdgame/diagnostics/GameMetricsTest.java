@@ -0,0 +1,93 @@
+package com.tdgame.diagnostics;
+
+import com.tdgame.config.GameConfig;
+import com.tdgame.core.GameContext;
+import com.tdgame.core.Simulation;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test metric sampling and the Prometheus and JSON-lines sinks
+ */
+public class GameMetricsTest {
+
+    private Simulation runSimulation(GameMetrics metrics, int ticks) {
+        Simulation simulation = new Simulation(new GameContext(5), GameConfig.load("level1", "normal"));
+        simulation.start();
+        for (int i = 0; i < ticks; i++) {
+            simulation.tick(1.0 / 30.0);
+            metrics.sample(simulation);
+        }
+        return simulation;
+    }
+
+    @Test
+    void testSamplesOnlyWhileEnabled() {
+        GameMetrics metrics = new GameMetrics(0);
+        runSimulation(metrics, 10);
+        assertEquals(0, metrics.get(GameMetrics.Metric.TICKS));
+
+        metrics.setEnabled(true);
+        Simulation simulation = runSimulation(metrics, 900);
+        assertEquals(900, metrics.get(GameMetrics.Metric.TICKS));
+        assertEquals(simulation.getEconomyManager().getMoney(), metrics.get(GameMetrics.Metric.MONEY));
+        assertEquals(simulation.getCombatSystem().getEnemies().size(),
+            metrics.get(GameMetrics.Metric.SOLDIERS) + metrics.get(GameMetrics.Metric.FAST_SOLDIERS)
+                + metrics.get(GameMetrics.Metric.HEAVY_SOLDIERS) + metrics.get(GameMetrics.Metric.TANKS)
+                + metrics.get(GameMetrics.Metric.AIRCRAFT));
+        assertTrue(metrics.get(GameMetrics.Metric.TICK_RATE) > 0);
+    }
+
+    @Test
+    void testPrometheusFormat() {
+        GameMetrics metrics = new GameMetrics(0);
+        metrics.setEnabled(true);
+        runSimulation(metrics, 30);
+
+        String text = metrics.toPrometheus();
+        assertTrue(text.contains("# TYPE tdgame_ticks_total counter\ntdgame_ticks_total 30\n"));
+        assertTrue(text.contains("tdgame_entities{type=\"tank\"} "));
+        assertTrue(text.contains("tdgame_frame_seconds{stage=\"tick\",quantile=\"0.99\"} "));
+        // HELP and TYPE appear once per family
+        assertEquals(text.indexOf("# TYPE tdgame_entities"), text.lastIndexOf("# TYPE tdgame_entities"));
+    }
+
+    @Test
+    void testServerAndFileExporter() throws Exception {
+        GameMetrics metrics = new GameMetrics(0);
+        Path file = Files.createTempFile("metrics", ".jsonl");
+
+        try (MetricsServer server = new MetricsServer(0);
+             MetricsFileExporter exporter = new MetricsFileExporter(file, 60_000)) {
+            server.setSource(metrics);
+            exporter.setSource(metrics);
+            assertTrue(metrics.isEnabled());
+            runSimulation(metrics, 30);
+
+            HttpURLConnection connection = (HttpURLConnection)
+                new URL("http://127.0.0.1:" + server.getPort() + "/metrics").openConnection();
+            assertEquals(200, connection.getResponseCode());
+            try (InputStream in = connection.getInputStream()) {
+                assertEquals(metrics.toPrometheus(), new String(in.readAllBytes(), StandardCharsets.UTF_8));
+            }
+
+            exporter.writeSnapshot();
+        }
+
+        // One explicit snapshot plus the final one written on close
+        List<String> lines = Files.readAllLines(file);
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).startsWith("{\"time\":"));
+        assertTrue(lines.get(0).contains("\"ticks\":30.0"));
+        Files.delete(file);
+    }
+}
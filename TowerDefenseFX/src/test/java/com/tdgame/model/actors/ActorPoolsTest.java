@@ -0,0 +1,90 @@
+package com.tdgame.model.actors;
+
+import com.tdgame.config.Balance;
+import com.tdgame.config.GameConfig;
+import com.tdgame.core.GameContext;
+import com.tdgame.model.grid.GridMap;
+import com.tdgame.model.systems.CombatSystem;
+import com.tdgame.util.ObjectPool;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test recycling of enemies and projectiles
+ */
+public class ActorPoolsTest {
+
+    private final GameContext context = new GameContext(11);
+    private final GameConfig config = GameConfig.load("level1", "normal");
+    private final GridMap.Path path = new GridMap(config, context.getTileRng()).getMainPath();
+    private final Balance.EnemiesConfig stats = config.getBalance().enemies;
+
+    @Test
+    void testReleasedEnemyIsResetOnReuse() {
+        ActorPools pools = new ActorPools(context);
+        Tank tank = pools.obtainTank(stats.tank, path, 0);
+        tank.applySlow(0.5, 10.0);
+        tank.takeDamage(tank.getMaxHp());
+        assertFalse(tank.isAlive());
+
+        pools.release(tank);
+        Tank reused = pools.obtainTank(stats.tank, path, 1);
+
+        assertSame(tank, reused);
+        assertTrue(reused.isAlive());
+        assertEquals(stats.tank.hp, reused.getCurrentHp());
+        assertEquals(0.0, reused.getPathProgress());
+        assertEquals(1.0, reused.getSlowMultiplier());
+    }
+
+    @Test
+    void testEnemyReachingCastleIsReleased() {
+        CombatSystem combat = new CombatSystem(context, config);
+        ActorPools pools = context.getActorPools();
+        Soldier soldier = pools.obtainSoldier(stats.soldier, path, 0);
+        combat.getEnemies().add(soldier);
+
+        // Long enough to walk the whole path in one tick
+        combat.update(1000.0);
+        assertTrue(soldier.isAlive());
+        assertTrue(combat.getEnemies().isEmpty());
+
+        Soldier reused = pools.obtainSoldier(stats.soldier, path, 0);
+        assertSame(soldier, reused);
+        assertFalse(reused.hasReachedEnd());
+        assertEquals(0.0, reused.getPathProgress());
+    }
+
+    @Test
+    void testProjectileIgnoresRecycledTarget() {
+        ActorPools pools = new ActorPools(context);
+        Soldier soldier = pools.obtainSoldier(stats.soldier, path, 0);
+        Projectile projectile = pools.obtainProjectile(soldier.getX(), soldier.getY(), soldier, 300, 5, 272);
+
+        // The target dies and comes back as a new spawn before the shot lands
+        soldier.takeDamage(soldier.getMaxHp());
+        pools.release(soldier);
+        Soldier respawned = pools.obtainSoldier(stats.soldier, path, 0);
+        assertSame(soldier, respawned);
+
+        projectile.update(0.1);
+        assertTrue(projectile.hasHitTarget());
+        assertEquals(stats.soldier.hp, respawned.getCurrentHp());
+    }
+
+    @Test
+    void testHighWaterAndReuseRatio() {
+        ObjectPool<Object> pool = new ObjectPool<>("test", Object::new);
+        Object first = pool.obtain();
+        Object second = pool.obtain();
+        pool.release(first);
+        pool.release(second);
+        pool.obtain();
+        pool.obtain();
+
+        assertEquals(2, pool.getHighWater());
+        assertEquals(0.5, pool.getReuseRatio());
+        assertEquals(2, pool.getInUse());
+    }
+}
@@ -107,4 +107,48 @@ public class EconomyManagerTest {
         int expectedMoney = initialMoney - (successfulTransactions * spendPerThread);
         assertEquals(expectedMoney, economyManager.getMoney());
     }
-}
\ No newline at end of file
+    
+    @Test
+    void testIncomeFollowsSimulationTime() {
+        int initialMoney = economyManager.getMoney();
+        int income = economyManager.getIncomePerSecond();
+        
+        // Income only accrues while running
+        economyManager.update(5.0);
+        assertEquals(initialMoney, economyManager.getMoney());
+        
+        economyManager.start();
+        economyManager.update(0.6);
+        assertEquals(initialMoney, economyManager.getMoney());
+        economyManager.update(0.6);
+        assertEquals(initialMoney + income, economyManager.getMoney());
+        
+        // Pausing keeps the partial period
+        economyManager.pause();
+        economyManager.update(10.0);
+        assertEquals(initialMoney + income, economyManager.getMoney());
+        economyManager.resume();
+        economyManager.update(0.8);
+        assertEquals(initialMoney + 2 * income, economyManager.getMoney());
+    }
+    
+    @Test
+    void testIncomeIndependentOfStepSize() {
+        EconomyManager fine = new EconomyManager(config);
+        EconomyManager coarse = new EconomyManager(config);
+        fine.start();
+        coarse.start();
+        
+        // 60 seconds at 60 FPS versus the same time at 8x fast-forward
+        for (int i = 0; i < 60 * 60; i++) {
+            fine.update(1.0 / 60.0);
+        }
+        for (int i = 0; i < 60 * 60 / 8; i++) {
+            coarse.update(8.0 / 60.0);
+        }
+        
+        int expected = config.getStartingMoney() + 60 * config.getMoneyIncomePerSec();
+        assertEquals(expected, fine.getMoney());
+        assertEquals(expected, coarse.getMoney());
+    }
+}
@@ -0,0 +1,89 @@
+package com.tdgame.model.systems;
+
+import com.tdgame.config.GameConfig;
+import com.tdgame.core.GameContext;
+import com.tdgame.model.actors.Enemy;
+import com.tdgame.model.actors.Soldier;
+import com.tdgame.model.actors.Tower;
+import com.tdgame.model.grid.BuildSlot;
+import com.tdgame.model.grid.GridMap;
+import com.tdgame.util.Math2D;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test path coverage intervals and progress-ordered targeting
+ */
+public class EnemyIndexTest {
+
+    private static Tower towerAt(double x, double y) {
+        Tower tower = new Tower(2.5, 100, 1.0, 0, 0) {
+            @Override
+            protected void fire(Enemy target) {
+                // Only targeting is under test
+            }
+        };
+        tower.setPosition(x, y);
+        return tower;
+    }
+
+    @Test
+    void testCoverageOfStraightPath() {
+        GridMap.Path path = new GridMap.Path("straight", List.of(
+            new Math2D.Point(0, 0), new Math2D.Point(320, 0), new Math2D.Point(640, 0)));
+
+        // Both segments are in range, so the intervals merge across the middle waypoint
+        double[] coverage = path.getCoverage(320, 64, 100);
+        double halfChord = Math.sqrt(100 * 100 - 64 * 64);
+        assertEquals(2, coverage.length);
+        assertEquals((320 - halfChord) / 640, coverage[0], 1e-9);
+        assertEquals((320 + halfChord) / 640, coverage[1], 1e-9);
+
+        assertEquals(0, path.getCoverage(320, 200, 100).length);
+    }
+
+    @Test
+    void testIndexedTargetMatchesFullScan() {
+        GameContext context = new GameContext(5);
+        GameConfig config = GameConfig.load("level1", "normal");
+        GridMap gridMap = new GridMap(config, context.getTileRng());
+
+        // Spread soldiers along the path with distinct progress
+        List<Enemy> enemies = new ArrayList<>();
+        EnemyIndex index = new EnemyIndex();
+        for (int i = 0; i < 60; i++) {
+            Soldier soldier = new Soldier(context, config.getBalance().enemies.soldier);
+            soldier.setLane(i % 2);
+            soldier.setPath(gridMap.getMainPath());
+            soldier.update(0.37 * i + 0.01);
+            enemies.add(soldier);
+            index.add(soldier);
+        }
+        enemies.get(10).takeDamage(10_000);
+        index.refresh();
+
+        long targetable = enemies.stream().filter(e -> e.isAlive() && !e.hasReachedEnd()).count();
+        assertEquals(targetable, index.size());
+        EnemyIndex.Track track = index.getTracks().get(0);
+        for (int i = 1; i < track.size(); i++) {
+            assertTrue(track.getProgress(i - 1) >= track.getProgress(i));
+        }
+
+        int engaged = 0;
+        for (BuildSlot slot : gridMap.getBuildSlots()) {
+            Tower scanning = towerAt(slot.getWorldX(), slot.getWorldY());
+            Tower indexed = towerAt(slot.getWorldX(), slot.getWorldY());
+            indexed.setEnemyIndex(index);
+
+            scanning.update(0.016, enemies);
+            indexed.update(0.016, enemies);
+            assertSame(scanning.getCurrentTarget(), indexed.getCurrentTarget());
+            if (indexed.getCurrentTarget() != null) engaged++;
+        }
+        assertTrue(engaged > 0);
+    }
+}
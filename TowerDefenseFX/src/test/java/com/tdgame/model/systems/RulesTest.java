@@ -2,6 +2,7 @@ package com.tdgame.model.systems;
 
 import com.tdgame.config.GameConfig;
 import com.tdgame.core.EventBus;
+import com.tdgame.core.GameContext;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.AfterEach;
@@ -23,6 +24,7 @@ public class RulesTest {
     private CombatSystem mockCombatSystem;
     
     private GameConfig config;
+    private GameContext context;
     private Rules rules;
     private AutoCloseable mockCloseable;
     
@@ -30,10 +32,8 @@ public class RulesTest {
     void setUp() {
         mockCloseable = MockitoAnnotations.openMocks(this);
         config = GameConfig.load("level1", "easy");
-        rules = new Rules(config, mockWaveManager, mockCombatSystem);
-        
-        // Clear any existing event listeners
-        EventBus.getInstance().clearAllListeners();
+        context = new GameContext();
+        rules = new Rules(context, config, mockWaveManager, mockCombatSystem);
     }
     
     @AfterEach
@@ -41,7 +41,6 @@ public class RulesTest {
         if (mockCloseable != null) {
             mockCloseable.close();
         }
-        EventBus.getInstance().clearAllListeners();
     }
     
     @Test
@@ -69,7 +68,7 @@ public class RulesTest {
         rules.addEnemyPower(100);
         
         // Simulate enemies reaching castle with >10% total power
-        EventBus.getInstance().publish(new EventBus.EnemyReachedCastleEvent(15));
+        context.getEventBus().publish(new EventBus.EnemyReachedCastleEvent(15));
         
         rules.update(0.016);
         
@@ -82,7 +81,7 @@ public class RulesTest {
         rules.addEnemyPower(200);
         
         // Leak 30 power (15%)
-        EventBus.getInstance().publish(new EventBus.EnemyReachedCastleEvent(30));
+        context.getEventBus().publish(new EventBus.EnemyReachedCastleEvent(30));
         
         assertEquals(0.15, rules.getCurrentLeakPercentage(), 0.01);
         assertEquals(30, rules.getLeakedEnemyPower());
@@ -97,7 +96,7 @@ public class RulesTest {
         rules.addEnemyPower(100);
         
         // Leak exactly at threshold
-        EventBus.getInstance().publish(new EventBus.EnemyReachedCastleEvent(10));
+        context.getEventBus().publish(new EventBus.EnemyReachedCastleEvent(10));
         rules.update(0.016);
         
         assertTrue(rules.isGameOver());
@@ -109,7 +108,7 @@ public class RulesTest {
         rules.addEnemyPower(100);
         
         // Leak 5% (5 out of 100)
-        EventBus.getInstance().publish(new EventBus.EnemyReachedCastleEvent(5));
+        context.getEventBus().publish(new EventBus.EnemyReachedCastleEvent(5));
         
         double remaining = rules.getRemainingLeakAllowance();
         assertEquals(0.05, remaining, 0.01); // Should have 5% remaining before defeat
@@ -119,7 +118,7 @@ public class RulesTest {
     void testReset() {
         // Set up some game state
         rules.addEnemyPower(100);
-        EventBus.getInstance().publish(new EventBus.EnemyReachedCastleEvent(5));
+        context.getEventBus().publish(new EventBus.EnemyReachedCastleEvent(5));
         
         // Reset and verify clean state
         rules.reset();
@@ -0,0 +1,73 @@
+package com.tdgame.model.systems;
+
+import com.tdgame.config.GameConfig;
+import com.tdgame.core.GameContext;
+import com.tdgame.model.actors.AADefense;
+import com.tdgame.model.actors.Structure;
+import com.tdgame.model.actors.Tank;
+import com.tdgame.model.grid.GridMap;
+import com.tdgame.util.RNG;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test range queries over bucketed structures
+ */
+public class StructureGridTest {
+
+    private AADefense aaAt(double x, double y) {
+        AADefense aa = new AADefense(0.5, 3.0, 100, 205, new RNG(1));
+        aa.setPosition(x, y);
+        return aa;
+    }
+
+    @Test
+    void testQueryFindsOnlyStructuresInRange() {
+        StructureGrid grid = new StructureGrid(10, 12, 64);
+        AADefense near = aaAt(160, 160);
+        AADefense edge = aaAt(160 + 320, 160);
+        AADefense far = aaAt(700, 600);
+        grid.add(near);
+        grid.add(edge);
+        grid.add(far);
+        grid.add(near);
+        assertEquals(3, grid.size());
+
+        List<Structure> found = grid.query(160, 160, 320);
+        assertEquals(2, found.size());
+        assertTrue(found.contains(near));
+        assertTrue(found.contains(edge));
+
+        // Destroyed structures are skipped until cleanup removes them
+        near.takeDamage(100);
+        assertEquals(List.of(edge), grid.query(160, 160, 320));
+        grid.remove(near);
+        assertEquals(2, grid.size());
+
+        // Queries reuse the same scratch list
+        assertSame(found, grid.query(700, 600, 10));
+        assertEquals(List.of(far), found);
+    }
+
+    @Test
+    void testSpawnedTankTargetsOnFirstTick() {
+        GameContext context = new GameContext(1);
+        GameConfig config = GameConfig.load("level1", "normal");
+        GridMap.Path path = new GridMap(config, context.getTileRng()).getMainPath();
+        CombatSystem combat = new CombatSystem(context, config);
+
+        Tank tank = context.getActorPools().obtainTank(config.getBalance().enemies.tank, path, 0);
+        AADefense aa = aaAt(tank.getX() + 64, tank.getY());
+        combat.addAADefense(aa);
+
+        // Spawned the way the wave manager does, straight into the enemy list
+        combat.getEnemies().add(tank);
+        combat.update(1.0 / 60.0);
+
+        assertSame(aa, tank.getCurrentAATarget());
+        assertTrue(aa.getHp() < aa.getMaxHp());
+    }
+}
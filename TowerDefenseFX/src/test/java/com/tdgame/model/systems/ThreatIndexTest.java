@@ -0,0 +1,63 @@
+package com.tdgame.model.systems;
+
+import com.tdgame.model.actors.AADefense;
+import com.tdgame.util.RNG;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test incremental row/column threat scores
+ */
+public class ThreatIndexTest {
+
+    private AADefense aaAt(int col, int row, int hp) {
+        AADefense aa = new AADefense(0.5, 3.0, hp, 205, new RNG(1));
+        aa.setPosition(col * 64 + 32, row * 64 + 32);
+        return aa;
+    }
+
+    @Test
+    void testScoresFollowBuildsAndDestruction() {
+        ThreatIndex index = new ThreatIndex(10, 12, 64);
+        AADefense first = aaAt(3, 2, 100);
+        AADefense second = aaAt(5, 2, 100);
+        AADefense third = aaAt(5, 7, 100);
+        index.add(first);
+        index.add(second);
+        index.add(third);
+
+        assertEquals(600.0, index.getRowScore(2));
+        assertEquals(2, index.getColumnCount(5));
+        assertEquals(2, index.getBestRow());
+        assertEquals(5, index.getBestColumn());
+
+        // Destroying one structure only updates its own row and column
+        second.takeDamage(100);
+        index.remove(second);
+        assertEquals(300.0, index.getRowScore(2));
+        assertEquals(1, index.getColumnCount(5));
+        assertEquals(1, index.getColumnCount(3));
+    }
+
+    @Test
+    void testStrikeOnlyHitsItsLine() {
+        ThreatIndex index = new ThreatIndex(10, 12, 64);
+        AADefense weak = aaAt(1, 4, 50);
+        AADefense strong = aaAt(2, 4, 200);
+        AADefense elsewhere = aaAt(2, 6, 50);
+        index.add(weak);
+        index.add(strong);
+        index.add(elsewhere);
+
+        assertEquals(2, index.strikeRow(4, 80));
+        assertFalse(weak.isAlive());
+        assertTrue(strong.isAlive());
+        assertTrue(elsewhere.isAlive());
+
+        // The destroyed AA no longer counts anywhere
+        assertEquals(2, index.size());
+        assertEquals(0, index.getColumnCount(1));
+        assertEquals(1, index.getRowCount(4));
+    }
+}
@@ -0,0 +1,88 @@
+package com.tdgame.model.systems;
+
+import com.tdgame.config.GameConfig;
+import com.tdgame.config.SpawnTimeline;
+import com.tdgame.config.WaveGenerator;
+import com.tdgame.core.GameContext;
+import com.tdgame.model.actors.Aircraft;
+import com.tdgame.model.actors.Enemy;
+import com.tdgame.model.grid.GridMap;
+import com.tdgame.sim.BuildOrder;
+import com.tdgame.sim.GameResult;
+import com.tdgame.sim.HeadlessGame;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test timeline-driven wave spawning
+ */
+public class WaveManagerTest {
+
+    private List<Enemy> runWaves(String difficulty, double step, double duration) {
+        GameContext context = new GameContext(5);
+        GameConfig config = GameConfig.load("level1", difficulty);
+        List<Enemy> enemies = new ArrayList<>();
+        WaveManager waveManager = new WaveManager(context, config, new GridMap(config, context.getTileRng()), enemies);
+        waveManager.start();
+
+        for (double time = 0; time < duration; time += step) {
+            waveManager.update(step);
+        }
+        return enemies;
+    }
+
+    private long countPathEnemies(List<Enemy> enemies) {
+        return enemies.stream().filter(e -> !(e instanceof Aircraft)).count();
+    }
+
+    @Test
+    void testLongTicksDoNotFallBehind() {
+        // One spawn per frame at 60 FPS versus a 2 FPS tick, at a point mid-schedule
+        List<Enemy> smooth = runWaves("hard", 1.0 / 60.0, 40.0);
+        List<Enemy> choppy = runWaves("hard", 0.5, 40.0);
+
+        assertEquals(countPathEnemies(smooth), countPathEnemies(choppy));
+    }
+
+    @Test
+    void testEndlessPlaysPastConfiguredWaves() {
+        GameContext context = new GameContext(5);
+        GameConfig config = GameConfig.load("level1", "normal");
+        int configured = config.getSpawnTimelines().size();
+        List<Enemy> enemies = new ArrayList<>();
+        WaveManager waveManager = new WaveManager(context, config, new GridMap(config, context.getTileRng()), enemies);
+        waveManager.setEndless(new WaveGenerator(WaveGenerator.endless(), config.getBalance().enemies, 5));
+        waveManager.start();
+
+        for (double time = 0; time < 600; time += 1.0) {
+            waveManager.update(1.0);
+        }
+
+        assertTrue(waveManager.getCurrentWaveNumber() > configured + 1);
+        assertFalse(waveManager.areAllWavesComplete());
+        assertTrue(waveManager.getGeneratedPower() > 0);
+    }
+
+    @Test
+    void testEndlessDifficultyEndsInDefeat() {
+        GameResult result = new HeadlessGame("level1", "endless", 5L, BuildOrder.NONE).play(1.0 / 30.0, 1800);
+
+        assertFalse(result.timedOut);
+        assertFalse(result.victory);
+        assertTrue(result.leakPercentage >= GameConfig.load("level1", "endless").getLeakDefeatThreshold());
+    }
+
+    @Test
+    void testAllScheduledEnemiesSpawn() {
+        GameConfig config = GameConfig.load("level1", "hard");
+        int scheduled = config.getSpawnTimelines().stream().mapToInt(SpawnTimeline::size).sum();
+
+        // A single huge tick must still emit every wave
+        List<Enemy> enemies = runWaves("hard", 10_000.0, 10_000.0);
+        assertEquals(scheduled, countPathEnemies(enemies));
+    }
+}
@@ -0,0 +1,54 @@
+package com.tdgame.sim;
+
+import com.tdgame.controller.BuildMenuController.BuildOption;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test headless games and batch aggregation
+ */
+public class HeadlessGameTest {
+
+    @Test
+    void testSameSeedReplaysIdentically() {
+        BuildOrder build = BuildOrder.parse("0:FAST_TOWER@0,0:POWER_TOWER@1,30:AA_60@2");
+
+        GameResult a = new HeadlessGame("level1", "normal", 1234L, build).play(1.0 / 30.0, 600);
+        GameResult b = new HeadlessGame("level1", "normal", 1234L, build).play(1.0 / 30.0, 600);
+
+        assertEquals(a.victory, b.victory);
+        assertEquals(a.ticks, b.ticks);
+        assertEquals(a.leakPercentage, b.leakPercentage);
+        assertTrue(a.ticks > 0);
+        assertTrue(a.diagnostics.contains("Actor pools:"));
+    }
+
+    @Test
+    void testParseBuildOrder() {
+        BuildOrder build = BuildOrder.parse("10:aa_60@2, 0:FAST_TOWER@0");
+
+        assertEquals(2, build.getSteps().size());
+        assertEquals(BuildOption.FAST_TOWER, build.getSteps().get(0).option);
+        assertEquals(BuildOption.AA_60, build.getSteps().get(1).option);
+        assertEquals(2, build.getSteps().get(1).slot);
+        assertSame(BuildOrder.NONE, BuildOrder.parse("none"));
+        assertThrows(IllegalArgumentException.class, () -> BuildOrder.parse("FAST_TOWER"));
+    }
+
+    @Test
+    void testBatchAggregation() {
+        BatchRunner runner = new BatchRunner(List.of("level1"), List.of("easy"),
+            List.of(BuildOrder.NONE), 4, 1L, 2, 1.0 / 20.0, 300);
+        BatchReport report = runner.run();
+
+        assertEquals(4, report.totalGames);
+        assertEquals(1, report.rows.size());
+        assertEquals(4, report.rows.get(0).games);
+        assertTrue(report.rows.get(0).leakP50 <= report.rows.get(0).leakMax);
+        assertTrue(report.toCsv().startsWith("level,difficulty,build_order"));
+        assertTrue(report.toJson().contains("\"games_per_second\""));
+    }
+}
@@ -0,0 +1,44 @@
+package com.tdgame.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test log-linear latency buckets
+ */
+public class LatencyHistogramTest {
+
+    @Test
+    void testPercentilesWithinBucketPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 1000; micros++) {
+            histogram.record(micros * 1000);
+        }
+
+        assertEquals(1000, histogram.getCount());
+        assertEquals(1_000_000, histogram.getMax());
+        assertEquals(500_000, histogram.getPercentile(0.50), 500_000 * 0.07);
+        assertEquals(990_000, histogram.getPercentile(0.99), 990_000 * 0.07);
+        assertEquals(1_000_000, histogram.getPercentile(1.0));
+
+        // Small values are exact
+        LatencyHistogram small = new LatencyHistogram();
+        small.record(3);
+        small.record(-5);
+        assertEquals(3, small.getPercentile(1.0));
+        assertEquals(0, small.getPercentile(0.5));
+    }
+
+    @Test
+    void testResetClearsEverything() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(42_000);
+        histogram.reset();
+
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMax());
+        assertEquals(0, histogram.getPercentile(0.99));
+    }
+}
@@ -7,6 +7,7 @@ import javafx.scene.input.MouseEvent;
 import javafx.geometry.Point2D;
 import game.core.GameLoop;
 import game.core.ResourceManager;
+import game.core.SimRandom;
 import game.core.WaveManager;
 import game.map.MapRenderer;
 import game.map.MapDefinition;
@@ -24,8 +25,15 @@ public class App {
     private WaveManager waveManager;
     private MapDefinition mapDefinition;
     private BuildMenu buildMenu;
+    private final SimRandom random;
     
     public App() {
+        this(SimRandom.parseSeed(null));
+    }
+    
+    public App(long seed) {
+        this.random = new SimRandom(seed);
+        System.out.println("Game seed: " + seed);
         initializeUI();
         initializeGame();
     }
@@ -46,7 +54,7 @@ public class App {
         resourceManager = new ResourceManager(() -> {
             if (hudView != null) hudView.updateMoney(resourceManager.getMoney());
         });
-        waveManager = new WaveManager(mapDefinition);
+        waveManager = new WaveManager(mapDefinition, random.waves());
         
         // Initialize renderer
         mapRenderer = new MapRenderer(canvas.getGraphicsContext2D(), mapDefinition, resourceManager);
@@ -57,7 +65,7 @@ public class App {
         root.setTop(hudView.getRoot());
         
         // Initialize game loop
-        gameLoop = new GameLoop(canvas.getGraphicsContext2D(), mapDefinition, resourceManager, waveManager, hudView);
+        gameLoop = new GameLoop(canvas.getGraphicsContext2D(), mapDefinition, resourceManager, waveManager, hudView, random);
     }
     
     private void handleMouseClick(MouseEvent event) {
@@ -88,6 +96,10 @@ public class App {
         }
     }
     
+    public long getSeed() {
+        return random.getSeed();
+    }
+    
     public Parent getRoot() {
         return root;
     }
@@ -100,8 +112,5 @@ public class App {
         if (gameLoop != null) {
             gameLoop.stop();
         }
-        if (resourceManager != null) {
-            resourceManager.shutdown();
-        }
     }
 }
\ No newline at end of file
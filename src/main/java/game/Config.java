@@ -80,6 +80,9 @@ public final class Config {
     public static final int WINDOW_WIDTH = MAP_WIDTH;
     public static final int WINDOW_HEIGHT = MAP_HEIGHT + HUD_HEIGHT;
     
+    // Rasterised SVG sprites are cached here between launches
+    public static final String SPRITE_CACHE_DIR = System.getProperty("user.home") + "/.dig-dog/sprite-cache";
+    
     // Asset paths mapping from the new prompt specification
     public static final Map<String, String> ASSET_MAP = Map.ofEntries(
         // Tiles
@@ -1,5 +1,6 @@
 package game;
 
+import game.core.SimRandom;
 import javafx.application.Application;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
@@ -8,7 +9,7 @@ public class Main extends Application {
     
     @Override
     public void start(Stage primaryStage) {
-        App app = new App();
+        App app = new App(SimRandom.parseSeed(getParameters().getNamed().get("seed")));
         Scene scene = new Scene(app.getRoot(), 704, 576); // 11*64, 9*64
         
         primaryStage.setTitle("Tower Defense");
@@ -0,0 +1,63 @@
+package game.core;
+
+import java.lang.management.ManagementFactory;
+
+/**
+ * Heap bytes allocated by the game loop thread during the last update and
+ * render, read from {@code com.sun.management.ThreadMXBean}. Reading the
+ * counter never allocates; without thread allocation accounting every
+ * figure stays zero.
+ */
+public class AllocationMeter {
+    
+    private static final com.sun.management.ThreadMXBean THREADS = threadBean();
+    
+    private long lastUpdateBytes;
+    private long lastRenderBytes;
+    private long totalUpdateBytes;
+    private long updates;
+    
+    /**
+     * Bytes allocated by the current thread so far, or -1 if not available
+     */
+    public static long currentThreadAllocatedBytes() {
+        if (THREADS == null || !THREADS.isThreadAllocatedMemoryEnabled()) return -1;
+        return THREADS.getCurrentThreadAllocatedBytes();
+    }
+    
+    public long begin() {
+        return currentThreadAllocatedBytes();
+    }
+    
+    public void endUpdate(long begin) {
+        if (begin < 0) return;
+        lastUpdateBytes = currentThreadAllocatedBytes() - begin;
+        totalUpdateBytes += lastUpdateBytes;
+        updates++;
+    }
+    
+    public void endRender(long begin) {
+        if (begin < 0) return;
+        lastRenderBytes = currentThreadAllocatedBytes() - begin;
+    }
+    
+    private static com.sun.management.ThreadMXBean threadBean() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported()) {
+            return bean;
+        }
+        return null;
+    }
+    
+    public long getLastUpdateBytes() {
+        return lastUpdateBytes;
+    }
+    
+    public long getLastRenderBytes() {
+        return lastRenderBytes;
+    }
+    
+    public double getMeanUpdateBytes() {
+        return updates == 0 ? 0 : (double) totalUpdateBytes / updates;
+    }
+}
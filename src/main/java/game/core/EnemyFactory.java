@@ -0,0 +1,16 @@
+package game.core;
+
+import game.entity.Entity;
+import game.map.Route;
+
+/**
+ * Creates one unit of a given {@link EnemyKind}. Registered with {@link WaveManager}.
+ */
+@FunctionalInterface
+public interface EnemyFactory<T extends Entity> {
+    
+    /**
+     * @param route the route to follow, or null for units that ignore routes
+     */
+    T create(Route route);
+}
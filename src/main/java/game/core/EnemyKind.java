@@ -0,0 +1,22 @@
+package game.core;
+
+import game.Config;
+
+/**
+ * Kinds of hostile units a wave can spawn, with the power each one adds to the level total.
+ */
+public enum EnemyKind {
+    SOLDIER(Config.SOLDIER_POWER),
+    TANK(Config.TANK_POWER),
+    PLANE(Config.PLANE_POWER);
+    
+    private final int power;
+    
+    EnemyKind(int power) {
+        this.power = power;
+    }
+    
+    public int getPower() {
+        return power;
+    }
+}
@@ -4,6 +4,7 @@ import javafx.animation.AnimationTimer;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
 import javafx.geometry.Point2D;
+import game.map.Grid;
 import game.map.MapDefinition;
 import game.map.MapRenderer;
 import game.map.Route;
@@ -14,7 +15,6 @@ import game.Config;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Iterator;
-import java.util.Random;
 
 public class GameLoop extends AnimationTimer {
     
@@ -24,9 +24,12 @@ public class GameLoop extends AnimationTimer {
     private final ResourceManager resourceManager;
     private final WaveManager waveManager;
     private final HudView hudView;
-    private final Random random = new Random();
+    private final SimRandom random;
+    private final Grid grid = new Grid(); // Tower occupancy for plane bombing
+    private final AllocationMeter allocations = new AllocationMeter();
     
     private final List<Enemy> enemies = new ArrayList<>();
+    private final List<Plane> planes = new ArrayList<>();
     private final List<Tower> towers = new ArrayList<>();
     private final List<Projectile> projectiles = new ArrayList<>();
     private final List<SpeedBump> speedBumps = new ArrayList<>();
@@ -34,13 +37,13 @@ public class GameLoop extends AnimationTimer {
     
     private long lastUpdate;
     private int leakedPower;
-    private int totalLevelPower;
     private boolean gameOver;
     private boolean victory;
     
     public GameLoop(GraphicsContext gc, MapDefinition mapDefinition, ResourceManager resourceManager, 
-                   WaveManager waveManager, HudView hudView) {
+                   WaveManager waveManager, HudView hudView, SimRandom random) {
         this.gc = gc;
+        this.random = random;
         this.mapDefinition = mapDefinition;
         this.resourceManager = resourceManager;
         this.waveManager = waveManager;
@@ -48,7 +51,6 @@ public class GameLoop extends AnimationTimer {
         this.mapRenderer = new MapRenderer(gc, mapDefinition, resourceManager);
         this.lastUpdate = 0;
         this.leakedPower = 0;
-        this.totalLevelPower = 0;
         this.gameOver = false;
         this.victory = false;
     }
@@ -64,23 +66,27 @@ public class GameLoop extends AnimationTimer {
         lastUpdate = now;
         
         if (!gameOver && !victory) {
+            long before = allocations.begin();
             update(deltaTime);
+            allocations.endUpdate(before);
         }
         
+        long before = allocations.begin();
         render();
+        allocations.endRender(before);
     }
     
     private void update(double deltaTime) {
+        // Income accrues on simulation time
+        resourceManager.update(deltaTime);
+        
         // Update wave manager and spawn enemies
         waveManager.update(deltaTime);
-        List<Enemy> newEnemies = waveManager.getSpawnedEnemies();
-        enemies.addAll(newEnemies);
-        if (!newEnemies.isEmpty()) {
-            totalLevelPower += newEnemies.stream().mapToInt(Enemy::getPowerValue).sum();
-        }
+        drainSpawns();
         
         // Update game entities
         updateEnemies(deltaTime);
+        updatePlanes(deltaTime);
         updateTowers(deltaTime);
         updateProjectiles(deltaTime);
         updateGadgets(deltaTime);
@@ -92,9 +98,29 @@ public class GameLoop extends AnimationTimer {
         cleanupEntities();
     }
     
+    /**
+     * Move everything the wave manager spawned this frame into the live lists
+     */
+    private void drainSpawns() {
+        Entity unit;
+        while ((unit = waveManager.pollSpawned()) != null) {
+            if (unit instanceof Enemy enemy) {
+                enemies.add(enemy);
+            } else if (unit instanceof Plane plane) {
+                plane.setTargetGrid(grid);
+                planes.add(plane);
+            }
+        }
+    }
+    
+    public SimRandom getRandom() {
+        return random;
+    }
+    
     // Add missing methods that GameLoop needs
     public void addTower(Tower tower) {
         towers.add(tower);
+        grid.placeTower(tower);
     }
     
     public void addAntiAir(Object aa) {
@@ -118,6 +144,12 @@ public class GameLoop extends AnimationTimer {
         }
     }
     
+    private void updatePlanes(double deltaTime) {
+        for (Plane plane : planes) {
+            plane.update(deltaTime);
+        }
+    }
+    
     private void updateTowers(double deltaTime) {
         for (Tower tower : towers) {
             tower.update(deltaTime);
@@ -214,11 +246,13 @@ public class GameLoop extends AnimationTimer {
     }
     
     private void checkGameState() {
-        // Check defeat condition
+        // Check defeat condition against the power the wave manager has spawned so far
+        int totalLevelPower = waveManager.getLevelSpawnedPower();
         if (totalLevelPower > 0) {
             double leakRatio = (double) leakedPower / totalLevelPower;
             if (leakRatio >= Config.LEAK_DEFEAT_RATIO) {
                 gameOver = true;
+                System.out.println("Defeat (seed " + random.getSeed() + ")");
                 return;
             }
         }
@@ -226,12 +260,18 @@ public class GameLoop extends AnimationTimer {
         // Check victory condition
         if (waveManager.isComplete() && enemies.stream().noneMatch(Enemy::isAlive)) {
             victory = true;
+            System.out.println("Victory (seed " + random.getSeed() + ")");
         }
     }
     
     private void cleanupEntities() {
         enemies.removeIf(e -> !e.isAlive() && e.hasLeaked());
-        towers.removeIf(t -> !t.isAlive());
+        planes.removeIf(p -> !p.isAlive());
+        towers.removeIf(t -> {
+            if (t.isAlive()) return false;
+            grid.removeTower(t);
+            return true;
+        });
         projectiles.removeIf(p -> !p.isAlive());
     }
     
@@ -338,6 +378,7 @@ public class GameLoop extends AnimationTimer {
         if (hudView != null) {
             hudView.updateWave(waveManager.getCurrentWave(), Config.TOTAL_WAVES);
             hudView.updateLeakage(getLeakPercentage());
+            hudView.updateAllocation(allocations.getLastUpdateBytes(), allocations.getLastRenderBytes());
         }
     }
     
@@ -372,6 +413,7 @@ public class GameLoop extends AnimationTimer {
     }
     
     public double getLeakPercentage() {
+        int totalLevelPower = waveManager.getLevelSpawnedPower();
         return totalLevelPower > 0 ? (double) leakedPower / totalLevelPower : 0.0;
     }
     
@@ -383,6 +425,10 @@ public class GameLoop extends AnimationTimer {
         return victory;
     }
     
+    public AllocationMeter getAllocations() {
+        return allocations;
+    }
+    
     // Simple gadget classes
     private static class SpeedBump {
         private final Point2D tilePos;
@@ -7,29 +7,29 @@ import game.Config;
 import java.io.InputStream;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class ResourceManager {
     
     private final Map<String, Image> sprites = new HashMap<>();
     private final AtomicInteger money;
-    private final ScheduledExecutorService scheduler;
     private final Runnable onMoneyChanged;
     
+    // Simulation time accrued towards income, and whole ticks already paid
+    private double incomeTime = 0;
+    private long ticksPaid = 0;
+    
+    // Coalesces money notifications: at most one pending FX update at a time
+    private final AtomicBoolean moneyDirty = new AtomicBoolean();
+    private final AtomicLong coalescedUpdates = new AtomicLong();
+    
     public ResourceManager(Runnable onMoneyChanged) {
         this.money = new AtomicInteger(Config.STARTING_MONEY);
-        this.scheduler = Executors.newSingleThreadScheduledExecutor(r -> {
-            Thread t = new Thread(r, "ResourceManager");
-            t.setDaemon(true);
-            return t;
-        });
         this.onMoneyChanged = onMoneyChanged;
         
         loadSprites();
-        startMoneyGeneration();
     }
     
     private void loadSprites() {
@@ -56,17 +56,23 @@ public class ResourceManager {
         return sprites.get(key);
     }
     
-    private void startMoneyGeneration() {
-        long periodMs = (long) (Config.MONEY_TICK_SEC * 1000);
-        
-        scheduler.scheduleAtFixedRate(() -> {
-            money.addAndGet((int) Config.MONEY_PER_TICK);
-            
-            // Notify UI thread of money change
-            if (onMoneyChanged != null) {
-                Platform.runLater(onMoneyChanged);
-            }
-        }, periodMs, periodMs, TimeUnit.MILLISECONDS);
+    /**
+     * Accrue income for a simulation step. Pays MONEY_PER_TICK for every whole
+     * MONEY_TICK_SEC of simulated time, carrying the remainder to the next call,
+     * so the result is the same at any frame rate or time scale.
+     */
+    public void update(double deltaTime) {
+        if (deltaTime <= 0) {
+            return;
+        }
+        incomeTime += deltaTime;
+        // Small epsilon absorbs rounding when many steps should add up to a whole tick
+        long ticksDue = (long) Math.floor(incomeTime / Config.MONEY_TICK_SEC + 1e-9);
+        if (ticksDue > ticksPaid) {
+            money.addAndGet((int) ((ticksDue - ticksPaid) * Config.MONEY_PER_TICK));
+            ticksPaid = ticksDue;
+            notifyMoneyChanged();
+        }
     }
     
     public int getMoney() {
@@ -86,9 +92,7 @@ public class ResourceManager {
             
             if (money.compareAndSet(currentMoney, currentMoney - cost)) {
                 // Successfully spent money
-                if (onMoneyChanged != null) {
-                    Platform.runLater(onMoneyChanged);
-                }
+                notifyMoneyChanged();
                 return true;
             }
             // Retry if another thread modified the money in between
@@ -98,23 +102,29 @@ public class ResourceManager {
     public void addMoney(int amount) {
         if (amount > 0) {
             money.addAndGet(amount);
-            if (onMoneyChanged != null) {
-                Platform.runLater(onMoneyChanged);
-            }
+            notifyMoneyChanged();
         }
     }
     
-    public void shutdown() {
-        if (scheduler != null && !scheduler.isShutdown()) {
-            scheduler.shutdown();
-            try {
-                if (!scheduler.awaitTermination(1, TimeUnit.SECONDS)) {
-                    scheduler.shutdownNow();
-                }
-            } catch (InterruptedException e) {
-                scheduler.shutdownNow();
-                Thread.currentThread().interrupt();
-            }
+    /**
+     * Schedule a UI refresh unless one is already pending. The callback reads
+     * the current money when it runs, so skipped notifications lose nothing.
+     */
+    private void notifyMoneyChanged() {
+        if (onMoneyChanged == null) {
+            return;
         }
+        if (moneyDirty.compareAndSet(false, true)) {
+            Platform.runLater(() -> {
+                moneyDirty.set(false);
+                onMoneyChanged.run();
+            });
+        } else {
+            coalescedUpdates.incrementAndGet();
+        }
+    }
+    
+    public long getCoalescedUpdates() {
+        return coalescedUpdates.get();
     }
 }
\ No newline at end of file
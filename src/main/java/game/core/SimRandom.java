@@ -0,0 +1,51 @@
+package game.core;
+
+import java.util.SplittableRandom;
+
+/**
+ * Seeded random source for one simulation. Every subsystem draws from its own
+ * stream split off the root seed, so a given seed always reproduces the same
+ * game regardless of how subsystems interleave their draws.
+ */
+public class SimRandom {
+    
+    private final long seed;
+    private final SplittableRandom waves;
+    private final SplittableRandom antiAir;
+    
+    public SimRandom(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        this.waves = root.split();
+        this.antiAir = root.split();
+    }
+    
+    /**
+     * Seed given as "--seed=N" on the command line, or a fresh random one
+     */
+    public static long parseSeed(String value) {
+        if (value != null && !value.isBlank()) {
+            try {
+                return Long.parseLong(value.trim());
+            } catch (NumberFormatException e) {
+                System.err.println("Invalid seed '" + value + "', using a random one");
+            }
+        }
+        return new SplittableRandom().nextLong();
+    }
+    
+    public long getSeed() {
+        return seed;
+    }
+    
+    public SplittableRandom waves() {
+        return waves;
+    }
+    
+    /**
+     * A new independent stream for one anti-air installation
+     */
+    public SplittableRandom newAntiAirStream() {
+        return antiAir.split();
+    }
+}
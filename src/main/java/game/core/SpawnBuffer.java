@@ -0,0 +1,59 @@
+package game.core;
+
+import game.entity.Entity;
+
+/**
+ * Preallocated ring of units spawned since the game loop last drained it.
+ * The wave manager adds, the game loop polls; both run on the FX thread, so
+ * no synchronisation is needed and nothing is copied per frame.
+ */
+public class SpawnBuffer {
+    
+    private Entity[] slots;
+    private int head;
+    private int size;
+    
+    public SpawnBuffer(int capacity) {
+        this.slots = new Entity[Math.max(1, capacity)];
+    }
+    
+    public void add(Entity entity) {
+        if (size == slots.length) {
+            grow();
+        }
+        slots[(head + size) % slots.length] = entity;
+        size++;
+    }
+    
+    /**
+     * Take the oldest spawned unit, or null when empty
+     */
+    public Entity poll() {
+        if (size == 0) {
+            return null;
+        }
+        Entity entity = slots[head];
+        slots[head] = null;
+        head = (head + 1) % slots.length;
+        size--;
+        return entity;
+    }
+    
+    public boolean isEmpty() {
+        return size == 0;
+    }
+    
+    public int size() {
+        return size;
+    }
+    
+    // Only reached if a single frame spawns more than the initial capacity
+    private void grow() {
+        Entity[] larger = new Entity[slots.length * 2];
+        for (int i = 0; i < size; i++) {
+            larger[i] = slots[(head + i) % slots.length];
+        }
+        slots = larger;
+        head = 0;
+    }
+}
@@ -6,8 +6,10 @@ import game.map.Route;
 import game.Config;
 import javafx.geometry.Point2D;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.SplittableRandom;
 
 public class WaveManager {
     
@@ -17,37 +19,40 @@ public class WaveManager {
     
     private final MapDefinition mapDefinition;
     private final Difficulty difficulty;
-    private final Random random;
+    private final SplittableRandom random;
+    private final Map<EnemyKind, EnemyFactory<?>> factories = new EnumMap<>(EnemyKind.class);
+    private final SpawnBuffer spawned = new SpawnBuffer(64);
     
     private int currentWave;
     private double waveTimer;
     private boolean waveInProgress;
-    private int totalEnemyPower;
-    private int spawnedEnemyPower;
+    private int totalEnemyPower; // Planned power of the current wave
+    private int spawnedEnemyPower; // Spawned power of the current wave
+    private int levelSpawnedPower; // Spawned power across all waves
     private List<EnemySpawn> currentWaveSpawns;
     private int currentSpawnIndex;
     private double spawnTimer;
     
     private static class EnemySpawn {
-        final Class<? extends Enemy> enemyType;
+        final EnemyKind kind;
         final Route route;
         final double spawnTime;
         
-        EnemySpawn(Class<? extends Enemy> enemyType, Route route, double spawnTime) {
-            this.enemyType = enemyType;
+        EnemySpawn(EnemyKind kind, Route route, double spawnTime) {
+            this.kind = kind;
             this.route = route;
             this.spawnTime = spawnTime;
         }
     }
     
-    public WaveManager(MapDefinition mapDefinition) {
-        this(mapDefinition, Difficulty.MEDIUM);
+    public WaveManager(MapDefinition mapDefinition, SplittableRandom random) {
+        this(mapDefinition, Difficulty.MEDIUM, random);
     }
     
-    public WaveManager(MapDefinition mapDefinition, Difficulty difficulty) {
+    public WaveManager(MapDefinition mapDefinition, Difficulty difficulty, SplittableRandom random) {
         this.mapDefinition = mapDefinition;
         this.difficulty = difficulty;
-        this.random = new Random();
+        this.random = random;
         this.currentWave = 0;
         this.waveTimer = 0;
         this.waveInProgress = false;
@@ -55,6 +60,10 @@ public class WaveManager {
         this.currentSpawnIndex = 0;
         this.spawnTimer = 0;
         
+        registerFactory(EnemyKind.SOLDIER, route -> withDifficulty(new Soldier(route)));
+        registerFactory(EnemyKind.TANK, route -> withDifficulty(new Tank(route)));
+        registerFactory(EnemyKind.PLANE, route -> createPlane());
+        
         // Auto-start first wave after initial delay
         this.waveTimer = getWaveDelay() - 3.0; // Start first wave in 3 seconds
     }
@@ -84,8 +93,16 @@ public class WaveManager {
         spawnTimer = 0;
         currentSpawnIndex = 0;
         
+        totalEnemyPower = 0;
+        spawnedEnemyPower = 0;
         generateWaveSpawns();
-        calculateTotalPower();
+    }
+    
+    /**
+     * Register or replace the factory used for a kind of unit
+     */
+    public void registerFactory(EnemyKind kind, EnemyFactory<?> factory) {
+        factories.put(kind, factory);
     }
     
     private void generateWaveSpawns() {
@@ -105,26 +122,26 @@ public class WaveManager {
             Route route = routes.get(i % routes.size()); // Alternate: Route A, Route B, Route A, Route B...
             
             // Enemy type distribution (mostly soldiers, some tanks, occasional planes)
-            Class<? extends Enemy> enemyType;
+            EnemyKind kind;
             int roll = random.nextInt(100);
             
             if (roll < 70) {
-                enemyType = Soldier.class;
+                kind = EnemyKind.SOLDIER;
             } else if (roll < 95) {
-                enemyType = Tank.class;
+                kind = EnemyKind.TANK;
             } else {
-                enemyType = Soldier.class; // Planes are handled separately
+                kind = EnemyKind.SOLDIER; // Planes are handled separately
             }
             
             // Tank spacing: tanks occupy lane like 2 soldiers, so double the spacing
             double spawnDelay;
-            if (enemyType == Tank.class) {
+            if (kind == EnemyKind.TANK) {
                 spawnDelay = 3.0; // 3 seconds for tanks (double soldier spacing)
             } else {
                 spawnDelay = 1.5; // 1.5 seconds for soldiers
             }
             
-            currentWaveSpawns.add(new EnemySpawn(enemyType, route, currentTime));
+            addSpawn(new EnemySpawn(kind, route, currentTime));
             currentTime += spawnDelay;
         }
         
@@ -134,7 +151,7 @@ public class WaveManager {
             for (int i = 0; i < planeCount; i++) {
                 // Planes don't use routes - they fly across the screen
                 double planeSpawnTime = 10 + i * 8; // Planes spawn later in the wave
-                currentWaveSpawns.add(new EnemySpawn(Plane.class, null, planeSpawnTime));
+                addSpawn(new EnemySpawn(EnemyKind.PLANE, null, planeSpawnTime));
             }
         }
         
@@ -142,16 +159,23 @@ public class WaveManager {
         currentWaveSpawns.sort((a, b) -> Double.compare(a.spawnTime, b.spawnTime));
     }
     
+    private void addSpawn(EnemySpawn spawn) {
+        currentWaveSpawns.add(spawn);
+        totalEnemyPower += spawn.kind.getPower();
+    }
+    
     private void spawnEnemiesIfReady() {
         while (currentSpawnIndex < currentWaveSpawns.size()) {
             EnemySpawn spawn = currentWaveSpawns.get(currentSpawnIndex);
             
             if (spawnTimer >= spawn.spawnTime) {
-                Enemy enemy = createEnemy(spawn);
-                if (enemy != null) {
-                    spawnedEnemyPower += enemy.getPowerValue();
-                    // The actual spawning would be handled by the game loop
-                    onEnemySpawned(enemy);
+                Entity unit = factories.get(spawn.kind).create(spawn.route);
+                spawnedEnemyPower += spawn.kind.getPower();
+                levelSpawnedPower += spawn.kind.getPower();
+                // The game loop drains the spawn buffer each frame
+                spawned.add(unit);
+                if (onEnemySpawned != null) {
+                    onEnemySpawned.onEnemySpawned(unit);
                 }
                 currentSpawnIndex++;
             } else {
@@ -166,50 +190,36 @@ public class WaveManager {
         }
     }
     
-    private Enemy createEnemy(EnemySpawn spawn) {
-        try {
-            if (spawn.enemyType == Soldier.class) {
-                Soldier soldier = new Soldier(spawn.route);
-                applyDifficultyModifiers(soldier);
-                return soldier;
-                
-            } else if (spawn.enemyType == Tank.class) {
-                Tank tank = new Tank(spawn.route);
-                applyDifficultyModifiers(tank);
-                return tank;
-                
-            } else if (spawn.enemyType == Plane.class) {
-                // Planes fly straight across screen - can come from any direction
-                Point2D start, end;
-                int direction = random.nextInt(4); // 0=left-right, 1=right-left, 2=top-bottom, 3=bottom-top
-                
-                switch (direction) {
-                    case 0: // Left to right
-                        start = new Point2D(-50, random.nextDouble() * Config.MAP_HEIGHT);
-                        end = new Point2D(Config.MAP_WIDTH + 50, random.nextDouble() * Config.MAP_HEIGHT);
-                        break;
-                    case 1: // Right to left
-                        start = new Point2D(Config.MAP_WIDTH + 50, random.nextDouble() * Config.MAP_HEIGHT);
-                        end = new Point2D(-50, random.nextDouble() * Config.MAP_HEIGHT);
-                        break;
-                    case 2: // Top to bottom
-                        start = new Point2D(random.nextDouble() * Config.MAP_WIDTH, -50);
-                        end = new Point2D(random.nextDouble() * Config.MAP_WIDTH, Config.MAP_HEIGHT + 50);
-                        break;
-                    default: // Bottom to top
-                        start = new Point2D(random.nextDouble() * Config.MAP_WIDTH, Config.MAP_HEIGHT + 50);
-                        end = new Point2D(random.nextDouble() * Config.MAP_WIDTH, -50);
-                        break;
-                }
-                
-                Plane plane = new Plane(start, end);
-                return plane; // Planes don't need difficulty modifiers applied the same way
-            }
-        } catch (Exception e) {
-            System.err.println("Error creating enemy: " + e.getMessage());
+    private <T extends Enemy> T withDifficulty(T enemy) {
+        applyDifficultyModifiers(enemy);
+        return enemy;
+    }
+    
+    private Plane createPlane() {
+        // Planes fly straight across screen - can come from any direction
+        Point2D start, end;
+        int direction = random.nextInt(4); // 0=left-right, 1=right-left, 2=top-bottom, 3=bottom-top
+        
+        switch (direction) {
+            case 0: // Left to right
+                start = new Point2D(-50, random.nextDouble() * Config.MAP_HEIGHT);
+                end = new Point2D(Config.MAP_WIDTH + 50, random.nextDouble() * Config.MAP_HEIGHT);
+                break;
+            case 1: // Right to left
+                start = new Point2D(Config.MAP_WIDTH + 50, random.nextDouble() * Config.MAP_HEIGHT);
+                end = new Point2D(-50, random.nextDouble() * Config.MAP_HEIGHT);
+                break;
+            case 2: // Top to bottom
+                start = new Point2D(random.nextDouble() * Config.MAP_WIDTH, -50);
+                end = new Point2D(random.nextDouble() * Config.MAP_WIDTH, Config.MAP_HEIGHT + 50);
+                break;
+            default: // Bottom to top
+                start = new Point2D(random.nextDouble() * Config.MAP_WIDTH, Config.MAP_HEIGHT + 50);
+                end = new Point2D(random.nextDouble() * Config.MAP_WIDTH, -50);
+                break;
         }
         
-        return null;
+        return new Plane(start, end); // Planes don't need difficulty modifiers applied the same way
     }
     
     private void applyDifficultyModifiers(Enemy enemy) {
@@ -240,21 +250,6 @@ public class WaveManager {
         }
     }
     
-    private void calculateTotalPower() {
-        totalEnemyPower = 0;
-        spawnedEnemyPower = 0;
-        
-        for (EnemySpawn spawn : currentWaveSpawns) {
-            if (spawn.enemyType == Soldier.class) {
-                totalEnemyPower += Config.SOLDIER_POWER;
-            } else if (spawn.enemyType == Tank.class) {
-                totalEnemyPower += Config.TANK_POWER;
-            } else if (spawn.enemyType == Plane.class) {
-                totalEnemyPower += Config.PLANE_POWER;
-            }
-        }
-    }
-    
     private double getDifficultyMultiplier() {
         return switch (difficulty) {
             case EASY -> 0.8;
@@ -269,17 +264,11 @@ public class WaveManager {
     
     @FunctionalInterface
     public interface EnemySpawnCallback {
-        void onEnemySpawned(Enemy enemy);
+        void onEnemySpawned(Entity unit);
     }
     
     public EnemySpawnCallback onEnemySpawned;
     
-    protected void onEnemySpawned(Enemy enemy) {
-        if (onEnemySpawned != null) {
-            onEnemySpawned.onEnemySpawned(enemy);
-        }
-    }
-    
     public int getCurrentWave() {
         return currentWave;
     }
@@ -308,21 +297,18 @@ public class WaveManager {
         return currentWave >= Config.TOTAL_WAVES && !waveInProgress;
     }
     
-    // Track spawned enemies for the game loop
-    private final List<Enemy> spawnedEnemies = new ArrayList<>();
-    
-    public List<Enemy> getSpawnedEnemies() {
-        List<Enemy> result = new ArrayList<>(spawnedEnemies);
-        spawnedEnemies.clear();
-        return result;
+    /**
+     * Take the next unit spawned since the last call, or null when none are left
+     */
+    public Entity pollSpawned() {
+        return spawned.poll();
     }
     
-    @Override
-    protected void onEnemySpawned(Enemy enemy) {
-        spawnedEnemies.add(enemy);
-        if (onEnemySpawned != null) {
-            onEnemySpawned.onEnemySpawned(enemy);
-        }
+    /**
+     * Power of every unit spawned so far this level
+     */
+    public int getLevelSpawnedPower() {
+        return levelSpawnedPower;
     }
     
     public boolean isComplete() {
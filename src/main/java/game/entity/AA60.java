@@ -1,10 +1,11 @@
 package game.entity;
 
 import game.Config;
+import java.util.SplittableRandom;
 
 public class AA60 extends AntiAir {
     
-    public AA60() {
-        super(Config.AA_CHEAP_HIT_CHANCE, Config.AA_CHEAP_COST);
+    public AA60(SplittableRandom random) {
+        super(Config.AA_CHEAP_HIT_CHANCE, Config.AA_CHEAP_COST, random);
     }
 }
\ No newline at end of file
@@ -1,10 +1,11 @@
 package game.entity;
 
 import game.Config;
+import java.util.SplittableRandom;
 
 public class AA80 extends AntiAir {
     
-    public AA80() {
-        super(Config.AA_EXPENSIVE_HIT_CHANCE, Config.AA_EXPENSIVE_COST);
+    public AA80(SplittableRandom random) {
+        super(Config.AA_EXPENSIVE_HIT_CHANCE, Config.AA_EXPENSIVE_COST, random);
     }
 }
\ No newline at end of file
@@ -2,7 +2,7 @@ package game.entity;
 
 import game.Config;
 import java.util.List;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 public abstract class AntiAir extends Entity {
     
@@ -10,15 +10,15 @@ public abstract class AntiAir extends Entity {
     protected final int cost;
     protected double fireTimer;
     protected Plane target;
-    protected final Random random;
+    protected final SplittableRandom random;
     
-    public AntiAir(double hitChance, int cost) {
+    public AntiAir(double hitChance, int cost, SplittableRandom random) {
         super(0, 0, 100); // AA doesn't have a physical position on map, arbitrary HP
         this.hitChance = hitChance;
         this.cost = cost;
         this.fireTimer = 0;
         this.target = null;
-        this.random = new Random();
+        this.random = random;
         this.width = 0;  // AA has global coverage
         this.height = 0;
     }
@@ -65,7 +65,7 @@ public abstract class AntiAir extends Entity {
     
     private void fireAtPlane(Plane plane) {
         // Roll for hit
-        if (random.nextDouble() < hitChance) {
+        if (rollHit()) {
             // Hit! Destroy the plane
             plane.kill();
             target = null;
@@ -73,6 +73,13 @@ public abstract class AntiAir extends Entity {
         // Miss - plane continues
     }
     
+    /**
+     * Roll this installation's hit chance on its own random stream
+     */
+    public boolean rollHit() {
+        return random.nextDouble() < hitChance;
+    }
+    
     public double getHitChance() {
         return hitChance;
     }
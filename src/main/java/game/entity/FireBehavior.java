@@ -46,7 +46,7 @@ public interface FireBehavior {
         
         if (tower instanceof AntiAir aa) {
             // Roll for hit based on AA hit chance
-            if (Math.random() < aa.getHitChance()) {
+            if (aa.rollHit()) {
                 target.kill(); // AA kills planes instantly on hit
                 return true;
             }
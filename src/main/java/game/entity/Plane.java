@@ -2,7 +2,7 @@ package game.entity;
 
 import javafx.geometry.Point2D;
 import game.Config;
-import java.util.List;
+import game.map.Grid;
 
 public class Plane extends Entity {
     
@@ -12,6 +12,7 @@ public class Plane extends Entity {
     private double travelDistance;
     private boolean hasBombed;
     private final int powerValue;
+    private Grid targetGrid;
     
     public Plane(Point2D start, Point2D end) {
         super(start.getX(), start.getY(), 1); // Planes have minimal HP, rely on AA to shoot them
@@ -53,18 +54,26 @@ public class Plane extends Entity {
     }
     
     private void performBombing() {
-        // This method would need access to the game's tower and build slot lists
-        // For now, we'll leave it as a stub that can be called by the game loop
+        if (targetGrid != null) {
+            performBombingOnTargets(targetGrid);
+        }
+    }
+    
+    /**
+     * Grid whose towers this plane bombs when it reaches mid-flight
+     */
+    public void setTargetGrid(Grid grid) {
+        this.targetGrid = grid;
     }
     
-    public void performBombingOnTargets(List<Tower> towers, List<Point2D> buildSlots) {
+    public void performBombingOnTargets(Grid grid) {
         if (hasBombed) return;
         
         // Find the optimal row or column to bomb based on player value
-        BombTarget optimalTarget = findOptimalRowOrColumn(towers, buildSlots);
+        BombTarget optimalTarget = findOptimalRowOrColumn(grid);
         
         if (optimalTarget != null) {
-            bombRowOrColumn(optimalTarget, towers);
+            bombRowOrColumn(optimalTarget, grid);
             hasBombed = true;
         }
     }
@@ -81,13 +90,13 @@ public class Plane extends Entity {
         }
     }
     
-    private BombTarget findOptimalRowOrColumn(List<Tower> towers, List<Point2D> buildSlots) {
+    private BombTarget findOptimalRowOrColumn(Grid grid) {
         BombTarget bestTarget = null;
         double maxValue = 0;
         
         // Evaluate each row (0-8)
-        for (int row = 0; row < Config.GRID_H; row++) {
-            double rowValue = calculateRowValue(row, towers);
+        for (int row = 0; row < grid.getHeight(); row++) {
+            double rowValue = grid.getRowValue(row);
             if (rowValue > maxValue) {
                 maxValue = rowValue;
                 bestTarget = new BombTarget(true, row, rowValue);
@@ -95,8 +104,8 @@ public class Plane extends Entity {
         }
         
         // Evaluate each column (0-10)  
-        for (int col = 0; col < Config.GRID_W; col++) {
-            double colValue = calculateColumnValue(col, towers);
+        for (int col = 0; col < grid.getWidth(); col++) {
+            double colValue = grid.getColumnValue(col);
             if (colValue > maxValue) {
                 maxValue = colValue;
                 bestTarget = new BombTarget(false, col, colValue);
@@ -106,87 +115,33 @@ public class Plane extends Entity {
         return bestTarget;
     }
     
-    private double calculateRowValue(int row, List<Tower> towers) {
-        double totalValue = 0;
-        double rowY = row * Config.TILE_SIZE;
-        double bombRadius = Config.TILE_SIZE * 1.5;
-        
-        for (Tower tower : towers) {
-            if (!tower.isAlive()) continue;
-            
-            double towerY = tower.getY() + tower.getHeight() / 2;
-            if (Math.abs(towerY - rowY) <= bombRadius) {
-                // Tower value = cost + remaining HP factor
-                totalValue += tower.getCost() + (tower.getCurrentHp() / tower.getMaxHp() * 20);
-            }
-        }
-        
-        return totalValue;
-    }
-    
-    private double calculateColumnValue(int col, List<Tower> towers) {
-        double totalValue = 0;
-        double colX = col * Config.TILE_SIZE;
-        double bombRadius = Config.TILE_SIZE * 1.5;
-        
-        for (Tower tower : towers) {
-            if (!tower.isAlive()) continue;
-            
-            double towerX = tower.getX() + tower.getWidth() / 2;
-            if (Math.abs(towerX - colX) <= bombRadius) {
-                // Tower value = cost + remaining HP factor
-                totalValue += tower.getCost() + (tower.getCurrentHp() / tower.getMaxHp() * 20);
-            }
-        }
-        
-        return totalValue;
-    }
-    
-    private void bombRowOrColumn(BombTarget target, List<Tower> towers) {
-        double bombRadius = Config.TILE_SIZE * 1.5;
+    private void bombRowOrColumn(BombTarget target, Grid grid) {
         double bombDamage = 50;
-        
-        if (target.isRow) {
-            // Bomb entire row
-            double rowY = target.index * Config.TILE_SIZE + Config.TILE_SIZE / 2;
-            for (int col = 0; col < Config.GRID_W; col++) {
-                double cellX = col * Config.TILE_SIZE + Config.TILE_SIZE / 2;
-                Point2D bombPoint = new Point2D(cellX, rowY);
-                damageTowersInRadius(bombPoint, bombRadius, bombDamage, towers);
-            }
-        } else {
-            // Bomb entire column
-            double colX = target.index * Config.TILE_SIZE + Config.TILE_SIZE / 2;
-            for (int row = 0; row < Config.GRID_H; row++) {
-                double cellY = row * Config.TILE_SIZE + Config.TILE_SIZE / 2;
-                Point2D bombPoint = new Point2D(colX, cellY);
-                damageTowersInRadius(bombPoint, bombRadius, bombDamage, towers);
-            }
-        }
-    }
-    
-    private void damageTowersInRadius(Point2D center, double radius, double damage, List<Tower> towers) {
-        for (Tower tower : towers) {
-            if (!tower.isAlive()) continue;
-            
-            double distance = tower.getCenter().distance(center);
-            if (distance <= radius) {
-                tower.takeDamage(damage);
-            }
-        }
-    }
-    
-    private void bombArea(Point2D target, List<Tower> towers) {
-        double bombRadius = Config.TILE_SIZE * 1.5; // Bomb affects 1.5 tile radius
-        double bombDamage = 50; // Fixed bomb damage
-        
-        // Damage all towers in bomb radius
-        for (Tower tower : towers) {
-            if (!tower.isAlive()) continue;
-            
-            double distance = tower.getCenter().distance(target);
-            if (distance <= bombRadius) {
-                tower.takeDamage(bombDamage);
+        double lineCenter = target.index * Config.TILE_SIZE + Config.TILE_SIZE / 2.0;
+        
+        // Bombs fall on every cell center of the line, each hitting towers within BOMB_RADIUS,
+        // so only towers on the two tiles either side of the line can be reached
+        for (int offset = -2; offset <= 2; offset++) {
+            int across = target.index + offset;
+            int length = target.isRow ? grid.getWidth() : grid.getHeight();
+            for (int along = 0; along < length; along++) {
+                Tower tower = target.isRow ? grid.getTowerAt(along, across) : grid.getTowerAt(across, along);
+                if (tower == null || !tower.isAlive()) continue;
+                
+                Point2D center = tower.getCenter();
+                double towerAlong = target.isRow ? center.getX() : center.getY();
+                double towerAcross = target.isRow ? center.getY() : center.getX();
+                
+                // One hit per bomb cell in reach, as if each cell were bombed in turn
+                int first = Math.max(0, (int) Math.floor((towerAlong - Grid.BOMB_RADIUS) / Config.TILE_SIZE));
+                int last = Math.min(length - 1, (int) Math.ceil((towerAlong + Grid.BOMB_RADIUS) / Config.TILE_SIZE));
+                for (int cell = first; cell <= last && tower.isAlive(); cell++) {
+                    double cellCenter = cell * Config.TILE_SIZE + Config.TILE_SIZE / 2.0;
+                    double distance = Math.hypot(towerAlong - cellCenter, towerAcross - lineCenter);
+                    if (distance <= Grid.BOMB_RADIUS) {
+                        tower.takeDamage(bombDamage);
+                    }
+                }
             }
         }
     }
@@ -2,6 +2,7 @@ package game.entity;
 
 import javafx.geometry.Point2D;
 import game.Config;
+import game.map.Grid;
 import java.util.List;
 
 public abstract class Tower extends Entity {
@@ -69,6 +70,7 @@ public abstract class Tower extends Entity {
     }
     
     private ProjectileManager projectileManager;
+    private Grid grid; // Kept informed of HP changes once placed
     
     public void setProjectileManager(ProjectileManager projectileManager) {
         this.projectileManager = projectileManager;
@@ -117,6 +119,26 @@ public abstract class Tower extends Entity {
         return cost;
     }
     
+    public void setGrid(Grid grid) {
+        this.grid = grid;
+    }
+    
+    @Override
+    public void takeDamage(double damage) {
+        super.takeDamage(damage);
+        if (grid != null) {
+            grid.updateTower(this);
+        }
+    }
+    
+    @Override
+    public void heal(double amount) {
+        super.heal(amount);
+        if (grid != null) {
+            grid.updateTower(this);
+        }
+    }
+    
     public boolean canTarget(Enemy enemy) {
         return isInRange(enemy, range) && getDamageAgainst(enemy) > 0;
     }
@@ -1,18 +1,39 @@
 package game.map;
 
 import game.Config;
+import game.entity.Tower;
 import javafx.geometry.Point2D;
 
+import java.util.IdentityHashMap;
+import java.util.Map;
+
 public class Grid {
     
+    // A bomb hits every tower whose center is within this distance
+    public static final double BOMB_RADIUS = Config.TILE_SIZE * 1.5;
+    
     private final Tile[][] tiles;
     private final int width;
     private final int height;
     
+    // Tower occupancy per tile, and the bombing value of each row/column band.
+    // A tower counts towards every row and column line within BOMB_RADIUS of its center.
+    private final Tower[][] towers;
+    private final double[] rowValues;
+    private final double[] columnValues;
+    private final int[] rowTowers;
+    private final int[] columnTowers;
+    private final Map<Tower, Double> towerValues = new IdentityHashMap<>();
+    
     public Grid() {
         this.width = Config.GRID_W;
         this.height = Config.GRID_H;
         this.tiles = new Tile[width][height];
+        this.towers = new Tower[width][height];
+        this.rowValues = new double[height];
+        this.columnValues = new double[width];
+        this.rowTowers = new int[height];
+        this.columnTowers = new int[width];
         
         // Initialize all tiles as grass by default
         for (int x = 0; x < width; x++) {
@@ -61,6 +82,117 @@ public class Grid {
         return center1.distance(center2) / Config.TILE_SIZE; // Distance in tiles
     }
     
+    /**
+     * Register a newly built tower on the tile under its center
+     */
+    public void placeTower(Tower tower) {
+        int x = tileX(tower);
+        int y = tileY(tower);
+        if (!isValidCoordinate(x, y) || towers[x][y] != null) {
+            System.err.println("Cannot place tower on tile " + x + "," + y);
+            return;
+        }
+        
+        towers[x][y] = tower;
+        tower.setGrid(this);
+        applyValue(tower, towerValue(tower), true);
+    }
+    
+    /**
+     * Re-score a tower after damage or healing, dropping it once destroyed
+     */
+    public void updateTower(Tower tower) {
+        Double previous = towerValues.get(tower);
+        if (previous == null) return;
+        
+        applyValue(tower, previous, false);
+        if (tower.isAlive()) {
+            applyValue(tower, towerValue(tower), true);
+        } else {
+            removeTower(tower);
+        }
+    }
+    
+    /**
+     * Remove a tower from its tile; does nothing if it is not on the grid
+     */
+    public void removeTower(Tower tower) {
+        Double previous = towerValues.get(tower);
+        if (previous != null) {
+            applyValue(tower, previous, false);
+        }
+        
+        int x = tileX(tower);
+        int y = tileY(tower);
+        if (isValidCoordinate(x, y) && towers[x][y] == tower) {
+            towers[x][y] = null;
+        }
+        tower.setGrid(null);
+    }
+    
+    public Tower getTowerAt(int x, int y) {
+        return isValidCoordinate(x, y) ? towers[x][y] : null;
+    }
+    
+    /**
+     * Value a bombing run along row line {@code y} would destroy
+     */
+    public double getRowValue(int y) {
+        return rowValues[y];
+    }
+    
+    /**
+     * Value a bombing run along column line {@code x} would destroy
+     */
+    public double getColumnValue(int x) {
+        return columnValues[x];
+    }
+    
+    // Tower value = cost + remaining HP factor
+    private static double towerValue(Tower tower) {
+        return tower.getCost() + (tower.getCurrentHp() / tower.getMaxHp() * 20);
+    }
+    
+    /**
+     * Add or subtract a tower's value on every line band it lies in
+     */
+    private void applyValue(Tower tower, double value, boolean add) {
+        int sign = add ? 1 : -1;
+        if (add) {
+            towerValues.put(tower, value);
+        } else {
+            towerValues.remove(tower);
+        }
+        
+        Point2D center = tower.getCenter();
+        for (int y = firstLine(center.getY(), height); y <= lastLine(center.getY(), height); y++) {
+            rowTowers[y] += sign;
+            // Reset empty lines exactly so rounding never leaves a phantom target
+            rowValues[y] = rowTowers[y] == 0 ? 0 : rowValues[y] + sign * value;
+        }
+        for (int x = firstLine(center.getX(), width); x <= lastLine(center.getX(), width); x++) {
+            columnTowers[x] += sign;
+            columnValues[x] = columnTowers[x] == 0 ? 0 : columnValues[x] + sign * value;
+        }
+    }
+    
+    // Lines sit on tile edges: line i is at i * TILE_SIZE
+    private static int firstLine(double coordinate, int count) {
+        return Math.max(0, (int) Math.ceil((coordinate - BOMB_RADIUS) / Config.TILE_SIZE));
+    }
+    
+    private static int lastLine(double coordinate, int count) {
+        return Math.min(count - 1, (int) Math.floor((coordinate + BOMB_RADIUS) / Config.TILE_SIZE));
+    }
+    
+    private static int tileX(Tower tower) {
+        return (int) (tower.getCenter().getX() / Config.TILE_SIZE);
+    }
+    
+    private static int tileY(Tower tower) {
+        return (int) (tower.getCenter().getY() / Config.TILE_SIZE);
+    }
+    
     public int getWidth() {
         return width;
     }
@@ -1,136 +1,431 @@
 package game.svg;
 
-import javafx.geometry.Bounds;
-import javafx.scene.Group;
-import javafx.scene.Scene;
-import javafx.scene.shape.SVGPath;
-import javafx.stage.Stage;
-
-public class PathBounds {
-    
-    private static Scene offscreenScene;
-    private static Group offscreenGroup;
-    
-    static {
-        // Create an offscreen scene for bounds computation
-        offscreenGroup = new Group();
-        offscreenScene = new Scene(offscreenGroup, 1, 1);
-        // Note: In a real JavaFX application, this would need to be properly initialized
-        // with a stage, but for bounds computation, we can work with just the scene
+/**
+ * Immutable axis-aligned bounds of SVG path data.
+ * Bounds are computed directly from the path commands (M/L/H/V/C/S/Q/T/A/Z,
+ * absolute and relative) without touching the JavaFX scene graph, so the
+ * computation is thread-safe and works without a running toolkit.
+ */
+public final class PathBounds {
+
+    private final double minX;
+    private final double minY;
+    private final double maxX;
+    private final double maxY;
+
+    private PathBounds(double minX, double minY, double maxX, double maxY) {
+        this.minX = minX;
+        this.minY = minY;
+        this.maxX = maxX;
+        this.maxY = maxY;
     }
-    
+
+    public double getMinX() { return minX; }
+    public double getMinY() { return minY; }
+    public double getMaxX() { return maxX; }
+    public double getMaxY() { return maxY; }
+    public double getWidth() { return maxX - minX; }
+    public double getHeight() { return maxY - minY; }
+
+    /**
+     * Check if these bounds intersect a rectangular region (edges inclusive).
+     */
+    public boolean intersects(double x, double y, double width, double height) {
+        return !(maxX < x || minX > x + width || maxY < y || minY > y + height);
+    }
+
+    @Override
+    public String toString() {
+        return "PathBounds[minX=" + minX + ", minY=" + minY + ", maxX=" + maxX + ", maxY=" + maxY + "]";
+    }
+
     /**
      * Compute the geometric bounds of an SVG path string.
      * This is used to determine spatial regions in the SVG for sprite extraction.
-     * 
+     *
      * @param pathData The SVG path 'd' attribute string
-     * @return The bounds of the path, or null if the path is invalid
+     * @return The bounds of the path, or null if the path is empty or invalid
      */
-    public static Bounds computePathBounds(String pathData) {
+    public static PathBounds computePathBounds(String pathData) {
         if (pathData == null || pathData.trim().isEmpty()) {
             return null;
         }
-        
+
         try {
-            // Create SVGPath node
-            SVGPath svgPath = new SVGPath();
-            svgPath.setContent(pathData);
-            
-            // Temporarily add to offscreen scene for bounds computation
-            offscreenGroup.getChildren().clear();
-            offscreenGroup.getChildren().add(svgPath);
-            
-            // Force layout to compute bounds
-            offscreenScene.getRoot().applyCss();
-            offscreenScene.getRoot().autosize();
-            
-            // Get the bounds using the implementation method as specified in the prompt
-            Bounds bounds;
-            try {
-                // Try to use the impl method if available (as specified in prompt)
-                java.lang.reflect.Method implMethod = svgPath.getClass().getMethod("impl_getGeomBounds");
-                bounds = (Bounds) implMethod.invoke(svgPath);
-            } catch (Exception e) {
-                // Fallback to standard bounds if impl method isn't available
-                bounds = svgPath.getBoundsInLocal();
-            }
-            
-            // Clean up
-            offscreenGroup.getChildren().clear();
-            
-            return bounds;
-            
-        } catch (Exception e) {
-            System.err.println("Error computing bounds for path: " + pathData);
-            e.printStackTrace();
+            return new Parser(pathData).parse();
+        } catch (IllegalArgumentException e) {
+            System.err.println("Error computing bounds for path: " + e.getMessage());
             return null;
         }
     }
-    
+
     /**
      * Check if a path's bounds intersect with a given rectangular region.
      * Used for sprite extraction by spatial region.
-     * 
+     *
      * @param pathData The SVG path 'd' attribute string
      * @param x Left edge of the region
-     * @param y Top edge of the region  
+     * @param y Top edge of the region
      * @param width Width of the region
      * @param height Height of the region
      * @return true if the path intersects the region, false otherwise
      */
     public static boolean pathIntersectsRegion(String pathData, double x, double y, double width, double height) {
-        Bounds pathBounds = computePathBounds(pathData);
-        if (pathBounds == null) {
-            return false;
-        }
-        
-        // Check for rectangle intersection
-        double pathMinX = pathBounds.getMinX();
-        double pathMinY = pathBounds.getMinY();
-        double pathMaxX = pathBounds.getMaxX();
-        double pathMaxY = pathBounds.getMaxY();
-        
-        double regionMaxX = x + width;
-        double regionMaxY = y + height;
-        
-        // No intersection if completely separated
-        if (pathMaxX < x || pathMinX > regionMaxX || 
-            pathMaxY < y || pathMinY > regionMaxY) {
-            return false;
-        }
-        
-        return true;
+        PathBounds pathBounds = computePathBounds(pathData);
+        return pathBounds != null && pathBounds.intersects(x, y, width, height);
     }
-    
+
     /**
      * Get the center point of a path's bounds.
-     * 
+     *
      * @param pathData The SVG path 'd' attribute string
      * @return Array containing [centerX, centerY], or null if bounds cannot be computed
      */
     public static double[] getPathCenter(String pathData) {
-        Bounds bounds = computePathBounds(pathData);
+        PathBounds bounds = computePathBounds(pathData);
         if (bounds == null) {
             return null;
         }
-        
+
         double centerX = bounds.getMinX() + bounds.getWidth() / 2.0;
         double centerY = bounds.getMinY() + bounds.getHeight() / 2.0;
-        
+
         return new double[]{centerX, centerY};
     }
-    
+
     /**
-     * Initialize the offscreen scene with a proper stage context.
-     * This should be called from the JavaFX Application Thread after a Stage is available.
-     * 
-     * @param stage A stage to use for scene context (can be hidden)
+     * Single-use tokenizer and bounds accumulator for one path string.
      */
-    public static void initializeWithStage(Stage stage) {
-        if (offscreenScene != null && offscreenGroup != null) {
-            // Re-create with proper stage context if needed
-            stage.setScene(offscreenScene);
-            // The scene is now properly initialized for bounds computation
+    private static final class Parser {
+        private final String data;
+        private int pos;
+
+        private double minX = Double.POSITIVE_INFINITY;
+        private double minY = Double.POSITIVE_INFINITY;
+        private double maxX = Double.NEGATIVE_INFINITY;
+        private double maxY = Double.NEGATIVE_INFINITY;
+
+        // Current point, subpath start and last control point for S/T reflection
+        private double cx, cy, startX, startY, ctrlX, ctrlY;
+
+        Parser(String data) {
+            this.data = data;
+        }
+
+        PathBounds parse() {
+            char command = 0;
+            char previous = 0;
+
+            while (true) {
+                skipSeparators();
+                if (pos >= data.length()) break;
+
+                char c = data.charAt(pos);
+                if (Character.isLetter(c)) {
+                    command = c;
+                    pos++;
+                } else if (command == 0) {
+                    throw new IllegalArgumentException("path must start with a command: " + data);
+                } else if (command == 'M') {
+                    command = 'L'; // Extra coordinate pairs after a moveto are linetos
+                } else if (command == 'm') {
+                    command = 'l';
+                } else if (command == 'Z' || command == 'z') {
+                    throw new IllegalArgumentException("unexpected number after closepath at " + pos);
+                }
+
+                execute(command, previous);
+                previous = command;
+            }
+
+            if (minX > maxX) {
+                return null;
+            }
+            return new PathBounds(minX, minY, maxX, maxY);
+        }
+
+        private void execute(char command, char previous) {
+            boolean relative = Character.isLowerCase(command);
+            double ox = relative ? cx : 0;
+            double oy = relative ? cy : 0;
+
+            switch (Character.toUpperCase(command)) {
+                case 'M': {
+                    cx = ox + number();
+                    cy = oy + number();
+                    startX = cx;
+                    startY = cy;
+                    include(cx, cy);
+                    ctrlX = cx;
+                    ctrlY = cy;
+                    break;
+                }
+                case 'L': {
+                    cx = ox + number();
+                    cy = oy + number();
+                    include(cx, cy);
+                    ctrlX = cx;
+                    ctrlY = cy;
+                    break;
+                }
+                case 'H': {
+                    cx = ox + number();
+                    include(cx, cy);
+                    ctrlX = cx;
+                    ctrlY = cy;
+                    break;
+                }
+                case 'V': {
+                    cy = (relative ? cy : 0) + number();
+                    include(cx, cy);
+                    ctrlX = cx;
+                    ctrlY = cy;
+                    break;
+                }
+                case 'C': {
+                    double x1 = ox + number(), y1 = oy + number();
+                    double x2 = ox + number(), y2 = oy + number();
+                    double x = ox + number(), y = oy + number();
+                    cubic(x1, y1, x2, y2, x, y);
+                    break;
+                }
+                case 'S': {
+                    boolean smooth = "CcSs".indexOf(previous) >= 0;
+                    double x1 = smooth ? 2 * cx - ctrlX : cx;
+                    double y1 = smooth ? 2 * cy - ctrlY : cy;
+                    double x2 = ox + number(), y2 = oy + number();
+                    double x = ox + number(), y = oy + number();
+                    cubic(x1, y1, x2, y2, x, y);
+                    break;
+                }
+                case 'Q': {
+                    double x1 = ox + number(), y1 = oy + number();
+                    double x = ox + number(), y = oy + number();
+                    quad(x1, y1, x, y);
+                    break;
+                }
+                case 'T': {
+                    boolean smooth = "QqTt".indexOf(previous) >= 0;
+                    double x1 = smooth ? 2 * cx - ctrlX : cx;
+                    double y1 = smooth ? 2 * cy - ctrlY : cy;
+                    double x = ox + number(), y = oy + number();
+                    quad(x1, y1, x, y);
+                    break;
+                }
+                case 'A': {
+                    double rx = number(), ry = number();
+                    double rotation = number();
+                    boolean largeArc = flag();
+                    boolean sweep = flag();
+                    double x = ox + number(), y = oy + number();
+                    arc(rx, ry, rotation, largeArc, sweep, x, y);
+                    break;
+                }
+                case 'Z': {
+                    cx = startX;
+                    cy = startY;
+                    ctrlX = cx;
+                    ctrlY = cy;
+                    break;
+                }
+                default:
+                    throw new IllegalArgumentException("unsupported path command '" + command + "'");
+            }
+        }
+
+        private void include(double x, double y) {
+            if (x < minX) minX = x;
+            if (x > maxX) maxX = x;
+            if (y < minY) minY = y;
+            if (y > maxY) maxY = y;
+        }
+
+        private void cubic(double x1, double y1, double x2, double y2, double x, double y) {
+            include(x, y);
+            for (double t : cubicExtrema(cx, x1, x2, x)) includeCubicAt(t, x1, y1, x2, y2, x, y);
+            for (double t : cubicExtrema(cy, y1, y2, y)) includeCubicAt(t, x1, y1, x2, y2, x, y);
+            cx = x;
+            cy = y;
+            ctrlX = x2;
+            ctrlY = y2;
+        }
+
+        /**
+         * Parameters in (0, 1) where the derivative of one cubic coordinate is zero.
+         */
+        private static double[] cubicExtrema(double p0, double p1, double p2, double p3) {
+            // B'(t)/3 = a t^2 + b t + c
+            double a = -p0 + 3 * p1 - 3 * p2 + p3;
+            double b = 2 * (p0 - 2 * p1 + p2);
+            double c = p1 - p0;
+
+            if (Math.abs(a) < 1e-12) {
+                return Math.abs(b) < 1e-12 ? new double[0] : new double[]{-c / b};
+            }
+
+            double discriminant = b * b - 4 * a * c;
+            if (discriminant < 0) return new double[0];
+            double root = Math.sqrt(discriminant);
+            return new double[]{(-b + root) / (2 * a), (-b - root) / (2 * a)};
+        }
+
+        private void includeCubicAt(double t, double x1, double y1, double x2, double y2, double x, double y) {
+            if (t <= 0 || t >= 1) return;
+            include(cubicAt(t, cx, x1, x2, x), cubicAt(t, cy, y1, y2, y));
+        }
+
+        private static double cubicAt(double t, double p0, double p1, double p2, double p3) {
+            double mt = 1 - t;
+            return mt * mt * mt * p0 + 3 * mt * mt * t * p1 + 3 * mt * t * t * p2 + t * t * t * p3;
+        }
+
+        private void quad(double x1, double y1, double x, double y) {
+            include(x, y);
+            includeQuadAt(quadExtremum(cx, x1, x), x1, y1, x, y);
+            includeQuadAt(quadExtremum(cy, y1, y), x1, y1, x, y);
+            cx = x;
+            cy = y;
+            ctrlX = x1;
+            ctrlY = y1;
+        }
+
+        private static double quadExtremum(double p0, double p1, double p2) {
+            double denominator = p0 - 2 * p1 + p2;
+            return Math.abs(denominator) < 1e-12 ? -1 : (p0 - p1) / denominator;
+        }
+
+        private void includeQuadAt(double t, double x1, double y1, double x, double y) {
+            if (t <= 0 || t >= 1) return;
+            double mt = 1 - t;
+            include(mt * mt * cx + 2 * mt * t * x1 + t * t * x,
+                    mt * mt * cy + 2 * mt * t * y1 + t * t * y);
+        }
+
+        /**
+         * Elliptical arc, converted to center parameterisation (SVG 1.1 F.6.5)
+         * so the axis extrema that fall inside the swept angle can be included.
+         */
+        private void arc(double rx, double ry, double rotation, boolean largeArc, boolean sweep,
+                         double x, double y) {
+            double x0 = cx, y0 = cy;
+            include(x, y);
+            cx = x;
+            cy = y;
+            ctrlX = x;
+            ctrlY = y;
+
+            rx = Math.abs(rx);
+            ry = Math.abs(ry);
+            if ((x0 == x && y0 == y) || rx == 0 || ry == 0) {
+                return; // Degenerate arcs are straight lines (or nothing)
+            }
+
+            double phi = Math.toRadians(rotation % 360);
+            double cosPhi = Math.cos(phi), sinPhi = Math.sin(phi);
+
+            double dx = (x0 - x) / 2, dy = (y0 - y) / 2;
+            double x1p = cosPhi * dx + sinPhi * dy;
+            double y1p = -sinPhi * dx + cosPhi * dy;
+
+            // Scale radii up if they are too small to span the endpoints
+            double lambda = (x1p * x1p) / (rx * rx) + (y1p * y1p) / (ry * ry);
+            if (lambda > 1) {
+                double scale = Math.sqrt(lambda);
+                rx *= scale;
+                ry *= scale;
+            }
+
+            double rx2 = rx * rx, ry2 = ry * ry;
+            double numerator = rx2 * ry2 - rx2 * y1p * y1p - ry2 * x1p * x1p;
+            double denominator = rx2 * y1p * y1p + ry2 * x1p * x1p;
+            double coefficient = Math.sqrt(Math.max(0, numerator / denominator));
+            if (largeArc == sweep) coefficient = -coefficient;
+
+            double cxp = coefficient * rx * y1p / ry;
+            double cyp = -coefficient * ry * x1p / rx;
+            double centerX = cosPhi * cxp - sinPhi * cyp + (x0 + x) / 2;
+            double centerY = sinPhi * cxp + cosPhi * cyp + (y0 + y) / 2;
+
+            double theta1 = Math.atan2((y1p - cyp) / ry, (x1p - cxp) / rx);
+            double theta2 = Math.atan2((-y1p - cyp) / ry, (-x1p - cxp) / rx);
+            double delta = theta2 - theta1;
+            if (sweep && delta < 0) delta += 2 * Math.PI;
+            if (!sweep && delta > 0) delta -= 2 * Math.PI;
+
+            // Angles where dx/dtheta = 0 and dy/dtheta = 0, plus their opposites
+            double thetaX = Math.atan2(-ry * sinPhi, rx * cosPhi);
+            double thetaY = Math.atan2(ry * cosPhi, rx * sinPhi);
+            double[] candidates = {thetaX, thetaX + Math.PI, thetaY, thetaY + Math.PI};
+
+            for (double theta : candidates) {
+                if (angleInSweep(theta, theta1, delta)) {
+                    double cosT = Math.cos(theta), sinT = Math.sin(theta);
+                    include(centerX + rx * cosPhi * cosT - ry * sinPhi * sinT,
+                            centerY + rx * sinPhi * cosT + ry * cosPhi * sinT);
+                }
+            }
+        }
+
+        private static boolean angleInSweep(double theta, double start, double delta) {
+            double twoPi = 2 * Math.PI;
+            double offset = delta >= 0 ? theta - start : start - theta;
+            offset = ((offset % twoPi) + twoPi) % twoPi;
+            return offset <= Math.abs(delta);
+        }
+
+        private void skipSeparators() {
+            while (pos < data.length()) {
+                char c = data.charAt(pos);
+                if (c == ',' || Character.isWhitespace(c)) {
+                    pos++;
+                } else {
+                    break;
+                }
+            }
+        }
+
+        /**
+         * Arc flags are single '0'/'1' characters and may be written without separators.
+         */
+        private boolean flag() {
+            skipSeparators();
+            if (pos >= data.length()) {
+                throw new IllegalArgumentException("missing arc flag at end of path");
+            }
+            char c = data.charAt(pos++);
+            if (c == '0') return false;
+            if (c == '1') return true;
+            throw new IllegalArgumentException("invalid arc flag '" + c + "' at " + (pos - 1));
+        }
+
+        private double number() {
+            skipSeparators();
+            int start = pos;
+            int length = data.length();
+
+            if (pos < length && (data.charAt(pos) == '+' || data.charAt(pos) == '-')) pos++;
+
+            boolean digits = false;
+            while (pos < length && Character.isDigit(data.charAt(pos))) { pos++; digits = true; }
+            if (pos < length && data.charAt(pos) == '.') {
+                pos++;
+                while (pos < length && Character.isDigit(data.charAt(pos))) { pos++; digits = true; }
+            }
+            if (!digits) {
+                throw new IllegalArgumentException("expected number at " + start + " in: " + data);
+            }
+
+            if (pos < length && (data.charAt(pos) == 'e' || data.charAt(pos) == 'E')) {
+                int mark = pos++;
+                if (pos < length && (data.charAt(pos) == '+' || data.charAt(pos) == '-')) pos++;
+                int exponentStart = pos;
+                while (pos < length && Character.isDigit(data.charAt(pos))) pos++;
+                if (pos == exponentStart) {
+                    pos = mark; // Not an exponent after all
+                }
+            }
+
+            return Double.parseDouble(data.substring(start, pos));
         }
     }
-}
\ No newline at end of file
+}
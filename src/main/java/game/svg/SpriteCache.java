@@ -0,0 +1,131 @@
+package game.svg;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelFormat;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.WritableImage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * On-disk cache of rasterised sprites.
+ * Each entry is a raw ARGB blob named after the sprite's content hash and
+ * target size, so editing the SVG simply produces new keys and stale entries
+ * are never read. Entries are read back through a memory-mapped buffer.
+ */
+public class SpriteCache {
+
+    private static final int MAGIC = 0x53505243; // "SPRC"
+    private static final int VERSION = 1;
+    private static final int HEADER_BYTES = 4 * Integer.BYTES;
+
+    private final Path directory;
+    private int hits;
+    private int misses;
+
+    public SpriteCache(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Load a cached sprite.
+     *
+     * @param contentHash Hash of the sprite's SVG content
+     * @param width Target width
+     * @param height Target height
+     * @return The cached image, or null if there is no valid entry
+     */
+    public Image load(String contentHash, double width, double height) {
+        Path file = entryPath(contentHash, width, height);
+        if (!Files.isRegularFile(file)) {
+            misses++;
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < HEADER_BYTES) {
+                misses++;
+                return null;
+            }
+
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            int magic = buffer.getInt();
+            int version = buffer.getInt();
+            int imageWidth = buffer.getInt();
+            int imageHeight = buffer.getInt();
+            if (magic != MAGIC || version != VERSION || imageWidth <= 0 || imageHeight <= 0 ||
+                size != HEADER_BYTES + (long) imageWidth * imageHeight * Integer.BYTES) {
+                misses++;
+                return null;
+            }
+
+            IntBuffer pixels = buffer.asIntBuffer();
+            WritableImage image = new WritableImage(imageWidth, imageHeight);
+            image.getPixelWriter().setPixels(0, 0, imageWidth, imageHeight,
+                PixelFormat.getIntArgbInstance(), pixels, imageWidth);
+
+            hits++;
+            return image;
+        } catch (IOException e) {
+            System.err.println("Failed to read cached sprite " + file + ": " + e.getMessage());
+            misses++;
+            return null;
+        }
+    }
+
+    /**
+     * Store a rasterised sprite. Failures are logged and otherwise ignored,
+     * the cache is only an optimisation.
+     */
+    public void store(String contentHash, double width, double height, Image image) {
+        int imageWidth = (int) image.getWidth();
+        int imageHeight = (int) image.getHeight();
+        PixelReader reader = image.getPixelReader();
+        if (reader == null || imageWidth <= 0 || imageHeight <= 0) {
+            return;
+        }
+
+        int[] argb = new int[imageWidth * imageHeight];
+        reader.getPixels(0, 0, imageWidth, imageHeight, PixelFormat.getIntArgbInstance(), argb, 0, imageWidth);
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + argb.length * Integer.BYTES)
+            .order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC).putInt(VERSION).putInt(imageWidth).putInt(imageHeight);
+        buffer.asIntBuffer().put(argb);
+
+        Path file = entryPath(contentHash, width, height);
+        try {
+            Files.createDirectories(directory);
+            // Write to a temporary file first so a crash never leaves a torn entry behind
+            Path temp = Files.createTempFile(directory, "sprite", ".tmp");
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            System.err.println("Failed to cache sprite " + file + ": " + e.getMessage());
+        }
+    }
+
+    private Path entryPath(String contentHash, double width, double height) {
+        return directory.resolve(contentHash + "_" + Math.round(width * 100) + "x" + Math.round(height * 100) + ".argb");
+    }
+
+    // Getters
+    public int getHits() { return hits; }
+    public int getMisses() { return misses; }
+}
@@ -3,7 +3,9 @@ package game.svg;
 import javafx.scene.image.Image;
 import game.Config;
 
+import java.nio.file.Paths;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 public class SpriteStore {
@@ -11,9 +13,11 @@ public class SpriteStore {
     private static SpriteStore instance;
     private final Map<String, Image> sprites;
     private final SvgAtlasExtractor extractor;
+    private final SpriteCache cache;
     
     private SpriteStore() {
         this.sprites = new HashMap<>();
+        this.cache = new SpriteCache(Paths.get(Config.SPRITE_CACHE_DIR));
         
         try {
             // Use the SVG file path from the prompt
@@ -35,29 +39,61 @@ public class SpriteStore {
     
     private void loadAllSprites() {
         int tileSize = Config.TILE_SIZE;
+        Map<String, SvgAtlasExtractor.SpriteSize> sizes = new LinkedHashMap<>();
         
-        // Load tile sprites
-        sprites.put("tile.grass", extractor.createSprite("tile.grass", tileSize, tileSize));
-        sprites.put("tile.dirt", extractor.createSprite("tile.dirt", tileSize, tileSize));
+        // Tile sprites
+        sizes.put("tile.grass", new SvgAtlasExtractor.SpriteSize(tileSize, tileSize));
+        sizes.put("tile.dirt", new SvgAtlasExtractor.SpriteSize(tileSize, tileSize));
         
-        // Load tower sprites
-        sprites.put("tower.fast", extractor.createSprite("tower.fast", tileSize, tileSize));
-        sprites.put("tower.heavy", extractor.createSprite("tower.heavy", tileSize, tileSize));
+        // Tower sprites
+        sizes.put("tower.fast", new SvgAtlasExtractor.SpriteSize(tileSize, tileSize));
+        sizes.put("tower.heavy", new SvgAtlasExtractor.SpriteSize(tileSize, tileSize));
         
-        // Load enemy sprites
-        sprites.put("enemy.soldier", extractor.createSprite("enemy.soldier", tileSize * 0.8, tileSize * 0.8));
-        sprites.put("enemy.tank", extractor.createSprite("enemy.tank", tileSize * 0.9, tileSize * 0.9));
-        sprites.put("enemy.plane", extractor.createSprite("enemy.plane", tileSize * 0.7, tileSize * 0.7));
+        // Enemy sprites
+        sizes.put("enemy.soldier", new SvgAtlasExtractor.SpriteSize(tileSize * 0.8, tileSize * 0.8));
+        sizes.put("enemy.tank", new SvgAtlasExtractor.SpriteSize(tileSize * 0.9, tileSize * 0.9));
+        sizes.put("enemy.plane", new SvgAtlasExtractor.SpriteSize(tileSize * 0.7, tileSize * 0.7));
         
-        // Load UI sprites
-        sprites.put("ui.wrench", extractor.createSprite("ui.wrench", tileSize * 0.4, tileSize * 0.4));
+        // UI sprites
+        sizes.put("ui.wrench", new SvgAtlasExtractor.SpriteSize(tileSize * 0.4, tileSize * 0.4));
         
-        // Load decoration sprites
-        sprites.put("decoration.rock", extractor.createSprite("decoration.rock", tileSize * 0.3, tileSize * 0.3));
-        sprites.put("decoration.bush", extractor.createSprite("decoration.bush", tileSize * 0.4, tileSize * 0.4));
+        // Decoration sprites
+        sizes.put("decoration.rock", new SvgAtlasExtractor.SpriteSize(tileSize * 0.3, tileSize * 0.3));
+        sizes.put("decoration.bush", new SvgAtlasExtractor.SpriteSize(tileSize * 0.4, tileSize * 0.4));
         
-        // Load projectile sprite
-        sprites.put("projectile", extractor.createSprite("projectile", 8, 8));
+        // Projectile sprite
+        sizes.put("projectile", new SvgAtlasExtractor.SpriteSize(8, 8));
+        
+        loadSprites(sizes);
+    }
+    
+    /**
+     * Take sprites from the disk cache where possible and rasterise the rest
+     * with a single snapshot, writing them back for the next launch.
+     */
+    private void loadSprites(Map<String, SvgAtlasExtractor.SpriteSize> sizes) {
+        Map<String, SvgAtlasExtractor.SpriteSize> missing = new LinkedHashMap<>();
+        
+        for (Map.Entry<String, SvgAtlasExtractor.SpriteSize> entry : sizes.entrySet()) {
+            SvgAtlasExtractor.SpriteSize size = entry.getValue();
+            Image cached = cache.load(extractor.getContentHash(entry.getKey()), size.width, size.height);
+            if (cached != null) {
+                sprites.put(entry.getKey(), cached);
+            } else {
+                missing.put(entry.getKey(), size);
+            }
+        }
+        
+        if (missing.isEmpty()) {
+            return;
+        }
+        
+        Map<String, Image> rendered = extractor.createSprites(missing);
+        for (Map.Entry<String, Image> entry : rendered.entrySet()) {
+            SvgAtlasExtractor.SpriteSize size = missing.get(entry.getKey());
+            cache.store(extractor.getContentHash(entry.getKey()), size.width, size.height, entry.getValue());
+            sprites.put(entry.getKey(), entry.getValue());
+        }
     }
     
     public Image getSprite(String spriteName) {
@@ -70,7 +106,7 @@ public class SpriteStore {
     
     public void preloadSprite(String spriteName, double width, double height) {
         if (!sprites.containsKey(spriteName)) {
-            sprites.put(spriteName, extractor.createSprite(spriteName, width, height));
+            loadSprites(Map.of(spriteName, new SvgAtlasExtractor.SpriteSize(width, height)));
         }
     }
     
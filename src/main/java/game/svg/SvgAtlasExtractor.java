@@ -1,32 +1,58 @@
 package game.svg;
 
+import javafx.geometry.Rectangle2D;
 import javafx.scene.Group;
-import javafx.scene.Scene;
 import javafx.scene.SnapshotParameters;
 import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
 import javafx.scene.image.WritableImage;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
+import javafx.scene.shape.Rectangle;
 import javafx.scene.shape.SVGPath;
-import javafx.stage.Stage;
+import javafx.scene.transform.Scale;
+import javafx.scene.transform.Translate;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
-import org.w3c.dom.Document;
-import org.w3c.dom.Element;
-import org.w3c.dom.Node;
-import org.w3c.dom.NodeList;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
-import java.io.File;
+import java.io.BufferedInputStream;
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
 public class SvgAtlasExtractor {
     
-    private final Document svgDocument;
-    private final Map<String, List<SvgElement>> spriteGroups;
+    // Design size of the fallback path data below
+    private static final double FALLBACK_SIZE = 64.0;
+    
+    // Spatial regions of the Kenney sheet that make up each sprite
+    private static final List<SpriteRegion> REGIONS = List.of(
+        new SpriteRegion("tile.grass", 0, 0, 100, 100),
+        new SpriteRegion("tile.dirt", 100, 0, 100, 100),
+        new SpriteRegion("tower.fast", 200, 0, 100, 100),
+        new SpriteRegion("tower.heavy", 300, 0, 100, 100),
+        new SpriteRegion("enemy.soldier", 400, 0, 100, 100),
+        new SpriteRegion("enemy.tank", 500, 0, 100, 100),
+        new SpriteRegion("enemy.plane", 600, 0, 100, 100),
+        new SpriteRegion("ui.wrench", 700, 0, 50, 50),
+        new SpriteRegion("decoration.rock", 800, 0, 50, 50),
+        new SpriteRegion("decoration.bush", 850, 0, 50, 50),
+        new SpriteRegion("projectile", 900, 0, 20, 20)
+    );
+    
+    private final Map<String, SpriteGroup> spriteGroups;
+    private final Map<String, String> contentHashes = new HashMap<>();
     
     public static class SvgElement {
         public final String pathData;
@@ -40,57 +66,105 @@ public class SvgAtlasExtractor {
         }
     }
     
-    public SvgAtlasExtractor(String svgFilePath) throws Exception {
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-        DocumentBuilder builder = factory.newDocumentBuilder();
-        this.svgDocument = builder.parse(new File(svgFilePath));
-        this.spriteGroups = new HashMap<>();
+    /**
+     * Target raster size of a sprite.
+     */
+    public static final class SpriteSize {
+        public final double width;
+        public final double height;
+        
+        public SpriteSize(double width, double height) {
+            this.width = width;
+            this.height = height;
+        }
+    }
+    
+    private static final class SpriteRegion {
+        final String name;
+        final double x, y, width, height;
+        
+        SpriteRegion(String name, double x, double y, double width, double height) {
+            this.name = name;
+            this.x = x;
+            this.y = y;
+            this.width = width;
+            this.height = height;
+        }
+        
+        boolean intersects(PathBounds bounds) {
+            return bounds.intersects(x, y, width, height);
+        }
+    }
+    
+    /**
+     * Paths collected for one sprite plus the source rectangle they are drawn in.
+     */
+    private static final class SpriteGroup {
+        final List<SvgElement> elements = new ArrayList<>();
+        final double originX, originY, sourceWidth, sourceHeight;
         
-        extractSprites();
+        SpriteGroup(double originX, double originY, double sourceWidth, double sourceHeight) {
+            this.originX = originX;
+            this.originY = originY;
+            this.sourceWidth = sourceWidth;
+            this.sourceHeight = sourceHeight;
+        }
     }
     
-    private void extractSprites() {
-        NodeList groups = svgDocument.getElementsByTagName("g");
-        
-        // Extract sprite groups by analyzing spatial regions
-        extractSpriteGroup("tile.grass", 0, 0, 100, 100);
-        extractSpriteGroup("tile.dirt", 100, 0, 100, 100);
-        extractSpriteGroup("tower.fast", 200, 0, 100, 100);
-        extractSpriteGroup("tower.heavy", 300, 0, 100, 100);
-        extractSpriteGroup("enemy.soldier", 400, 0, 100, 100);
-        extractSpriteGroup("enemy.tank", 500, 0, 100, 100);
-        extractSpriteGroup("enemy.plane", 600, 0, 100, 100);
-        extractSpriteGroup("ui.wrench", 700, 0, 50, 50);
-        extractSpriteGroup("decoration.rock", 800, 0, 50, 50);
-        extractSpriteGroup("decoration.bush", 850, 0, 50, 50);
-        extractSpriteGroup("projectile", 900, 0, 20, 20);
+    public SvgAtlasExtractor(String svgFilePath) throws Exception {
+        this.spriteGroups = new HashMap<>();
+        
+        try (InputStream in = new BufferedInputStream(new FileInputStream(svgFilePath))) {
+            extractSprites(in);
+        }
         
         // If specific sprites aren't found, create fallbacks
         createFallbackSprites();
     }
     
-    private void extractSpriteGroup(String spriteName, double x, double y, double width, double height) {
-        List<SvgElement> elements = new ArrayList<>();
-        NodeList paths = svgDocument.getElementsByTagName("path");
+    /**
+     * Single streaming pass over the document. Each path is measured once and
+     * kept only if its bounding box falls into one of the sprite regions, so
+     * memory grows with the sprites kept rather than with the document.
+     */
+    private void extractSprites(InputStream in) throws XMLStreamException {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
         
-        for (int i = 0; i < paths.getLength(); i++) {
-            Element pathElement = (Element) paths.item(i);
-            String pathData = pathElement.getAttribute("d");
-            String fill = pathElement.getAttribute("fill");
-            String transform = pathElement.getAttribute("transform");
-            
-            if (pathData != null && !pathData.isEmpty()) {
-                // For now, collect all paths - in a real implementation we'd
-                // parse the path data to check if it's within the bounding box
-                elements.add(new SvgElement(pathData, fill, transform));
+        XMLStreamReader reader = factory.createXMLStreamReader(in);
+        try {
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT || !"path".equals(reader.getLocalName())) {
+                    continue;
+                }
+                
+                String pathData = reader.getAttributeValue(null, "d");
+                if (pathData == null || pathData.isBlank()) {
+                    continue;
+                }
+                
+                PathBounds bounds = PathBounds.computePathBounds(pathData);
+                if (bounds == null) {
+                    continue;
+                }
                 
-                // Limit the number of elements per sprite for performance
-                if (elements.size() >= 5) break;
+                SvgElement element = null;
+                for (SpriteRegion region : REGIONS) {
+                    if (!region.intersects(bounds)) continue;
+                    
+                    if (element == null) {
+                        element = new SvgElement(pathData,
+                            reader.getAttributeValue(null, "fill"),
+                            reader.getAttributeValue(null, "transform"));
+                    }
+                    spriteGroups.computeIfAbsent(region.name,
+                        k -> new SpriteGroup(region.x, region.y, region.width, region.height))
+                        .elements.add(element);
+                }
             }
-        }
-        
-        if (!elements.isEmpty()) {
-            spriteGroups.put(spriteName, elements);
+        } finally {
+            reader.close();
         }
     }
     
@@ -135,11 +209,10 @@ public class SvgAtlasExtractor {
             String spriteName = entry.getKey();
             String pathData = entry.getValue();
             
-            if (!spriteGroups.containsKey(spriteName) || spriteGroups.get(spriteName).isEmpty()) {
-                List<SvgElement> fallbackElements = new ArrayList<>();
-                String fill = getFallbackColor(spriteName);
-                fallbackElements.add(new SvgElement(pathData, fill, null));
-                spriteGroups.put(spriteName, fallbackElements);
+            if (!hasSprite(spriteName)) {
+                SpriteGroup fallback = new SpriteGroup(0, 0, FALLBACK_SIZE, FALLBACK_SIZE);
+                fallback.elements.add(new SvgElement(pathData, getFallbackColor(spriteName), null));
+                spriteGroups.put(spriteName, fallback);
             }
         }
     }
@@ -159,14 +232,72 @@ public class SvgAtlasExtractor {
     }
     
     public Image createSprite(String spriteName, double width, double height) {
-        List<SvgElement> elements = spriteGroups.get(spriteName);
-        if (elements == null || elements.isEmpty()) {
-            return createSolidColorSprite(Color.MAGENTA, width, height); // Error indicator
+        return createSprites(Map.of(spriteName, new SpriteSize(width, height))).get(spriteName);
+    }
+    
+    /**
+     * Rasterise several sprites at once. Every sprite is laid out in its own
+     * cell of a single atlas group which is snapshotted once and then sliced,
+     * instead of paying for one snapshot per sprite.
+     *
+     * @param sizes target size per sprite name
+     * @return the rendered images, keyed like {@code sizes}
+     */
+    public Map<String, Image> createSprites(Map<String, SpriteSize> sizes) {
+        Map<String, Image> result = new LinkedHashMap<>();
+        if (sizes.isEmpty()) {
+            return result;
         }
         
+        Group atlas = new Group();
+        Map<String, int[]> cells = new LinkedHashMap<>();
+        int cursorX = 0;
+        int atlasHeight = 1;
+        
+        for (Map.Entry<String, SpriteSize> entry : sizes.entrySet()) {
+            int cellWidth = Math.max(1, (int) Math.ceil(entry.getValue().width));
+            int cellHeight = Math.max(1, (int) Math.ceil(entry.getValue().height));
+            
+            Group cell = new Group(buildSpriteNode(entry.getKey(), entry.getValue()));
+            cell.setClip(new Rectangle(0, 0, cellWidth, cellHeight));
+            cell.setTranslateX(cursorX);
+            atlas.getChildren().add(cell);
+            
+            cells.put(entry.getKey(), new int[]{cursorX, cellWidth, cellHeight});
+            cursorX += cellWidth + 1; // 1px gutter between cells
+            atlasHeight = Math.max(atlasHeight, cellHeight);
+        }
+        
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+        params.setViewport(new Rectangle2D(0, 0, cursorX, atlasHeight));
+        WritableImage atlasImage = atlas.snapshot(params, null);
+        PixelReader pixels = atlasImage.getPixelReader();
+        
+        for (Map.Entry<String, int[]> entry : cells.entrySet()) {
+            int[] cell = entry.getValue();
+            result.put(entry.getKey(), new WritableImage(pixels, cell[0], 0, cell[1], cell[2]));
+        }
+        return result;
+    }
+    
+    /**
+     * Build the scene node for one sprite, scaled so its source region fills
+     * the target size with the region's top-left corner at the origin.
+     */
+    private Group buildSpriteNode(String spriteName, SpriteSize size) {
+        SpriteGroup sprite = spriteGroups.get(spriteName);
         Group group = new Group();
         
-        for (SvgElement element : elements) {
+        if (sprite == null || sprite.elements.isEmpty()) {
+            // Error indicator
+            Rectangle rect = new Rectangle(0, 0, size.width, size.height);
+            rect.setFill(Color.MAGENTA);
+            group.getChildren().add(rect);
+            return group;
+        }
+        
+        for (SvgElement element : sprite.elements) {
             SVGPath svgPath = new SVGPath();
             svgPath.setContent(element.pathData);
             
@@ -183,16 +314,11 @@ public class SvgAtlasExtractor {
             group.getChildren().add(svgPath);
         }
         
-        // Scale the group to fit the desired size
-        group.setScaleX(width / 64.0);
-        group.setScaleY(height / 64.0);
-        
-        // Create snapshot
-        SnapshotParameters params = new SnapshotParameters();
-        params.setFill(Color.TRANSPARENT);
-        WritableImage image = group.snapshot(params, null);
-        
-        return image;
+        group.getTransforms().addAll(
+            new Scale(size.width / sprite.sourceWidth, size.height / sprite.sourceHeight),
+            new Translate(-sprite.originX, -sprite.originY)
+        );
+        return group;
     }
     
     private Paint parseColor(String colorString) {
@@ -214,19 +340,37 @@ public class SvgAtlasExtractor {
         }
     }
     
-    private Image createSolidColorSprite(Color color, double width, double height) {
-        Group group = new Group();
-        SVGPath rect = new SVGPath();
-        rect.setContent(String.format("M 0 0 L %.0f 0 L %.0f %.0f L 0 %.0f Z", width, width, height, height));
-        rect.setFill(color);
-        group.getChildren().add(rect);
-        
-        SnapshotParameters params = new SnapshotParameters();
-        params.setFill(Color.TRANSPARENT);
-        return group.snapshot(params, null);
+    /**
+     * Stable hash of everything that determines how a sprite renders: its
+     * path data, fills and source region. Any edit to the SVG that affects
+     * the sprite changes the hash.
+     */
+    public String getContentHash(String spriteName) {
+        return contentHashes.computeIfAbsent(spriteName, name -> {
+            MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new RuntimeException("SHA-256 not available", e);
+            }
+            
+            SpriteGroup sprite = spriteGroups.get(name);
+            if (sprite == null) {
+                digest.update(("missing:" + name).getBytes(StandardCharsets.UTF_8));
+            } else {
+                digest.update((sprite.originX + "," + sprite.originY + "," +
+                    sprite.sourceWidth + "," + sprite.sourceHeight + "\n").getBytes(StandardCharsets.UTF_8));
+                for (SvgElement element : sprite.elements) {
+                    digest.update((element.fill + "|" + element.transform + "|" + element.pathData + "\n")
+                        .getBytes(StandardCharsets.UTF_8));
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        });
     }
     
     public boolean hasSprite(String spriteName) {
-        return spriteGroups.containsKey(spriteName) && !spriteGroups.get(spriteName).isEmpty();
+        SpriteGroup group = spriteGroups.get(spriteName);
+        return group != null && !group.elements.isEmpty();
     }
-}
\ No newline at end of file
+}
@@ -144,7 +144,7 @@ public class BuildMenu extends VBox {
     
     private void buildCheapAA() {
         if (resourceManager.spendMoney(Config.AA_CHEAP_COST)) {
-            AA60 aa = new AA60();
+            AA60 aa = new AA60(gameLoop.getRandom().newAntiAirStream());
             gameLoop.addAntiAir(aa);
             hide();
         }
@@ -152,7 +152,7 @@ public class BuildMenu extends VBox {
     
     private void buildExpensiveAA() {
         if (resourceManager.spendMoney(Config.AA_EXPENSIVE_COST)) {
-            AA80 aa = new AA80();
+            AA80 aa = new AA80(gameLoop.getRandom().newAntiAirStream());
             gameLoop.addAntiAir(aa);
             hide();
         }
@@ -14,6 +14,7 @@ public class HudView {
     private Label moneyLabel;
     private Label waveLabel;
     private Label leakageLabel;
+    private Label allocationLabel;
     
     public HudView() {
         initializeUI();
@@ -37,7 +38,12 @@ public class HudView {
         leakageLabel.setTextFill(Color.GREEN);
         leakageLabel.setFont(Font.font("Arial", FontWeight.BOLD, 14));
         
-        root.getChildren().addAll(moneyLabel, waveLabel, leakageLabel);
+        // Debug: heap bytes allocated by the last update and render
+        allocationLabel = new Label("Alloc: -");
+        allocationLabel.setTextFill(Color.LIGHTGRAY);
+        allocationLabel.setFont(Font.font("Monospaced", 11));
+        
+        root.getChildren().addAll(moneyLabel, waveLabel, leakageLabel, allocationLabel);
     }
     
     public HBox getRoot() {
@@ -52,6 +58,11 @@ public class HudView {
         waveLabel.setText("Wave: " + currentWave + "/" + totalWaves);
     }
     
+    public void updateAllocation(long updateBytes, long renderBytes) {
+        allocationLabel.setText(String.format("Alloc: update %.1f KB, render %.1f KB",
+            updateBytes / 1024.0, renderBytes / 1024.0));
+    }
+    
     public void updateLeakage(double leakPercentage) {
         leakageLabel.setText(String.format("Leaked: %.1f%%", leakPercentage * 100));
         